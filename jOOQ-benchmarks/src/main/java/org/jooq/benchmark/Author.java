@@ -0,0 +1,87 @@
+/**
+ * Copyright (c) 2009-2013, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq.benchmark;
+
+import java.sql.Date;
+
+import org.jooq.TableField;
+import org.jooq.impl.SQLDataType;
+import org.jooq.impl.TableImpl;
+
+/**
+ * A sample table used by benchmarks.
+ *
+ * @author Lukas Eder
+ */
+public class Author extends TableImpl<AuthorRecord> {
+
+    /**
+     * Generated UID
+     */
+    private static final long serialVersionUID = -2219604738218637524L;
+
+    public static final Author                     AUTHOR        = new Author();
+
+    public final TableField<AuthorRecord, Integer> ID            = createField("ID", SQLDataType.INTEGER, this);
+    public final TableField<AuthorRecord, String>  FIRST_NAME    = createField("FIRST_NAME", SQLDataType.VARCHAR, this);
+    public final TableField<AuthorRecord, String>  LAST_NAME     = createField("LAST_NAME", SQLDataType.VARCHAR, this);
+    public final TableField<AuthorRecord, Date>    DATE_OF_BIRTH = createField("DATE_OF_BIRTH", SQLDataType.DATE, this);
+    public final TableField<AuthorRecord, Integer> YEAR_OF_BIRTH = createField("YEAR_OF_BIRTH", SQLDataType.INTEGER, this);
+    public final TableField<AuthorRecord, Boolean> ACTIVE        = createField("ACTIVE", SQLDataType.BOOLEAN, this);
+
+    public Author() {
+        this("AUTHOR", null);
+    }
+
+    private Author(String alias, Author aliased) {
+        super(alias, null, aliased);
+    }
+
+    
+    public Class<AuthorRecord> getRecordType() {
+        return AuthorRecord.class;
+    }
+
+    
+    public Author as(String alias) {
+        return new Author(alias, this);
+    }
+}
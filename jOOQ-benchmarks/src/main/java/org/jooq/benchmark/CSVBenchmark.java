@@ -0,0 +1,146 @@
+/**
+ * Copyright (c) 2009-2013, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq.benchmark;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jooq.DSLContext;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.impl.DSL;
+import org.jooq.tools.csv.CSVReader;
+import org.jooq.tools.csv.CSVTokenizer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks for CSV parsing through <code>CSVReader</code>,
+ * <code>CSVTokenizer</code> and <code>DSLContext.fetchFromCSV()</code>.
+ * <p>
+ * Every invocation parses (just under) 1 MB of CSV content produced by
+ * <code>Result.formatCSV()</code>, so the throughput score in ops/s reads as
+ * MB/s.
+ *
+ * @author Lukas Eder
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CSVBenchmark {
+
+    private static final int MB = 1024 * 1024;
+
+    private DSLContext       create;
+    private String           csv;
+
+    @Setup
+    public void setup() {
+        create = DSL.using(SQLDialect.H2);
+
+        String lines = Data.authors(create, 1000).formatCSV();
+        String header = lines.substring(0, lines.indexOf('\n') + 1);
+        String body = lines.substring(header.length());
+        StringBuilder sb = new StringBuilder(MB);
+
+        sb.append(header);
+        while (sb.length() < MB) {
+            sb.append(body);
+        }
+
+        // Cut off the content after the last complete line within 1 MB
+        sb.setLength(sb.lastIndexOf("\n", MB - 1) + 1);
+
+        csv = sb.toString();
+    }
+
+    @Benchmark
+    public List<String[]> csvReader() throws IOException {
+        CSVReader reader = new CSVReader(new StringReader(csv));
+
+        try {
+            return reader.readAll();
+        }
+        finally {
+            reader.close();
+        }
+    }
+
+    @Benchmark
+    public void csvTokenizer(Blackhole bh) throws IOException {
+        CSVTokenizer tokenizer = new CSVTokenizer(new StringReader(csv));
+
+        try {
+            int columns;
+
+            while ((columns = tokenizer.readRow()) >= 0) {
+                String[] row = tokenizer.row();
+
+                for (int i = 0; i < columns; i++) {
+                    bh.consume(row[i]);
+                }
+            }
+        }
+        finally {
+            tokenizer.close();
+        }
+    }
+
+    @Benchmark
+    public Result<?> fetchFromCSV() {
+        return create.fetchFromCSV(csv);
+    }
+}
@@ -0,0 +1,127 @@
+/**
+ * Copyright (c) 2009-2013, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq.benchmark;
+
+import static org.jooq.benchmark.Author.AUTHOR;
+
+import java.sql.Date;
+import java.sql.SQLException;
+
+import org.jooq.DSLContext;
+import org.jooq.Result;
+import org.jooq.Select;
+import org.jooq.SelectJoinStep;
+import org.jooq.tools.jdbc.MockDataProvider;
+import org.jooq.tools.jdbc.MockExecuteContext;
+import org.jooq.tools.jdbc.MockResult;
+
+/**
+ * Queries and data shared by several benchmarks.
+ *
+ * @author Lukas Eder
+ */
+final class Data {
+
+    /**
+     * A simple, single-table query.
+     */
+    static Select<?> simpleQuery(DSLContext create) {
+        return create.select(AUTHOR.ID, AUTHOR.FIRST_NAME, AUTHOR.LAST_NAME)
+                     .from(AUTHOR)
+                     .where(AUTHOR.ID.eq(1))
+                     .and(AUTHOR.LAST_NAME.like("A%"))
+                     .orderBy(AUTHOR.ID);
+    }
+
+    /**
+     * A query joining a given number of aliased tables.
+     */
+    static Select<?> joinQuery(DSLContext create, int tables) {
+        Author[] a = new Author[tables];
+        for (int i = 0; i < tables; i++) {
+            a[i] = AUTHOR.as("a" + i);
+        }
+
+        SelectJoinStep<?> select = create.select(a[0].ID, a[0].FIRST_NAME, a[tables - 1].LAST_NAME).from(a[0]);
+        for (int i = 1; i < tables; i++) {
+            select = select.join(a[i]).on(a[i].ID.eq(a[i - 1].ID)).and(a[i].ACTIVE.eq(true));
+        }
+
+        return select.where(a[0].YEAR_OF_BIRTH.gt(1900)).orderBy(a[0].ID);
+    }
+
+    /**
+     * A result with a given number of authors.
+     */
+    static Result<AuthorRecord> authors(DSLContext create, int rows) {
+        Result<AuthorRecord> result = create.newResult(AUTHOR);
+
+        for (int i = 0; i < rows; i++) {
+            AuthorRecord record = create.newRecord(AUTHOR);
+
+            record.setValue(AUTHOR.ID, i);
+            record.setValue(AUTHOR.FIRST_NAME, "First " + i);
+            record.setValue(AUTHOR.LAST_NAME, "Last \"" + i + "\"");
+            record.setValue(AUTHOR.DATE_OF_BIRTH, new Date(i * 86400000L));
+            record.setValue(AUTHOR.YEAR_OF_BIRTH, 1900 + i % 100);
+            record.setValue(AUTHOR.ACTIVE, i % 2 == 0 ? Boolean.TRUE : i % 3 == 0 ? null : Boolean.FALSE);
+
+            result.add(record);
+        }
+
+        return result;
+    }
+
+    /**
+     * A {@link MockDataProvider} that always returns the same result.
+     */
+    static MockDataProvider provider(final Result<?> result) {
+        return new MockDataProvider() {
+
+            
+            public MockResult[] execute(MockExecuteContext ctx) throws SQLException {
+                return new MockResult[] { new MockResult(result == null ? 0 : result.size(), result) };
+            }
+        };
+    }
+
+    private Data() {}
+}
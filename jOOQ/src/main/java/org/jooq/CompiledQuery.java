@@ -0,0 +1,174 @@
+/**
+ * Copyright (c) 2009-2013, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq;
+
+import java.util.List;
+
+import org.jooq.exception.DataAccessException;
+import org.jooq.exception.DataTypeException;
+import org.jooq.exception.InvalidResultException;
+
+/**
+ * A compiled {@link ResultQuery}.
+ * <p>
+ * A compiled query holds the SQL string that was rendered from a
+ * {@link ResultQuery} at compile time, as well as the bind value slots of that
+ * SQL string. It is immutable and thread-safe, and can thus be shared across
+ * threads and executed repeatedly, without rendering the original
+ * {@link ResultQuery} or extracting its {@link Param}'s again:
+ * <code><pre>
+ * // Compile a query once...
+ * CompiledQuery&lt;BookRecord> query = create.compile(
+ *     create.selectFrom(BOOK).where(BOOK.ID.equal((Integer) null)));
+ *
+ * // ... and execute it many times with new bind values
+ * BookRecord book = query.bind(1, 42).fetchOne();
+ * </pre></code>
+ * <p>
+ * Every execution obtains a {@link java.sql.Connection} from the
+ * {@link Configuration}'s {@link ConnectionProvider} and prepares a new
+ * statement on it. As the SQL string is always the same, JDBC drivers and
+ * databases can efficiently cache the statement and its execution plan.
+ * Compiled queries are always executed as prepared statements, regardless of
+ * the {@link org.jooq.conf.Settings#getStatementType()} and
+ * {@link org.jooq.conf.Settings#getParamType()} settings.
+ *
+ * @param <R> The record type
+ * @author Lukas Eder
+ * @see DSLContext#compile(ResultQuery)
+ */
+public interface CompiledQuery<R extends Record> {
+
+    /**
+     * The compiled SQL string.
+     */
+    String getSQL();
+
+    /**
+     * The parameter names of this compiled query.
+     * <p>
+     * These are the {@link Param#getParamName()} for named parameters, or the
+     * one-based index in this list for unnamed ones. Inlined parameters are
+     * part of the compiled SQL string and cannot be bound anew. They are not
+     * contained in this list.
+     */
+    List<String> getParamNames();
+
+    /**
+     * The current bind values of this compiled query, in the order of
+     * {@link #getParamNames()}.
+     */
+    List<Object> getBindValues();
+
+    /**
+     * Create a new compiled query with a new bind value.
+     * <p>
+     * This does not modify this compiled query. The value is converted to the
+     * parameter's data type.
+     *
+     * @param index The one-based parameter index, as in
+     *            {@link #getParamNames()}
+     * @param value The new bind value
+     * @throws IllegalArgumentException if there is no parameter at the given
+     *             index
+     * @throws DataTypeException if <code>value</code> cannot be converted into
+     *             the parameter's data type
+     * @see Query#bind(int, Object)
+     */
+    CompiledQuery<R> bind(int index, Object value) throws IllegalArgumentException, DataTypeException;
+
+    /**
+     * Create a new compiled query with a new bind value.
+     * <p>
+     * This does not modify this compiled query. The value is converted to the
+     * parameter's data type.
+     *
+     * @param param The parameter name or its one-based index, as in
+     *            {@link #getParamNames()}
+     * @param value The new bind value
+     * @throws IllegalArgumentException if there is no parameter with the given
+     *             name
+     * @throws DataTypeException if <code>value</code> cannot be converted into
+     *             the parameter's data type
+     * @see Query#bind(String, Object)
+     */
+    CompiledQuery<R> bind(String param, Object value) throws IllegalArgumentException, DataTypeException;
+
+    /**
+     * Create a new compiled query with new bind values for all parameters.
+     * <p>
+     * This does not modify this compiled query.
+     *
+     * @param values The new bind values, in the order of
+     *            {@link #getParamNames()}
+     * @throws IllegalArgumentException if the number of values does not match
+     *             the number of parameters
+     * @throws DataTypeException if a value cannot be converted into its
+     *             parameter's data type
+     */
+    CompiledQuery<R> bindValues(Object... values) throws IllegalArgumentException, DataTypeException;
+
+    /**
+     * Execute this compiled query and return the resulting records.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     * @see ResultQuery#fetch()
+     */
+    Result<R> fetch() throws DataAccessException;
+
+    /**
+     * Execute this compiled query and return the resulting record.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     * @throws InvalidResultException if the query returned more than one record
+     * @see ResultQuery#fetchOne()
+     */
+    R fetchOne() throws DataAccessException, InvalidResultException;
+
+    /**
+     * Execute this compiled query and return a cursor to lazily fetch the
+     * resulting records.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     * @see ResultQuery#fetchLazy()
+     */
+    Cursor<R> fetchLazy() throws DataAccessException;
+}
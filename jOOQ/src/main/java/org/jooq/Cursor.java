@@ -40,6 +40,10 @@
  */
 package org.jooq;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.Statement;
@@ -288,6 +292,52 @@ public interface Cursor<R extends Record> extends Iterable<R> {
      */
     <Z extends Record> Result<Z> fetchInto(Table<Z> table) throws DataAccessException, MappingException;
 
+    /**
+     * Fetch records on a background thread, while client code processes
+     * previously fetched records.
+     * <p>
+     * Subsequent records are read from the underlying {@link ResultSet} and
+     * materialised by a dedicated daemon thread. They are handed over to the
+     * consumer through a bounded buffer, which blocks the background thread
+     * once it holds <code>size</code> records. This allows for overlapping
+     * JDBC network round trips with record processing.
+     * <p>
+     * Prefetching has the following implications:
+     * <ul>
+     * <li>{@link ExecuteListener#recordStart(ExecuteContext)} and
+     * {@link ExecuteListener#recordEnd(ExecuteContext)} events as well as
+     * {@link RecordListener} events are fired on the background thread.</li>
+     * <li>The underlying {@link ResultSet} is closed on the consuming thread,
+     * once client code has consumed the last record, or when it calls
+     * {@link #close()}. This includes the
+     * {@link ExecuteListener#fetchEnd(ExecuteContext)} and
+     * {@link ExecuteListener#end(ExecuteContext)} events, and releasing the
+     * connection to the {@link ConnectionProvider}, which may thus be bound to
+     * the consuming thread.</li>
+     * <li>Exceptions raised while fetching are thrown to client code once it
+     * has consumed all records prefetched before the exception.</li>
+     * <li>{@link #close()} stops the background thread, discards prefetched
+     * records and waits for a record that is currently being fetched, before
+     * closing the underlying resources.</li>
+     * <li>The {@link #resultSet()} must not be accessed by client code while
+     * prefetching.</li>
+     * <li>The JDBC {@link Connection} that produced this cursor is used by the
+     * background thread. It must not be used by client code for anything else
+     * until all records are consumed or the cursor is closed, as JDBC
+     * connections are generally not safe for concurrent use.</li>
+     * </ul>
+     * <p>
+     * Client code is responsible for closing the cursor, unless all records
+     * are consumed. Otherwise, the background thread may block indefinitely.
+     *
+     * @param size The maximum number of prefetched records. If this is
+     *            <code>0</code> or negative, records are not prefetched.
+     * @return This cursor
+     * @throws IllegalStateException If records have already been fetched from
+     *             this cursor.
+     */
+    Cursor<R> prefetch(int size) throws IllegalStateException;
+
     /**
      * Explicitly close the underlying {@link PreparedStatement} and
      * {@link ResultSet}.
@@ -325,4 +375,76 @@ public interface Cursor<R extends Record> extends Iterable<R> {
      *         for instance when the <code>Cursor</code> is closed.
      */
     ResultSet resultSet();
+
+    /**
+     * Stream the remaining records of this cursor as CSV into a {@link Writer}.
+     * <p>
+     * This is the same as calling <code>exportCSV(writer, ',', "")</code>
+     *
+     * @param writer The writer to write CSV content to. It is flushed, but
+     *            not closed.
+     * @throws IOException if something went wrong writing CSV content
+     * @throws DataAccessException if something went wrong fetching records
+     * @see Result#formatCSV()
+     */
+    void exportCSV(Writer writer) throws IOException, DataAccessException;
+
+    /**
+     * Stream the remaining records of this cursor as CSV into a {@link Writer}.
+     * <p>
+     * This is the same as calling <code>exportCSV(writer, delimiter, "")</code>
+     *
+     * @param writer The writer to write CSV content to. It is flushed, but
+     *            not closed.
+     * @param delimiter The delimiter to use between records
+     * @throws IOException if something went wrong writing CSV content
+     * @throws DataAccessException if something went wrong fetching records
+     * @see Result#formatCSV(char)
+     */
+    void exportCSV(Writer writer, char delimiter) throws IOException, DataAccessException;
+
+    /**
+     * Stream the remaining records of this cursor as CSV into a {@link Writer}.
+     * <p>
+     * Records are read from the underlying {@link ResultSet} one at a time and
+     * formatted directly into the <code>writer</code>, producing the same
+     * output as {@link Result#formatCSV(char, String)}, without loading the
+     * complete result into memory.
+     *
+     * @param writer The writer to write CSV content to. It is flushed, but
+     *            not closed.
+     * @param delimiter The delimiter to use between records
+     * @param nullString A special string for encoding <code>NULL</code> values.
+     * @throws IOException if something went wrong writing CSV content
+     * @throws DataAccessException if something went wrong fetching records
+     * @see Result#formatCSV(char, String)
+     */
+    void exportCSV(Writer writer, char delimiter, String nullString) throws IOException, DataAccessException;
+
+    /**
+     * Stream the remaining records of this cursor as JSON into a {@link Writer}.
+     * <p>
+     * Records are read from the underlying {@link ResultSet} one at a time and
+     * formatted directly into the <code>writer</code>, producing the same
+     * output as {@link Result#formatJSON()}, without loading the complete
+     * result into memory.
+     *
+     * @param writer The writer to write JSON content to. It is flushed, but
+     *            not closed.
+     * @throws IOException if something went wrong writing JSON content
+     * @throws DataAccessException if something went wrong fetching records
+     * @see Result#formatJSON()
+     */
+    void exportJSON(Writer writer) throws IOException, DataAccessException;
+
+    /**
+     * Stream the remaining records of this cursor as UTF-8 encoded JSON into an {@link OutputStream}.
+     *
+     * @param stream The stream to write JSON content to. It is flushed, but
+     *            not closed.
+     * @throws IOException if something went wrong writing JSON content
+     * @throws DataAccessException if something went wrong fetching records
+     * @see #exportJSON(Writer)
+     */
+    void exportJSON(OutputStream stream) throws IOException, DataAccessException;
 }
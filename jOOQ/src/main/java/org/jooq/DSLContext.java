@@ -158,6 +158,11 @@ public interface DSLContext {
      * <p>
      * This method returns a wrapper type that gives access to your JDBC
      * connection's database meta data.
+     * <p>
+     * If {@link org.jooq.conf.Settings#getMetaCacheTTL()} is set to a positive
+     * value, the same instance is returned on each call, caching meta data
+     * until it expires. Otherwise, a new instance is returned, caching meta
+     * data for its own lifetime.
      */
     Meta meta();
 
@@ -4477,6 +4482,77 @@ public interface DSLContext {
     @Support
     Batch batchDelete(Collection<? extends UpdatableRecord<?>> records);
 
+    /**
+     * Execute a set of stored procedure or function calls in batch mode (with
+     * bind values).
+     * <p>
+     * Subsequent calls that generate the same SQL (i.e. calls to the same
+     * routine with the same set of defaulted parameters) share a single
+     * {@link java.sql.CallableStatement}, which is prepared only once. Calls
+     * that have neither a return value nor <code>OUT</code> parameters are
+     * sent to the database using {@link Statement#executeBatch()}. Otherwise,
+     * the shared statement is executed once per call, and the results are
+     * fetched into each routine, where they can be accessed as after
+     * {@link Routine#execute()}: <code><pre>
+     * List&lt;MyProcedure> calls = new ArrayList&lt;MyProcedure>();
+     * for (Input input : inputs) {
+     *     MyProcedure call = new MyProcedure();
+     *     call.setInValue(input.getValue());
+     *     calls.add(call);
+     * }
+     *
+     * create.batchCall(calls).execute();
+     * </pre></code>
+     * <p>
+     * Routines that are not executed as <code>CallableStatement</code> in the
+     * configured {@link SQLDialect} (e.g. functions in {@link SQLDialect#H2})
+     * are executed one by one, through {@link Routine#execute(Configuration)}.
+     *
+     * @return The batch operation. Its {@link Batch#execute()} method returns
+     *         the update counts reported by the JDBC batch, or
+     *         <code>0</code> for each call executed individually.
+     * @see Statement#executeBatch()
+     */
+    @Support
+    Batch batchCall(Routine<?>... routines);
+
+    /**
+     * Execute a set of stored procedure or function calls in batch mode (with
+     * bind values).
+     *
+     * @see #batchCall(Routine...)
+     * @see Statement#executeBatch()
+     */
+    @Support
+    Batch batchCall(Collection<? extends Routine<?>> routines);
+
+    // -------------------------------------------------------------------------
+    // XXX Pipelined query execution
+    // -------------------------------------------------------------------------
+
+    /**
+     * Create a pipeline of several queries, to be executed in a single round
+     * trip to the database.
+     * <p>
+     * Unlike {@link #batch(Query...)}, a pipeline can contain any mix of
+     * {@link Query} and {@link ResultQuery} objects, including their bind
+     * values, and returns the results of every {@link ResultQuery}.
+     *
+     * @see Pipeline
+     */
+    @Support
+    Pipeline pipeline(Query... queries);
+
+    /**
+     * Create a pipeline of several queries, to be executed in a single round
+     * trip to the database.
+     *
+     * @see #pipeline(Query...)
+     * @see Pipeline
+     */
+    @Support
+    Pipeline pipeline(Collection<? extends Query> queries);
+
     // -------------------------------------------------------------------------
     // XXX DDL Statements
     // -------------------------------------------------------------------------
@@ -4915,6 +4991,17 @@ public interface DSLContext {
      */
     <R extends Record> Result<R> newResult(Table<R> table);
 
+    /**
+     * Create a new empty {@link Result}.
+     * <p>
+     * The result is attached to this {@link Configuration} by default. This
+     * result can be used as a container for records.
+     *
+     * @param fields The fields defining the <code>Record</code> type
+     * @return The new result
+     */
+    Result<Record> newResult(Field<?>... fields);
+
     // -------------------------------------------------------------------------
     // XXX Executing queries
     // -------------------------------------------------------------------------
@@ -4964,6 +5051,24 @@ public interface DSLContext {
      */
     <R extends Record> R fetchOne(ResultQuery<R> query) throws DataAccessException, InvalidResultException;
 
+    /**
+     * Compile a {@link ResultQuery} in the context of this executor.
+     * <p>
+     * The query is rendered and its bind values are extracted once. The
+     * resulting {@link CompiledQuery} is immutable and thread-safe, and can be
+     * executed many times with new bind values, without rendering the query or
+     * extracting its bind values again. Subsequent modifications to
+     * <code>query</code> are not reflected in the compiled query.
+     *
+     * @param query The query to compile
+     * @return The compiled query
+     * @throws IllegalArgumentException if the query has more bind values than
+     *             supported by this executor's dialect, such that they would
+     *             have to be inlined
+     * @see CompiledQuery
+     */
+    <R extends Record> CompiledQuery<R> compile(ResultQuery<R> query) throws IllegalArgumentException;
+
     /**
      * Execute a {@link Select} query in the context of this executor and return
      * a <code>COUNT(*)</code> value.
@@ -51,6 +51,7 @@ import org.jooq.conf.Settings;
 import org.jooq.conf.StatementType;
 import org.jooq.impl.DSL;
 import org.jooq.impl.DefaultExecuteListener;
+import org.jooq.tools.AsyncLoggerListener;
 import org.jooq.tools.LoggerListener;
 import org.jooq.tools.StopWatchListener;
 
@@ -262,7 +263,9 @@ import org.jooq.tools.StopWatchListener;
  * <p>
  * If nothing is specified, the default is to use {@link LoggerListener} and
  * {@link StopWatchListener} as the only event listeners, as configured in
- * {@link Settings#isExecuteLogging()}
+ * {@link Settings#isExecuteLogging()}. With
+ * {@link Settings#isExecuteLoggingAsync()}, an {@link AsyncLoggerListener} is
+ * used instead.
  *
  * @author Lukas Eder
  */
@@ -40,16 +40,61 @@
  */
 package org.jooq;
 
+import java.util.Collection;
+
 /**
  * The <code>Loader</code> API is used for configuring data loads.
  * <p>
  * The step in constructing the {@link Loader} object where you can set the
- * mandatory XML loader options.
+ * optional XML loader options.
+ * <p>
+ * XML data is expected in the format produced by {@link Result#formatXML()},
+ * as specified by the <code>jooq-export</code> XSD:
+ *
+ * <pre><code>
+ * &lt;result xmlns="http://www.jooq.org/xsd/jooq-export-2.6.0.xsd"&gt;
+ *   &lt;fields&gt;
+ *     &lt;field name="ID" type="INTEGER"/&gt;
+ *     &lt;field name="TITLE" type="VARCHAR"/&gt;
+ *   &lt;/fields&gt;
+ *   &lt;records&gt;
+ *     &lt;record&gt;
+ *       &lt;value field="ID"&gt;1&lt;/value&gt;
+ *       &lt;value field="TITLE"&gt;1984&lt;/value&gt;
+ *     &lt;/record&gt;
+ *   &lt;/records&gt;
+ * &lt;/result&gt;
+ * </code></pre>
+ * <p>
+ * The data is read in a streaming fashion, one record at a time. Empty
+ * <code>&lt;value/&gt;</code> elements are loaded as <code>NULL</code>.
  *
  * @author Lukas Eder
  */
-public interface LoaderXMLStep<R extends TableRecord<R>> {
+public interface LoaderXMLStep<R extends TableRecord<R>> extends LoaderLoadStep<R> {
 
-    // [...] This API is not yet defined
+    /**
+     * Specify the the fields to be loaded into the table in the correct order.
+     * The XML field at index <code>i</code> of the <code>&lt;fields/&gt;</code>
+     * element is inserted into the table field at index <code>i</code>. If
+     * <code>fields[i] == null</code>, then the XML field is skipped.
+     * <p>
+     * By default, XML fields are inserted into table fields of the same name,
+     * and skipped if there is no such table field.
+     */
+    @Support
+    LoaderXMLStep<R> fields(Field<?>... fields);
 
+    /**
+     * Specify the the fields to be loaded into the table in the correct order.
+     * The XML field at index <code>i</code> of the <code>&lt;fields/&gt;</code>
+     * element is inserted into the table field at index <code>i</code>. If
+     * <code>new ArrayList(fields).get(i) == null</code>, then the XML field is
+     * skipped.
+     * <p>
+     * By default, XML fields are inserted into table fields of the same name,
+     * and skipped if there is no such table field.
+     */
+    @Support
+    LoaderXMLStep<R> fields(Collection<? extends Field<?>> fields);
 }
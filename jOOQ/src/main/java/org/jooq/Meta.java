@@ -61,6 +61,11 @@ import org.jooq.exception.DataAccessException;
  * objects, not JDBC {@link ResultSet} objects with hard-to-remember API
  * constraints</li>
  * </ol>
+ * <p>
+ * Meta data is cached by <code>Meta</code> objects. The lifetime of cached meta
+ * data is governed by {@link org.jooq.conf.Settings#getMetaCacheTTL()}. Cached
+ * meta data can be discarded explicitly using {@link #invalidate()} and
+ * {@link #invalidate(Schema)}.
  *
  * @author Lukas Eder
  */
@@ -107,4 +112,24 @@ public interface Meta {
      */
     @Support
     List<UniqueKey<?>> getPrimaryKeys() throws DataAccessException;
+
+    /**
+     * Invalidate all cached meta data.
+     * <p>
+     * Meta data is cached according to
+     * {@link org.jooq.conf.Settings#getMetaCacheTTL()}. Subsequent calls to
+     * this <code>Meta</code> object will fetch fresh meta data from the
+     * underlying {@link DatabaseMetaData}.
+     */
+    void invalidate();
+
+    /**
+     * Invalidate cached meta data of a schema.
+     * <p>
+     * This invalidates the schema's tables, columns, and primary keys, as well
+     * as all cached lists of schemas.
+     *
+     * @see #invalidate()
+     */
+    void invalidate(Schema schema);
 }
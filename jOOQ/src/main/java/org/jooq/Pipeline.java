@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) 2009-2013, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq;
+
+import java.io.Serializable;
+import java.sql.Statement;
+
+import org.jooq.exception.DataAccessException;
+
+/**
+ * A pipeline of several heterogeneous queries, which are executed in a single
+ * round trip to the database, where this is supported.
+ * <p>
+ * An example: <code><pre>
+ * ResultQuery&lt;BookRecord> books = create.selectFrom(BOOK);
+ * ResultQuery&lt;AuthorRecord> authors = create.selectFrom(AUTHOR);
+ * Query update = create.update(STATS).set(STATS.HITS, STATS.HITS.add(1));
+ *
+ * PipelineResult result = create.pipeline(books, authors, update).execute();
+ *
+ * Result&lt;BookRecord> b = result.get(books);
+ * Result&lt;AuthorRecord> a = result.get(authors);
+ * int rows = result.rows(update);
+ * </pre></code>
+ * <p>
+ * In {@link SQLDialect#MARIADB}, {@link SQLDialect#MYSQL} and
+ * {@link SQLDialect#POSTGRES}, all queries are concatenated into a single SQL
+ * string with semi-colons. They are executed as a single statement, and their
+ * results are retrieved using {@link Statement#getMoreResults()}. Note that
+ * MySQL and MariaDB JDBC drivers require the
+ * <code>allowMultiQueries=true</code> connection property for this. In all
+ * other dialects, queries are executed one after the other.
+ *
+ * @author Lukas Eder
+ * @see DSLContext#pipeline(Query...)
+ */
+public interface Pipeline extends Serializable {
+
+    /**
+     * Execute the pipeline.
+     *
+     * @throws DataAccessException if something went wrong executing the query
+     */
+    PipelineResult execute() throws DataAccessException;
+
+    /**
+     * Get the number of queries in this pipeline.
+     */
+    int size();
+}
@@ -0,0 +1,78 @@
+/**
+ * Copyright (c) 2009-2013, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq;
+
+/**
+ * The results of an executed {@link Pipeline}.
+ *
+ * @author Lukas Eder
+ * @see Pipeline#execute()
+ */
+public interface PipelineResult {
+
+    /**
+     * Get the result of a {@link ResultQuery} from the pipeline.
+     *
+     * @param query The query, as passed to the pipeline
+     * @return The query's result. This is never <code>null</code>, but may be
+     *         empty, if the query did not produce any result set.
+     * @throws IllegalArgumentException If the query is not part of the
+     *             pipeline
+     */
+    <R extends Record> Result<R> get(ResultQuery<R> query) throws IllegalArgumentException;
+
+    /**
+     * Get the number of rows affected or fetched by a {@link Query} from the
+     * pipeline.
+     *
+     * @param query The query, as passed to the pipeline
+     * @return The number of affected rows, or the size of the fetched result
+     *         for a {@link ResultQuery}
+     * @throws IllegalArgumentException If the query is not part of the
+     *             pipeline
+     */
+    int rows(Query query) throws IllegalArgumentException;
+
+    /**
+     * Get the number of queries in the pipeline.
+     */
+    int size();
+}
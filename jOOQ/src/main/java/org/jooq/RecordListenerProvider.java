@@ -66,7 +66,10 @@ public interface RecordListenerProvider {
      * <p>
      * A <code>RecordListener</code> shall be provided exactly once per
      * <code>UpdatableRecord</code> manipulation, i.e. per
-     * <code>RecordContext</code>.
+     * <code>RecordContext</code>. Records that are loaded through a
+     * {@link Cursor} (including eagerly fetched {@link Result}s) share the same
+     * <code>RecordListener</code> instances, which are provided only once per
+     * cursor.
      *
      * @return An <code>RecordListener</code> instance.
      * @see RecordListener
@@ -0,0 +1,235 @@
+/**
+ * Copyright (c) 2009-2013, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq;
+
+import static org.jooq.tools.StringUtils.isBlank;
+
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.jooq.conf.MappedSchema;
+import org.jooq.conf.MappedTable;
+import org.jooq.conf.RenderMapping;
+
+/**
+ * An immutable index of a {@link RenderMapping}'s schema and table renames.
+ * <p>
+ * Multi-tenant applications typically keep one {@link RenderMapping} per
+ * tenant and create a new {@link Configuration} per request through
+ * <code>derive(Settings)</code>. As {@link org.jooq.conf.Settings#clone()} is
+ * shallow, all those configurations share the tenant's
+ * <code>RenderMapping</code> instance. This index is built once per such
+ * instance and shared by all {@link SchemaMapping} objects referencing it, such
+ * that switching tenants neither rebuilds the mapping tables, nor re-creates
+ * the {@link RenamedSchema} and {@link RenamedTable} substitutes. All lookups
+ * are lock-free.
+ * <p>
+ * A <code>RenderMapping</code> should thus not be modified once it has been
+ * used for rendering. Modifications made through {@link SchemaMapping}
+ * invalidate the index for all <code>SchemaMapping</code> objects holding it.
+ *
+ * @author Lukas Eder
+ */
+class RenderMappingIndex {
+
+    /**
+     * The indexes per <code>RenderMapping</code> instance.
+     * <code>RenderMapping</code> doesn't override {@link Object#equals(Object)},
+     * so this is effectively an identity map.
+     */
+    private static final Map<RenderMapping, RenderMappingIndex> INDEXES = Collections.synchronizedMap(new WeakHashMap<RenderMapping, RenderMappingIndex>());
+
+    /**
+     * The indexed mapping, referenced weakly for {@link #INDEXES} to be able
+     * to discard it.
+     */
+    private final WeakReference<RenderMapping>                  mapping;
+
+    /**
+     * Input schema name -> output schema name, or <code>null</code> for self
+     * and void mappings.
+     */
+    private final Map<String, String>                           schemata;
+
+    /**
+     * Input schema and table name -> output table name, or <code>null</code>
+     * for self and void mappings.
+     */
+    private final Map<String, String>                           tables;
+
+    /**
+     * The lazily created substitutes, shared by all users of this index.
+     */
+    private final ConcurrentMap<String, Schema>                 mappedSchemata;
+    private final ConcurrentMap<String, Table<?>>               mappedTables;
+
+    /**
+     * Whether this index has been discarded after a modification of its
+     * mapping. Holders of this index check this flag on every access.
+     */
+    private volatile boolean                                    invalidated;
+
+    /**
+     * Get the shared index for a <code>RenderMapping</code>.
+     */
+    static RenderMappingIndex of(RenderMapping mapping) {
+        RenderMappingIndex result = INDEXES.get(mapping);
+
+        if (result == null) {
+            result = new RenderMappingIndex(mapping);
+            INDEXES.put(mapping, result);
+        }
+
+        return result;
+    }
+
+    /**
+     * Discard the shared index for a <code>RenderMapping</code> after it has
+     * been modified.
+     */
+    static void invalidate(RenderMapping mapping) {
+        RenderMappingIndex index = INDEXES.remove(mapping);
+
+        if (index != null) {
+            index.invalidated = true;
+        }
+    }
+
+    private RenderMappingIndex(RenderMapping mapping) {
+        this.mapping = new WeakReference<RenderMapping>(mapping);
+        this.schemata = new HashMap<String, String>();
+        this.tables = new HashMap<String, String>();
+        this.mappedSchemata = new ConcurrentHashMap<String, Schema>();
+        this.mappedTables = new ConcurrentHashMap<String, Table<?>>();
+
+        // The first matching MappedSchema or MappedTable wins, as in the
+        // previous, lazy lookup
+        for (MappedSchema s : mapping.getSchemata()) {
+            String input = s.getInput();
+
+            if (input != null) {
+                if (!schemata.containsKey(input)) {
+                    schemata.put(input, renamed(input, s.getOutput()));
+                }
+
+                for (MappedTable t : s.getTables()) {
+                    if (t.getInput() != null) {
+                        String key = key(input, t.getInput());
+
+                        if (!tables.containsKey(key)) {
+                            tables.put(key, renamed(t.getInput(), t.getOutput()));
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Whether this index was built for a given <code>RenderMapping</code>, and
+     * is still valid for it.
+     */
+    boolean indexes(RenderMapping m) {
+        return !invalidated && mapping.get() == m;
+    }
+
+    /**
+     * Ignore self-mappings and void-mappings
+     */
+    private static String renamed(String input, String output) {
+        return isBlank(output) || output.equals(input) ? null : output;
+    }
+
+    private static String key(String schemaName, String tableName) {
+        return schemaName + "." + tableName;
+    }
+
+    /**
+     * Apply the mapping to a schema with a non-empty name.
+     */
+    Schema map(Schema schema) {
+        String schemaName = schema.getName();
+        Schema result = mappedSchemata.get(schemaName);
+
+        if (result == null) {
+            String output = schemata.get(schemaName);
+            result = (output == null) ? schema : new RenamedSchema(schema, output);
+
+            Schema existing = mappedSchemata.putIfAbsent(schemaName, result);
+            if (existing != null) {
+                result = existing;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Apply the mapping to a table.
+     */
+    @SuppressWarnings("unchecked")
+    <R extends Record> Table<R> map(Table<R> table) {
+        Schema schema = table.getSchema();
+
+        // [#1189] Schema can be null in SQLite
+        // [#2089] DefaultSchema have empty schema names
+        String schemaName = (schema == null) ? "" : schema.getName();
+        String key = key(schemaName, table.getName());
+        Table<R> result = (Table<R>) mappedTables.get(key);
+
+        if (result == null) {
+            String output = tables.get(key);
+            result = (output == null) ? table : new RenamedTable<R>(table, output);
+
+            Table<?> existing = mappedTables.putIfAbsent(key, result);
+            if (existing != null) {
+                result = (Table<R>) existing;
+            }
+        }
+
+        return result;
+    }
+}
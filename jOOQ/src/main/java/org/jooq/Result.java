@@ -1076,6 +1076,10 @@ public interface Result<R extends Record> extends List<R>, Attachable {
      * literature to learn more about potential side-effects of string
      * interning.
      * <p>
+     * Instead of {@link String#intern()}, values can be deduplicated using a
+     * bounded cache local to this call, according to
+     * {@link org.jooq.conf.Settings#getInternStyle()}.
+     * <p>
      * Future versions of jOOQ may also "intern" other data types, such as
      * {@link Integer}, {@link Long}, within a <code>Result</code> object.
      *
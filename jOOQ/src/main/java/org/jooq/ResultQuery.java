@@ -41,6 +41,9 @@
 
 package org.jooq;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.Statement;
@@ -150,6 +153,11 @@ public interface ResultQuery<R extends Record> extends Query {
      * <code>fetchSize</code> records from the database into memory at once. For
      * more details, see also {@link Statement#setFetchSize(int)}
      * <p>
+     * If <code>fetchSize</code> is <code>0</code>, the fetch size configured in
+     * {@link org.jooq.conf.Settings#getFetchSize()}, or the adaptive fetch size
+     * according to {@link org.jooq.conf.Settings#isFetchSizeAdaptive()} is
+     * applied.
+     * <p>
      * Client code is responsible for closing the cursor after use.
      *
      * @return The resulting cursor.
@@ -159,6 +167,78 @@ public interface ResultQuery<R extends Record> extends Query {
      */
     Cursor<R> fetchLazy(int fetchSize) throws DataAccessException;
 
+    /**
+     * Stream the result of this query as CSV into a {@link Writer}.
+     * <p>
+     * This is the same as calling <code>exportCSV(writer, ',', "")</code>
+     *
+     * @param writer The writer to write CSV content to. It is flushed, but
+     *            not closed.
+     * @throws IOException if something went wrong writing CSV content
+     * @throws DataAccessException if something went wrong executing the query
+     * @see Result#formatCSV()
+     */
+    void exportCSV(Writer writer) throws IOException, DataAccessException;
+
+    /**
+     * Stream the result of this query as CSV into a {@link Writer}.
+     * <p>
+     * This is the same as calling <code>exportCSV(writer, delimiter, "")</code>
+     *
+     * @param writer The writer to write CSV content to. It is flushed, but
+     *            not closed.
+     * @param delimiter The delimiter to use between records
+     * @throws IOException if something went wrong writing CSV content
+     * @throws DataAccessException if something went wrong executing the query
+     * @see Result#formatCSV(char)
+     */
+    void exportCSV(Writer writer, char delimiter) throws IOException, DataAccessException;
+
+    /**
+     * Stream the result of this query as CSV into a {@link Writer}.
+     * <p>
+     * Records are read from the underlying {@link ResultSet} one at a time and
+     * formatted directly into the <code>writer</code>, producing the same
+     * output as {@link Result#formatCSV(char, String)}, without loading the
+     * complete result into memory.
+     *
+     * @param writer The writer to write CSV content to. It is flushed, but
+     *            not closed.
+     * @param delimiter The delimiter to use between records
+     * @param nullString A special string for encoding <code>NULL</code> values.
+     * @throws IOException if something went wrong writing CSV content
+     * @throws DataAccessException if something went wrong executing the query
+     * @see Result#formatCSV(char, String)
+     */
+    void exportCSV(Writer writer, char delimiter, String nullString) throws IOException, DataAccessException;
+
+    /**
+     * Stream the result of this query as JSON into a {@link Writer}.
+     * <p>
+     * Records are read from the underlying {@link ResultSet} one at a time and
+     * formatted directly into the <code>writer</code>, producing the same
+     * output as {@link Result#formatJSON()}, without loading the complete
+     * result into memory.
+     *
+     * @param writer The writer to write JSON content to. It is flushed, but
+     *            not closed.
+     * @throws IOException if something went wrong writing JSON content
+     * @throws DataAccessException if something went wrong executing the query
+     * @see Result#formatJSON()
+     */
+    void exportJSON(Writer writer) throws IOException, DataAccessException;
+
+    /**
+     * Stream the result of this query as UTF-8 encoded JSON into an {@link OutputStream}.
+     *
+     * @param stream The stream to write JSON content to. It is flushed, but
+     *            not closed.
+     * @throws IOException if something went wrong writing JSON content
+     * @throws DataAccessException if something went wrong executing the query
+     * @see #exportJSON(Writer)
+     */
+    void exportJSON(OutputStream stream) throws IOException, DataAccessException;
+
     /**
      * Execute a query, possibly returning several result sets.
      * <p>
@@ -1072,6 +1152,10 @@ public interface ResultQuery<R extends Record> extends Query {
      * Unlike {@link Result}'s <code>intern()</code> methods, this already
      * interns values right after fetching them from a JDBC result set. See
      * {@link Result#intern(int...)} for more details.
+     * <p>
+     * Depending on {@link org.jooq.conf.Settings#getInternStyle()}, values
+     * are interned using {@link String#intern()}, or deduplicated using a
+     * bounded cache local to each execution of this query.
      *
      * @param fields The fields whose values should be interned
      * @return The same result query
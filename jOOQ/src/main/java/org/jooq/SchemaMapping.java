@@ -40,11 +40,8 @@
  */
 package org.jooq;
 
-import static org.jooq.tools.StringUtils.isBlank;
-
 import java.io.Serializable;
 import java.io.StringWriter;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 
@@ -96,8 +93,7 @@ public class SchemaMapping implements Serializable {
     private static volatile boolean                  loggedDeprecation = false;
 
     private final Configuration                      configuration;
-    private volatile transient Map<String, Schema>   schemata;
-    private volatile transient Map<String, Table<?>> tables;
+    private volatile transient RenderMappingIndex    index;
 
     /**
      * Construct a mapping from a {@link Configuration} object
@@ -176,6 +172,7 @@ public class SchemaMapping implements Serializable {
 
         // Add new mapping
         schema.setOutput(outputSchema);
+        invalidate();
     }
 
     /**
@@ -260,6 +257,7 @@ public class SchemaMapping implements Serializable {
 
         // Add new mapping
         table.setOutput(outputTable);
+        invalidate();
     }
 
     /**
@@ -276,41 +274,10 @@ public class SchemaMapping implements Serializable {
 
         Schema result = null;
         if (schema != null) {
-            String schemaName = schema.getName();
 
             // [#2089] DefaultSchema has an empty schema name
-            if (!StringUtils.isEmpty(schemaName)) {
-
-                // Lazy initialise schema mapping
-                if (!getSchemata().containsKey(schemaName)) {
-
-                    // [#1857] thread-safe lazy initialisation for those users who
-                    // want to use a Configuration and dependent objects in a "thread-safe" manner
-                    synchronized (this) {
-                        if (!getSchemata().containsKey(schemaName)) {
-                            Schema mapped = schema;
-
-                            for (MappedSchema s : mapping().getSchemata()) {
-
-                                // A configured mapping was found, add a renamed schema
-                                if (schemaName.equals(s.getInput())) {
-
-                                    // Ignore self-mappings and void-mappings
-                                    if (!isBlank(s.getOutput()) && !s.getOutput().equals(s.getInput())) {
-                                        mapped = new RenamedSchema(schema, s.getOutput());
-                                    }
-
-                                    break;
-                                }
-                            }
-
-                            // Add mapped schema or self if no mapping was found
-                            getSchemata().put(schemaName, mapped);
-                        }
-                    }
-                }
-
-                result = getSchemata().get(schemaName);
+            if (!StringUtils.isEmpty(schema.getName())) {
+                result = index().map(schema);
 
                 // The configured default schema is mapped to "null". This prevents
                 // it from being rendered to SQL
@@ -329,58 +296,12 @@ public class SchemaMapping implements Serializable {
      * @param table The generated table to be mapped
      * @return The configured table
      */
-    @SuppressWarnings("unchecked")
     public <R extends Record> Table<R> map(Table<R> table) {
-        Table<R> result = null;
-
         if (table != null) {
-            Schema schema = table.getSchema();
-
-            // [#1189] Schema can be null in SQLite
-            // [#2089] DefaultSchema have empty schema names
-            // [#1186] TODO: replace this by calling table.getQualifiedName()
-            String schemaName = (schema == null) ? "" : schema.getName();
-            String tableName = table.getName();
-            String key = (schema == null || StringUtils.isEmpty(schemaName)) ? tableName : (schemaName + "." + tableName);
-
-            // Lazy initialise table mapping
-            if (!getTables().containsKey(key)) {
-
-                // [#1857] thread-safe lazy initialisation for those users who
-                // want to use Configuration and dependent objects in a "thread-safe" manner
-                synchronized (this) {
-                    if (!getTables().containsKey(key)) {
-                        Table<R> mapped = table;
-
-                        schemaLoop:
-                        for (MappedSchema s : mapping().getSchemata()) {
-                            if (schemaName.equals(s.getInput())) {
-                                for (MappedTable t : s.getTables()) {
-
-                                    // A configured mapping was found, add a renamed table
-                                    if (tableName.equals(t.getInput())) {
-
-                                        // Ignore self-mappings and void-mappings
-                                        if (!isBlank(t.getOutput()) && !t.getOutput().equals(t.getInput())) {
-                                            mapped = new RenamedTable<R>(table, t.getOutput());
-                                        }
-
-                                        break schemaLoop;
-                                    }
-                                }
-                            }
-                        }
-
-                        // Add mapped table or self if no mapping was found
-                        getTables().put(key, mapped);
-                    }
-                }
-            }
-
-            result = (Table<R>) getTables().get(key);
+            return index().map(table);
         }
 
-        return result;
+        return null;
     }
 
     /**
@@ -400,32 +321,31 @@ public class SchemaMapping implements Serializable {
         }
     }
 
-    private final Map<String, Schema> getSchemata() {
-        if (schemata == null) {
-
-            // [#1857] thread-safe lazy initialisation for those users who
-            // want to use Configuration and dependent objects in a "thread-safe" manner
-            synchronized (this) {
-                if (schemata == null) {
-                    schemata = new HashMap<String, Schema>();
-                }
-            }
+    /**
+     * The mapping tables are shared lock-free by all <code>SchemaMapping</code>
+     * objects referencing the same {@link RenderMapping}, e.g. by all
+     * {@link Configuration}s derived from a tenant's {@link Settings}.
+     */
+    private final RenderMappingIndex index() {
+        RenderMapping mapping = mapping();
+        RenderMappingIndex result = index;
+
+        // The Settings' RenderMapping may have been replaced or modified (e.g.
+        // through another SchemaMapping) in the mean time
+        if (result == null || !result.indexes(mapping)) {
+            result = RenderMappingIndex.of(mapping);
+            index = result;
         }
-        return schemata;
-    }
 
-    private final Map<String, Table<?>> getTables() {
-        if (tables == null) {
+        return result;
+    }
 
-            // [#1857] thread-safe lazy initialisation for those users who
-            // want to use Configuration and dependent objects in a "thread-safe" manner
-            synchronized (this) {
-                if (tables == null) {
-                    tables = new HashMap<String, Table<?>>();
-                }
-            }
-        }
-        return tables;
+    /**
+     * Discard the mapping tables after a modification of the mapping.
+     */
+    private final void invalidate() {
+        RenderMappingIndex.invalidate(mapping());
+        index = null;
     }
 
     // ------------------------------------------------------------------------
@@ -101,7 +101,7 @@ public interface SelectOrderByStep<R extends Record> extends SelectLimitStep<R>
         name = "ORDER BY",
         args = "Field+"
     )
-    SelectLimitStep<R> orderBy(Field<?>... fields);
+    SelectSeekStepN<R> orderBy(Field<?>... fields);
 
     /**
      * Add an <code>ORDER BY</code> clause to the query
@@ -111,7 +111,7 @@ public interface SelectOrderByStep<R extends Record> extends SelectLimitStep<R>
         name = "ORDER BY",
         args = "SortField+"
     )
-    SelectLimitStep<R> orderBy(SortField<?>... fields);
+    SelectSeekStepN<R> orderBy(SortField<?>... fields);
 
     /**
      * Add an <code>ORDER BY</code> clause to the query
@@ -121,7 +121,7 @@ public interface SelectOrderByStep<R extends Record> extends SelectLimitStep<R>
         name = "ORDER BY",
         args = "SortField+"
     )
-    SelectLimitStep<R> orderBy(Collection<? extends SortField<?>> fields);
+    SelectSeekStepN<R> orderBy(Collection<? extends SortField<?>> fields);
 
     /**
      * Add an <code>ORDER BY</code> clause to the query
@@ -437,6 +437,58 @@ public interface SelectQuery<R extends Record> extends Select<R>, ConditionProvi
     @Support({ CUBRID })
     void setOrderBySiblings(boolean orderBySiblings);
 
+    /**
+     * Adds seeking fields
+     * <p>
+     * This adds a predicate fetching only rows that are sorted after the given
+     * values, according to the <code>ORDER BY</code> clause.
+     *
+     * @param fields The seeking values. The number of values must match the
+     *            number of ordering fields.
+     * @see SelectSeekStepN#seekAfter(Field...)
+     */
+    @Support
+    void addSeekAfter(Field<?>... fields);
+
+    /**
+     * Adds seeking fields
+     * <p>
+     * This adds a predicate fetching only rows that are sorted after the given
+     * values, according to the <code>ORDER BY</code> clause.
+     *
+     * @param fields The seeking values. The number of values must match the
+     *            number of ordering fields.
+     * @see SelectSeekStepN#seekAfter(Field...)
+     */
+    @Support
+    void addSeekAfter(Collection<? extends Field<?>> fields);
+
+    /**
+     * Adds seeking fields
+     * <p>
+     * This adds a predicate fetching only rows that are sorted before the
+     * given values, according to the <code>ORDER BY</code> clause.
+     *
+     * @param fields The seeking values. The number of values must match the
+     *            number of ordering fields.
+     * @see SelectSeekStepN#seekBefore(Field...)
+     */
+    @Support
+    void addSeekBefore(Field<?>... fields);
+
+    /**
+     * Adds seeking fields
+     * <p>
+     * This adds a predicate fetching only rows that are sorted before the
+     * given values, according to the <code>ORDER BY</code> clause.
+     *
+     * @param fields The seeking values. The number of values must match the
+     *            number of ordering fields.
+     * @see SelectSeekStepN#seekBefore(Field...)
+     */
+    @Support
+    void addSeekBefore(Collection<? extends Field<?>> fields);
+
     /**
      * Limit the results of this select
      * <p>
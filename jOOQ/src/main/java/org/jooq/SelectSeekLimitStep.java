@@ -0,0 +1,118 @@
+/**
+ * Copyright (c) 2009-2013, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq;
+
+import static org.jooq.SQLDialect.CUBRID;
+import static org.jooq.SQLDialect.DERBY;
+import static org.jooq.SQLDialect.FIREBIRD;
+import static org.jooq.SQLDialect.H2;
+import static org.jooq.SQLDialect.HSQLDB;
+import static org.jooq.SQLDialect.MARIADB;
+import static org.jooq.SQLDialect.MYSQL;
+import static org.jooq.SQLDialect.POSTGRES;
+import static org.jooq.SQLDialect.SQLITE;
+
+import org.jooq.api.annotation.State;
+import org.jooq.api.annotation.Transition;
+
+/**
+ * This type is used for the {@link Select}'s DSL API when selecting generic
+ * {@link Record} types.
+ * <p>
+ * Example: <code><pre>
+ * -- get the next ten books after the last book of the previous page,
+ * -- sorted by publishing year (latest first) and by ID
+ *
+ *   SELECT T_BOOK.ID, T_BOOK.TITLE, T_BOOK.PUBLISHED_IN
+ *     FROM T_BOOK
+ *    WHERE (T_BOOK.PUBLISHED_IN &lt; 2008)
+ *       OR (T_BOOK.PUBLISHED_IN = 2008 AND T_BOOK.ID > 17)
+ * ORDER BY T_BOOK.PUBLISHED_IN DESC, T_BOOK.ID ASC
+ *    LIMIT 10
+ * </pre></code> Its equivalent in jOOQ <code><pre>
+ * create.select(TBook.ID, TBook.TITLE, TBook.PUBLISHED_IN)
+ *       .from(T_BOOK)
+ *       .orderBy(TBook.PUBLISHED_IN.desc(), TBook.ID.asc())
+ *       .seek(2008, 17)
+ *       .limit(10);
+ * </pre></code> Refer to the manual for more details
+ *
+ * @author Lukas Eder
+ */
+@State
+public interface SelectSeekLimitStep<R extends Record> extends SelectForUpdateStep<R> {
+
+    /**
+     * Add a <code>LIMIT</code> clause to the query.
+     * <p>
+     * If there is no <code>LIMIT</code> or <code>TOP</code> clause in your
+     * RDBMS, this may be simulated with a <code>ROW_NUMBER()</code> window
+     * function and nested <code>SELECT</code> statements.
+     * <p>
+     * Unlike {@link SelectLimitStep#limit(int)}, no <code>OFFSET</code> can be
+     * added, as the offset is given by the preceding <code>SEEK</code> clause.
+     */
+    @Support
+    @Transition(
+        name = "LIMIT",
+        args = "Integer"
+    )
+    SelectForUpdateStep<R> limit(int numberOfRows);
+
+    /**
+     * Add a <code>LIMIT</code> clause to the query using named parameters.
+     * <p>
+     * Note that some dialects do not support bind values at all in
+     * <code>LIMIT</code> or <code>TOP</code> clauses!
+     * <p>
+     * If there is no <code>LIMIT</code> or <code>TOP</code> clause in your
+     * RDBMS, or the <code>LIMIT</code> or <code>TOP</code> clause does not
+     * support bind values, this may be simulated with a
+     * <code>ROW_NUMBER()</code> window function and nested <code>SELECT</code>
+     * statements.
+     * <p>
+     * Unlike {@link SelectLimitStep#limit(Param)}, no <code>OFFSET</code> can
+     * be added, as the offset is given by the preceding <code>SEEK</code>
+     * clause.
+     */
+    @Support({ CUBRID, DERBY, FIREBIRD, H2, HSQLDB, MARIADB, MYSQL, POSTGRES, SQLITE })
+    SelectForUpdateStep<R> limit(Param<Integer> numberOfRows);
+}
@@ -0,0 +1,189 @@
+/**
+ * Copyright (c) 2009-2013, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq;
+
+import org.jooq.api.annotation.State;
+import org.jooq.api.annotation.Transition;
+
+/**
+ * This type is used for the {@link Select}'s DSL API when selecting generic
+ * {@link Record} types.
+ * <p>
+ * Example: <code><pre>
+ * -- get the next ten books after the last book of the previous page,
+ * -- sorted by publishing year (latest first) and by ID
+ *
+ *   SELECT T_BOOK.ID, T_BOOK.TITLE, T_BOOK.PUBLISHED_IN
+ *     FROM T_BOOK
+ *    WHERE (T_BOOK.PUBLISHED_IN &lt; 2008)
+ *       OR (T_BOOK.PUBLISHED_IN = 2008 AND T_BOOK.ID > 17)
+ * ORDER BY T_BOOK.PUBLISHED_IN DESC, T_BOOK.ID ASC
+ *    LIMIT 10
+ * </pre></code> Its equivalent in jOOQ <code><pre>
+ * create.select(TBook.ID, TBook.TITLE, TBook.PUBLISHED_IN)
+ *       .from(T_BOOK)
+ *       .orderBy(TBook.PUBLISHED_IN.desc(), TBook.ID.asc())
+ *       .seek(2008, 17)
+ *       .limit(10);
+ * </pre></code> Refer to the manual for more details
+ *
+ * @author Lukas Eder
+ */
+@State
+public interface SelectSeekStepN<R extends Record> extends SelectLimitStep<R> {
+
+    /**
+     * Add a synthetic <code>SEEK AFTER</code> clause to the query.
+     * <p>
+     * The synthetic <code>SEEK AFTER</code> clause is an alternative way to
+     * specify an <code>OFFSET</code>, and thus to perform paging in a SQL
+     * query. This can be advantageous for two reasons:
+     * <p>
+     * <ol>
+     * <li>The SQL generated from the <code>SEEK AFTER</code> clause is a regular
+     * predicate, which can be used by query plan optimisers to choose an
+     * appropriate index. The SQL standard <code>OFFSET</code> clause will need
+     * to skip <code>N</code> rows in memory, no matter how deep the page is.</li>
+     * <li>The <code>SEEK AFTER</code> clause is stable, i.e. it will not
+     * produce duplicate records between pages if data is modified in between
+     * page requests.</li>
+     * </ol>
+     * <p>
+     * The predicate compares the <code>ORDER BY</code> fields with the given
+     * values, taking into account each field's {@link SortOrder}. Uniform
+     * <code>ORDER BY</code> directions are compared using a row value
+     * expression predicate, e.g. <code>(A, B) > (1, 2)</code>, which is
+     * simulated in dialects that do not support it. Mixed directions, and
+     * fields with explicit {@link SortField#nullsFirst()} or
+     * {@link SortField#nullsLast()} ordering, are compared using an expanded
+     * <code>OR</code> predicate. <code>NULL</code> seek values are only
+     * supported for fields with explicit <code>NULLS</code> ordering. Otherwise,
+     * an {@link IllegalArgumentException} is thrown when rendering the query.
+     * <p>
+     * The predicate is added to the <code>WHERE</code> clause, or to the
+     * <code>HAVING</code> clause of grouped queries.
+     * <p>
+     * The number of values must match the number of <code>ORDER BY</code>
+     * fields.
+     *
+     * @see #seekAfter(Object...)
+     */
+    @Support
+    @Transition(
+        name = "SEEK",
+        args = "Object+"
+    )
+    SelectSeekLimitStep<R> seek(Object... values);
+
+    /**
+     * Add a synthetic <code>SEEK AFTER</code> clause to the query.
+     *
+     * @see #seek(Object...)
+     */
+    @Support
+    @Transition(
+        name = "SEEK",
+        args = "Field+"
+    )
+    SelectSeekLimitStep<R> seek(Field<?>... values);
+
+    /**
+     * Add a synthetic <code>SEEK AFTER</code> clause to the query.
+     * <p>
+     * This fetches the rows that are sorted after the given values.
+     *
+     * @see #seek(Object...)
+     */
+    @Support
+    @Transition(
+        name = "SEEK AFTER",
+        args = "Object+"
+    )
+    SelectSeekLimitStep<R> seekAfter(Object... values);
+
+    /**
+     * Add a synthetic <code>SEEK AFTER</code> clause to the query.
+     * <p>
+     * This fetches the rows that are sorted after the given values.
+     *
+     * @see #seek(Object...)
+     */
+    @Support
+    @Transition(
+        name = "SEEK AFTER",
+        args = "Field+"
+    )
+    SelectSeekLimitStep<R> seekAfter(Field<?>... values);
+
+    /**
+     * Add a synthetic <code>SEEK BEFORE</code> clause to the query.
+     * <p>
+     * This fetches the rows that are sorted before the given values. Note that
+     * the <code>ORDER BY</code> clause is not reversed, i.e. the
+     * <code>LIMIT</code> clause still applies to the first rows in
+     * <code>ORDER BY</code> order.
+     *
+     * @see #seek(Object...)
+     */
+    @Support
+    @Transition(
+        name = "SEEK BEFORE",
+        args = "Object+"
+    )
+    SelectSeekLimitStep<R> seekBefore(Object... values);
+
+    /**
+     * Add a synthetic <code>SEEK BEFORE</code> clause to the query.
+     * <p>
+     * This fetches the rows that are sorted before the given values. Note that
+     * the <code>ORDER BY</code> clause is not reversed, i.e. the
+     * <code>LIMIT</code> clause still applies to the first rows in
+     * <code>ORDER BY</code> order.
+     *
+     * @see #seek(Object...)
+     */
+    @Support
+    @Transition(
+        name = "SEEK BEFORE",
+        args = "Field+"
+    )
+    SelectSeekLimitStep<R> seekBefore(Field<?>... values);
+}
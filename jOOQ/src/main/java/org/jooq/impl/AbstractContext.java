@@ -55,7 +55,7 @@ import org.jooq.QueryPartInternal;
 @SuppressWarnings("unchecked")
 abstract class AbstractContext<C extends Context<C>> implements Context<C> {
 
-    final Configuration       configuration;
+    Configuration             configuration;
     final Map<Object, Object> data;
 
     boolean                   declareFields;
@@ -68,6 +68,21 @@ abstract class AbstractContext<C extends Context<C>> implements Context<C> {
         this.data = new HashMap<Object, Object>();
     }
 
+    /**
+     * Reset this context for reuse with a new {@link Configuration}.
+     * <p>
+     * This is used by {@link ContextCache} to recycle contexts. Subclasses
+     * must reset all their state, too.
+     */
+    void reset(Configuration c) {
+        this.configuration = c;
+        this.data.clear();
+        this.declareFields = false;
+        this.declareTables = false;
+        this.subquery = false;
+        this.index = 0;
+    }
+
     // ------------------------------------------------------------------------
     // XXX Context API
     // ------------------------------------------------------------------------
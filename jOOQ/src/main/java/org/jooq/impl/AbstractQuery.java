@@ -45,7 +45,6 @@ import static org.jooq.conf.ParamType.INDEXED;
 import static org.jooq.conf.ParamType.INLINED;
 import static org.jooq.conf.SettingsTools.executePreparedStatements;
 import static org.jooq.conf.SettingsTools.getParamType;
-import static org.jooq.impl.DSL.using;
 import static org.jooq.impl.Utils.DATA_COUNT_BIND_VALUES;
 import static org.jooq.impl.Utils.DATA_FORCE_STATIC_STATEMENT;
 
@@ -61,7 +60,6 @@ import org.jooq.ExecuteContext;
 import org.jooq.ExecuteListener;
 import org.jooq.Param;
 import org.jooq.Query;
-import org.jooq.RenderContext;
 import org.jooq.conf.ParamType;
 import org.jooq.conf.StatementType;
 import org.jooq.exception.DetachedException;
@@ -81,6 +79,9 @@ abstract class AbstractQuery extends AbstractQueryPart implements Query, Attacha
     private transient PreparedStatement statement;
     private transient String            sql;
 
+    // The length of the previously rendered SQL, used to right-size buffers
+    private transient int               sqlLength;
+
     AbstractQuery(Configuration configuration) {
         this.configuration = configuration;
     }
@@ -302,7 +303,15 @@ abstract class AbstractQuery extends AbstractQueryPart implements Query, Attacha
                     !Boolean.TRUE.equals(ctx.data(DATA_FORCE_STATIC_STATEMENT))) {
 
                     listener.bindStart(ctx);
-                    using(c).bindContext(ctx.statement()).visit(this);
+                    DefaultBindContext bind = ContextCache.bindContext(c, ctx.statement());
+
+                    try {
+                        bind.visit(this);
+                    }
+                    finally {
+                        ContextCache.release(bind);
+                    }
+
                     listener.bindEnd(ctx);
                 }
 
@@ -380,15 +389,22 @@ abstract class AbstractQuery extends AbstractQueryPart implements Query, Attacha
 
     private final String getSQL0(ExecuteContext ctx) {
         if (executePreparedStatements(configuration().settings())) {
+            DefaultRenderContext render = ContextCache.renderContext(configuration, sqlLength);
+
             try {
-                RenderContext render = new DefaultRenderContext(configuration);
                 render.data(DATA_COUNT_BIND_VALUES, true);
-                return render.render(this);
+
+                String result = render.visit(this).render();
+                sqlLength = result.length();
+                return result;
             }
             catch (DefaultRenderContext.ForceInlineSignal e) {
                 ctx.data(DATA_FORCE_STATIC_STATEMENT, true);
                 return getSQL(INLINED);
             }
+            finally {
+                ContextCache.release(render);
+            }
         }
         else {
             return getSQL(INLINED);
@@ -40,6 +40,7 @@
  */
 package org.jooq.impl;
 
+import static java.lang.Boolean.TRUE;
 import static java.sql.ResultSet.CONCUR_UPDATABLE;
 import static java.sql.ResultSet.TYPE_SCROLL_SENSITIVE;
 import static java.util.Arrays.asList;
@@ -49,6 +50,9 @@ import static org.jooq.SQLDialect.CUBRID;
 // ...
 import static org.jooq.impl.Utils.DATA_LOCK_ROWS_FOR_UPDATE;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
@@ -72,6 +76,7 @@ import org.jooq.RecordMapper;
 import org.jooq.Result;
 import org.jooq.ResultQuery;
 import org.jooq.Table;
+import org.jooq.conf.Settings;
 import org.jooq.exception.DataTypeException;
 import org.jooq.tools.Convert;
 import org.jooq.tools.JooqLogger;
@@ -226,11 +231,12 @@ abstract class AbstractResultQuery<R extends Record> extends AbstractQuery imple
 
         // [#1263] Allow for negative fetch sizes to support some non-standard
         // MySQL feature, where Integer.MIN_VALUE is used
-        if (size != 0) {
+        int f = fetchSize(ctx);
+        if (f != 0) {
             if (log.isDebugEnabled())
-                log.debug("Setting fetch size", size);
+                log.debug("Setting fetch size", f);
 
-            ctx.statement().setFetchSize(size);
+            ctx.statement().setFetchSize(f);
         }
 
         // [#1854] Set the max number of rows for this result query
@@ -239,6 +245,29 @@ abstract class AbstractResultQuery<R extends Record> extends AbstractQuery imple
         }
     }
 
+    /**
+     * The fetch size to apply to this query's statement. An explicit fetch
+     * size takes precedence over an adapted fetch size, which takes precedence
+     * over the default fetch size from the {@link Settings}
+     */
+    private final int fetchSize(ExecuteContext ctx) {
+        if (size != 0) {
+            return size;
+        }
+
+        Settings settings = ctx.configuration().settings();
+        if (TRUE.equals(settings.isFetchSizeAdaptive())) {
+            int adapted = FetchSizeListener.fetchSize(ctx.sql());
+
+            if (adapted != 0) {
+                return adapted;
+            }
+        }
+
+        Integer defaultSize = settings.getFetchSize();
+        return defaultSize == null ? 0 : defaultSize;
+    }
+
     
     protected final int execute(ExecuteContext ctx, ExecuteListener listener) throws SQLException {
         listener.executeStart(ctx);
@@ -352,6 +381,52 @@ abstract class AbstractResultQuery<R extends Record> extends AbstractQuery imple
     }
 
     
+    public final void exportCSV(Writer writer) throws IOException {
+        exportCSV(writer, ',', "");
+    }
+
+    
+    public final void exportCSV(Writer writer, char delimiter) throws IOException {
+        exportCSV(writer, delimiter, "");
+    }
+
+    
+    public final void exportCSV(Writer writer, char delimiter, String nullString) throws IOException {
+        Cursor<R> c = fetchLazy();
+
+        try {
+            c.exportCSV(writer, delimiter, nullString);
+        }
+        finally {
+            c.close();
+        }
+    }
+
+    
+    public final void exportJSON(Writer writer) throws IOException {
+        Cursor<R> c = fetchLazy();
+
+        try {
+            c.exportJSON(writer);
+        }
+        finally {
+            c.close();
+        }
+    }
+
+    
+    public final void exportJSON(OutputStream stream) throws IOException {
+        Cursor<R> c = fetchLazy();
+
+        try {
+            c.exportJSON(stream);
+        }
+        finally {
+            c.close();
+        }
+    }
+
+    
     public final List<Result<Record>> fetchMany() {
         many = true;
 
@@ -42,6 +42,7 @@ package org.jooq.impl;
 
 import static org.jooq.Clause.FIELD;
 import static org.jooq.Clause.FIELD_FUNCTION;
+import static org.jooq.SQLDialect.HSQLDB;
 import static org.jooq.SQLDialect.POSTGRES;
 // ...
 import static org.jooq.impl.DSL.function;
@@ -222,27 +223,36 @@ public abstract class AbstractRoutine<T> extends AbstractQueryPart implements Ro
 
     
     public final int execute() {
+        if (isCallable(configuration)) {
+            return executeCallableStatement();
+        }
+
+        // [#692] HSQLDB cannot SELECT f() FROM [...] when f()
+        // returns a cursor. Instead, SELECT * FROM table(f()) works
+        else if (configuration.dialect().family() == HSQLDB && SQLDataType.RESULT.equals(type.getSQLDataType())) {
+            return executeSelectFrom();
+        }
+        else {
+            return executeSelect();
+        }
+    }
+
+    /**
+     * Whether this routine is executed as a {@link CallableStatement} in a
+     * given configuration, as opposed to being selected.
+     */
+    final boolean isCallable(Configuration c) {
+
         // Procedures (no return value) are always executed as CallableStatement
         if (type == null) {
-            return executeCallableStatement();
+            return true;
         }
         else {
-            switch (configuration.dialect().family()) {
+            switch (c.dialect().family()) {
 
                 // [#852] Some RDBMS don't allow for using JDBC procedure escape
                 // syntax for functions. Select functions from DUAL instead
                 case HSQLDB:
-
-                    // [#692] HSQLDB cannot SELECT f() FROM [...] when f()
-                    // returns a cursor. Instead, SELECT * FROM table(f()) works
-                    if (SQLDataType.RESULT.equals(type.getSQLDataType())) {
-                        return executeSelectFrom();
-                    }
-
-                    // Fall through
-                    else {
-                    }
-
                 case H2:
                 /* [pro] xx
                 xxxx xxxx
@@ -250,17 +260,25 @@ public abstract class AbstractRoutine<T> extends AbstractQueryPart implements Ro
                 xx xxxxxx xxxxxxxxxxxxxxxxxxxxxxxxxxx xxxxxxx xxxx xxx
                 xxxx xxxxxxx
                 xx [/pro] */
-                    return executeSelect();
+                    return false;
 
                 // [#773] If JDBC escape syntax is available for functions, use
                 // it to prevent transactional issues when functions issue
                 // DML statements
                 default:
-                    return executeCallableStatement();
+                    return true;
             }
         }
     }
 
+    /**
+     * Whether this routine has a return value or <code>OUT</code> parameters,
+     * which have to be fetched after each call.
+     */
+    final boolean hasResults() {
+        return returnParameter != null || !outParameters.isEmpty();
+    }
+
     private final int executeSelectFrom() {
         DSLContext create = create(configuration);
         Result<?> result = create.selectFrom(table(asField())).fetch();
@@ -512,7 +530,7 @@ public abstract class AbstractRoutine<T> extends AbstractQueryPart implements Ro
         context.literal(getName());
     }
 
-    private final void fetchOutParameters(ExecuteContext ctx) throws SQLException {
+    final void fetchOutParameters(ExecuteContext ctx) throws SQLException {
         for (Parameter<?> parameter : getParameters()) {
             if (parameter.equals(getReturnParameter()) ||
                 getOutParameters().contains(parameter)) {
@@ -524,7 +542,7 @@ public abstract class AbstractRoutine<T> extends AbstractQueryPart implements Ro
     }
 
     @SuppressWarnings("unchecked")
-    private final void registerOutParameters(Configuration c, CallableStatement statement) throws SQLException {
+    final void registerOutParameters(Configuration c, CallableStatement statement) throws SQLException {
 
         // Register all out / inout parameters according to their position
         // Note that some RDBMS do not support binding by name very well
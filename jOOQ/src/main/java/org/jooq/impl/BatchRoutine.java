@@ -0,0 +1,217 @@
+/**
+ * Copyright (c) 2009-2013, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq.impl;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.jooq.Batch;
+import org.jooq.Configuration;
+import org.jooq.DSLContext;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.Routine;
+
+/**
+ * A batch of stored procedure or function calls.
+ * <p>
+ * Subsequent calls rendering the same SQL share a single
+ * {@link CallableStatement}. Calls without results are executed through
+ * {@link CallableStatement#addBatch()}. Calls with a return value or
+ * <code>OUT</code> parameters are executed one by one on the shared statement,
+ * fetching results into each {@link Routine}.
+ * <p>
+ * The routines sharing a statement are attached to the executing
+ * {@link Configuration} while they are bound and executed, and
+ * {@link ExecuteContext#routine()} reflects the routine that is currently
+ * being bound and executed.
+ *
+ * @author Lukas Eder
+ */
+class BatchRoutine implements Batch {
+
+    /**
+     * Generated UID
+     */
+    private static final long   serialVersionUID = 2466497339574412316L;
+
+    private final DSLContext    create;
+    private final Configuration configuration;
+    private final Routine<?>[]  routines;
+
+    public BatchRoutine(Configuration configuration, Routine<?>... routines) {
+        this.create = DSL.using(configuration);
+        this.configuration = configuration;
+        this.routines = routines;
+    }
+
+    
+    public final int size() {
+        return routines.length;
+    }
+
+    
+    public final int[] execute() {
+        int[] result = new int[routines.length];
+        String[] sql = new String[routines.length];
+
+        for (int i = 0; i < routines.length; i++) {
+            if (routines[i] instanceof AbstractRoutine && ((AbstractRoutine<?>) routines[i]).isCallable(configuration)) {
+                sql[i] = create.render(routines[i]);
+            }
+        }
+
+        for (int i = 0; i < routines.length;) {
+
+            // Routines that are selected cannot share a CallableStatement
+            if (sql[i] == null) {
+                result[i] = routines[i].execute(configuration);
+                i++;
+            }
+
+            // Subsequent routines producing the same SQL share a statement
+            else {
+                int j = i + 1;
+                while (j < routines.length && sql[i].equals(sql[j])) {
+                    j++;
+                }
+
+                execute(sql[i], i, j, result);
+                i = j;
+            }
+        }
+
+        return result;
+    }
+
+    private final void execute(String sql, int from, int to, int[] result) {
+        AbstractRoutine<?> first = (AbstractRoutine<?>) routines[from];
+        DefaultExecuteContext ctx = new DefaultExecuteContext(configuration, first);
+        ExecuteListener listener = new ExecuteListeners(ctx);
+        Connection connection = ctx.connection();
+
+        // Ensure that all depending Attachables are attached
+        Configuration[] previous = new Configuration[to - from];
+        for (int i = from; i < to; i++) {
+            AbstractRoutine<?> routine = (AbstractRoutine<?>) routines[i];
+
+            previous[i - from] = routine.configuration();
+            routine.attach(configuration);
+        }
+
+        try {
+            listener.renderStart(ctx);
+            ctx.sql(sql);
+            listener.renderEnd(ctx);
+
+            listener.prepareStart(ctx);
+            ctx.statement(connection.prepareCall(ctx.sql()));
+            listener.prepareEnd(ctx);
+
+            CallableStatement statement = (CallableStatement) ctx.statement();
+
+            // Results have to be fetched after each call
+            if (first.hasResults()) {
+                for (int i = from; i < to; i++) {
+                    AbstractRoutine<?> routine = (AbstractRoutine<?>) routines[i];
+                    ctx.routine(routine);
+
+                    listener.bindStart(ctx);
+                    bind(ctx, routine);
+                    routine.registerOutParameters(configuration, statement);
+                    listener.bindEnd(ctx);
+
+                    listener.executeStart(ctx);
+                    statement.execute();
+                    listener.executeEnd(ctx);
+
+                    routine.fetchOutParameters(ctx);
+                    result[i] = 0;
+                }
+            }
+
+            // Calls without results can be sent in a single JDBC batch
+            else {
+                for (int i = from; i < to; i++) {
+                    ctx.routine(routines[i]);
+
+                    listener.bindStart(ctx);
+                    bind(ctx, routines[i]);
+                    listener.bindEnd(ctx);
+
+                    statement.addBatch();
+                }
+
+                listener.executeStart(ctx);
+                int[] rows = statement.executeBatch();
+                listener.executeEnd(ctx);
+
+                for (int i = 0; i < rows.length && from + i < to; i++) {
+                    result[from + i] = rows[i];
+                }
+            }
+        }
+        catch (SQLException e) {
+            ctx.sqlException(e);
+            listener.exception(ctx);
+            throw ctx.exception();
+        }
+        finally {
+            Utils.safeClose(listener, ctx);
+
+            for (int i = from; i < to; i++) {
+                ((AbstractRoutine<?>) routines[i]).attach(previous[i - from]);
+            }
+        }
+    }
+
+    private final void bind(ExecuteContext ctx, Routine<?> routine) {
+        DefaultBindContext bind = ContextCache.bindContext(configuration, ctx.statement());
+
+        try {
+            bind.visit(routine);
+        }
+        finally {
+            ContextCache.release(bind);
+        }
+    }
+}
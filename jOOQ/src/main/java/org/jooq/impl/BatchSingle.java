@@ -144,7 +144,14 @@ class BatchSingle implements BatchBindStep {
                 for (int i = 0; i < params.size(); i++) {
                     params.get(i).setConverted(bindValues[i]);
                 }
-                visitAll(new DefaultBindContext(configuration, ctx.statement()), params);
+                DefaultBindContext bind = ContextCache.bindContext(configuration, ctx.statement());
+
+                try {
+                    visitAll(bind, params);
+                }
+                finally {
+                    ContextCache.release(bind);
+                }
 
                 listener.bindEnd(ctx);
                 ctx.statement().addBatch();
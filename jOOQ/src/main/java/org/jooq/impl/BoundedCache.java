@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2009-2013, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq.impl;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A size-bounded, concurrent cache for internal lookup tables.
+ * <p>
+ * Lookups are plain {@link ConcurrentHashMap#get(Object)} calls, which never
+ * block. Eviction is approximate: once the cache has reached its maximum size,
+ * it is cleared entirely before the next entry is added. Frequently used
+ * entries are thus quickly re-populated, while one-off keys (e.g. SQL strings
+ * with inlined literals) cannot permanently pin the cache's capacity.
+ *
+ * @author Lukas Eder
+ */
+final class BoundedCache<K, V> extends ConcurrentHashMap<K, V> {
+
+    /**
+     * Generated UID
+     */
+    private static final long serialVersionUID = -3126463487813356651L;
+
+    private final int         maxSize;
+
+    BoundedCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Add a value to this cache, unless another thread has added one for the
+     * same key in the mean time.
+     *
+     * @return The value that is cached for the key after this call.
+     */
+    final V add(K key, V value) {
+        if (size() >= maxSize) {
+            clear();
+        }
+
+        V previous = putIfAbsent(key, value);
+        return previous != null ? previous : value;
+    }
+}
@@ -0,0 +1,471 @@
+/**
+ * Copyright (c) 2009-2013, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq.impl;
+
+import static org.jooq.conf.ParamType.INDEXED;
+import static org.jooq.conf.ParamType.INLINED;
+import static org.jooq.conf.StatementType.PREPARED_STATEMENT;
+import static org.jooq.impl.DSL.val;
+import static org.jooq.impl.Utils.DATA_COUNT_BIND_VALUES;
+import static org.jooq.impl.Utils.fieldArray;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSetMetaData;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jooq.BindContext;
+import org.jooq.Clause;
+import org.jooq.CompiledQuery;
+import org.jooq.Configuration;
+import org.jooq.Context;
+import org.jooq.Cursor;
+import org.jooq.DataType;
+import org.jooq.Field;
+import org.jooq.Param;
+import org.jooq.QueryPartInternal;
+import org.jooq.Record;
+import org.jooq.RenderContext;
+import org.jooq.Result;
+import org.jooq.ResultQuery;
+import org.jooq.Select;
+import org.jooq.conf.Settings;
+import org.jooq.conf.SettingsTools;
+import org.jooq.tools.StringUtils;
+
+/**
+ * The default implementation of a {@link CompiledQuery}.
+ * <p>
+ * All state is collected at compile time and never modified afterwards.
+ * Rebinding creates a shallow copy sharing the compiled SQL string and the bind
+ * value slots, and each execution creates a new, short-lived
+ * {@link AbstractResultQuery} that renders the compiled SQL string and binds
+ * the slots, making use of the usual {@link org.jooq.ExecuteListener}
+ * lifecycle. Executions run on a derived {@link Configuration} that enforces
+ * prepared statements and indexed bind values.
+ *
+ * @author Lukas Eder
+ */
+class CompiledQueryImpl<R extends Record> implements CompiledQuery<R> {
+
+    private final Configuration        configuration;
+    private final Class<? extends R>   recordType;
+    private final Field<?>[]           fields;
+    private final String               sql;
+
+    /**
+     * The positions of the <code>?</code> bind value markers in {@link #sql},
+     * or <code>null</code> if they cannot be located unambiguously.
+     */
+    private final int[]                markers;
+    private final List<String>         names;
+    private final Map<String, Integer> positions;
+    private final DataType<?>[]        types;
+
+    /**
+     * The parameter position for each JDBC bind index, or a negative value
+     * <code>-1 - i</code> referencing <code>constants[i]</code>.
+     */
+    private final int[]                slots;
+    private final Object[]             constants;
+    private final Class<?>[]           constantTypes;
+    private final Object[]             values;
+
+    CompiledQueryImpl(Configuration configuration, ResultQuery<R> query) {
+        Collector collector = new Collector(configuration);
+        collector.visit(query);
+
+        this.configuration = prepared(configuration);
+        this.recordType = query.getRecordType();
+        this.fields = query instanceof Select && !((Select<?>) query).getSelect().isEmpty()
+            ? fieldArray(((Select<?>) query).getSelect())
+            : null;
+        this.sql = render(configuration, query);
+        this.markers = markers(sql, collector.slots.size());
+        this.names = Collections.unmodifiableList(new ArrayList<String>(collector.positions.keySet()));
+        this.positions = collector.positions;
+        this.types = collector.types.toArray(new DataType[collector.types.size()]);
+        this.slots = new int[collector.slots.size()];
+        this.constants = collector.constants.toArray();
+        this.constantTypes = collector.constantTypes.toArray(new Class[collector.constantTypes.size()]);
+        this.values = collector.values.toArray();
+
+        for (int i = 0; i < slots.length; i++) {
+            slots[i] = collector.slots.get(i);
+        }
+    }
+
+    private CompiledQueryImpl(CompiledQueryImpl<R> copy, Object[] values) {
+        this.configuration = copy.configuration;
+        this.recordType = copy.recordType;
+        this.fields = copy.fields;
+        this.sql = copy.sql;
+        this.markers = copy.markers;
+        this.names = copy.names;
+        this.positions = copy.positions;
+        this.types = copy.types;
+        this.slots = copy.slots;
+        this.constants = copy.constants;
+        this.constantTypes = copy.constantTypes;
+        this.values = values;
+    }
+
+    // ------------------------------------------------------------------------
+    // XXX: CompiledQuery API
+    // ------------------------------------------------------------------------
+
+    
+    public final String getSQL() {
+        return sql;
+    }
+
+    
+    public final List<String> getParamNames() {
+        return names;
+    }
+
+    
+    public final List<Object> getBindValues() {
+        return Collections.unmodifiableList(Arrays.asList(values.clone()));
+    }
+
+    
+    public final CompiledQuery<R> bind(int index, Object value) {
+        if (index < 1 || index > values.length) {
+            throw new IllegalArgumentException("Index out of range for CompiledQuery parameters : " + index);
+        }
+
+        Object[] copy = values.clone();
+        copy[index - 1] = types[index - 1].convert(value);
+        return new CompiledQueryImpl<R>(this, copy);
+    }
+
+    
+    public final CompiledQuery<R> bind(String param, Object value) {
+        Integer position = positions.get(param);
+
+        if (position == null) {
+            try {
+                return bind(Integer.valueOf(param), value);
+            }
+            catch (NumberFormatException e) {
+                throw new IllegalArgumentException("No such parameter : " + param);
+            }
+        }
+
+        return bind(position + 1, value);
+    }
+
+    
+    public final CompiledQuery<R> bindValues(Object... v) {
+        if (v == null || v.length != values.length) {
+            throw new IllegalArgumentException("Expected " + values.length + " bind values, got : " + (v == null ? null : v.length));
+        }
+
+        Object[] copy = new Object[v.length];
+        for (int i = 0; i < v.length; i++) {
+            copy[i] = types[i].convert(v[i]);
+        }
+
+        return new CompiledQueryImpl<R>(this, copy);
+    }
+
+    
+    public final Result<R> fetch() {
+        return new Execution<R>(this).fetch();
+    }
+
+    
+    public final R fetchOne() {
+        return new Execution<R>(this).fetchOne();
+    }
+
+    
+    public final Cursor<R> fetchLazy() {
+        return new Execution<R>(this).fetchLazy();
+    }
+
+    // ------------------------------------------------------------------------
+    // XXX: Object API
+    // ------------------------------------------------------------------------
+
+    
+    public String toString() {
+        return sql;
+    }
+
+    // ------------------------------------------------------------------------
+    // XXX: Execution
+    // ------------------------------------------------------------------------
+
+    /**
+     * A single execution of a compiled query
+     */
+    private static class Execution<R extends Record> extends AbstractResultQuery<R> {
+
+        /**
+         * Generated UID
+         */
+        private static final long          serialVersionUID = 3596327513947620473L;
+
+        private final CompiledQueryImpl<R> compiled;
+
+        Execution(CompiledQueryImpl<R> compiled) {
+            super(compiled.configuration);
+
+            this.compiled = compiled;
+        }
+
+        
+        public final void toSQL(RenderContext context) {
+
+            // Inlined SQL is only needed for logging, as executions are always
+            // prepared.
+            // Replace each bind value marker by its inlined value
+            if (context.paramType() == INLINED && compiled.markers != null) {
+                int start = 0;
+
+                for (int i = 0; i < compiled.markers.length; i++) {
+                    context.sql(compiled.sql.substring(start, compiled.markers[i]), true)
+                           .visit(val(value(i), type(i)));
+
+                    start = compiled.markers[i] + 1;
+                }
+
+                context.sql(compiled.sql.substring(start), true);
+            }
+            else {
+                context.sql(compiled.sql, true);
+            }
+        }
+
+        
+        public final void bind(BindContext context) {
+            for (int i = 0; i < compiled.slots.length; i++) {
+                context.bindValue(value(i), type(i));
+            }
+        }
+
+        private final Object value(int slot) {
+            int position = compiled.slots[slot];
+            return position >= 0 ? compiled.values[position] : compiled.constants[-1 - position];
+        }
+
+        private final Class<?> type(int slot) {
+            int position = compiled.slots[slot];
+            return position >= 0 ? compiled.types[position].getType() : compiled.constantTypes[-1 - position];
+        }
+
+        
+        public final Clause[] clauses(Context<?> ctx) {
+            return null;
+        }
+
+        
+        public final Class<? extends R> getRecordType() {
+            return compiled.recordType;
+        }
+
+        
+        protected final Field<?>[] getFields(ResultSetMetaData meta) {
+            if (compiled.fields != null) {
+                return compiled.fields;
+            }
+
+            return new MetaDataFieldProvider(configuration(), meta).getFields();
+        }
+
+        
+        final boolean isSelectingRefCursor() {
+            if (compiled.fields != null) {
+                for (Field<?> field : compiled.fields) {
+                    if (Result.class.isAssignableFrom(field.getType())) {
+                        return true;
+                    }
+                }
+            }
+
+            return false;
+        }
+
+        
+        final boolean isForUpdate() {
+            return false;
+        }
+    }
+
+    // ------------------------------------------------------------------------
+    // XXX: Compilation
+    // ------------------------------------------------------------------------
+
+    /**
+     * Derive a configuration that always executes prepared statements with
+     * indexed bind values.
+     */
+    private static final Configuration prepared(Configuration configuration) {
+        Settings settings = configuration.settings() == null
+            ? new Settings()
+            : SettingsTools.clone(configuration.settings());
+
+        return configuration.derive(settings
+            .withStatementType(PREPARED_STATEMENT)
+            .withParamType(INDEXED));
+    }
+
+    /**
+     * Render the compiled SQL string, rejecting queries whose bind values
+     * would have to be inlined.
+     */
+    private static final String render(Configuration configuration, ResultQuery<?> query) {
+        DefaultRenderContext render = new DefaultRenderContext(configuration);
+        render.data(DATA_COUNT_BIND_VALUES, true);
+
+        try {
+            return render.paramType(INDEXED).visit(query).render();
+        }
+        catch (DefaultRenderContext.ForceInlineSignal e) {
+            throw new IllegalArgumentException("Cannot compile a query with more bind values than supported by " + configuration.dialect());
+        }
+    }
+
+    /**
+     * Find the positions of all <code>?</code> bind value markers, skipping
+     * comments, string literals and quoted identifiers.
+     */
+    private static final int[] markers(String s, int slots) {
+        int[] result = new int[slots];
+        int count = 0;
+        int length = s.length();
+
+        for (int i = 0; i < length; i++) {
+            char c = s.charAt(i);
+
+            if (c == '-' && s.startsWith("--", i)) {
+                for (; i < length && s.charAt(i) != '\r' && s.charAt(i) != '\n'; i++);
+            }
+            else if (c == '/' && s.startsWith("/*", i)) {
+                int end = s.indexOf("*/", i + 2);
+                i = end < 0 ? length : end + 1;
+            }
+
+            // String literals and quoted identifiers. Escaped delimiters are
+            // doubled, and can be consumed as two adjacent quoted sections
+            else if (c == '\'' || c == '"' || c == '`') {
+                int end = s.indexOf(c, i + 1);
+                i = end < 0 ? length : end;
+            }
+            else if (c == '?') {
+                if (count == result.length) {
+                    return null;
+                }
+
+                result[count++] = i;
+            }
+        }
+
+        return count == result.length ? result : null;
+    }
+
+    /**
+     * A stub {@link BindContext} that collects bind value slots in the order
+     * in which they are bound.
+     */
+    private static class Collector extends AbstractBindContext {
+
+        final Map<String, Integer> positions     = new LinkedHashMap<String, Integer>();
+        final List<DataType<?>>    types         = new ArrayList<DataType<?>>();
+        final List<Object>         values        = new ArrayList<Object>();
+        final List<Integer>        slots         = new ArrayList<Integer>();
+        final List<Object>         constants     = new ArrayList<Object>();
+        final List<Class<?>>       constantTypes = new ArrayList<Class<?>>();
+
+        Collector(Configuration configuration) {
+            super(configuration);
+        }
+
+        
+        public final PreparedStatement statement() {
+            throw new UnsupportedOperationException();
+        }
+
+        
+        protected final void bindInternal(QueryPartInternal internal) {
+            if (internal instanceof Param) {
+                Param<?> param = (Param<?>) internal;
+
+                // Inlined parameters are part of the compiled SQL string
+                if (!param.isInline()) {
+                    String name = param.getParamName();
+                    Integer position = StringUtils.isBlank(name) ? null : positions.get(name);
+
+                    // Named parameters with the same name share their bind
+                    // value
+                    if (position == null) {
+                        position = types.size();
+                        positions.put(StringUtils.isBlank(name) ? String.valueOf(position + 1) : name, position);
+                        types.add(param.getDataType());
+                        values.add(param.getValue());
+                    }
+
+                    slots.add(position);
+                }
+            }
+            else {
+                super.bindInternal(internal);
+            }
+        }
+
+        
+        protected final BindContext bindValue0(Object value, Class<?> type) {
+
+            // Custom QueryParts may bind values without a Param. Those values
+            // cannot be bound anew
+            slots.add(-1 - constants.size());
+            constants.add(value);
+            constantTypes.add(type);
+            return this;
+        }
+    }
+}
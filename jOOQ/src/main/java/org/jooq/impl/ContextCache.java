@@ -0,0 +1,154 @@
+/**
+ * Copyright (c) 2009-2013, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq.impl;
+
+import java.lang.ref.SoftReference;
+import java.sql.PreparedStatement;
+
+import org.jooq.Configuration;
+
+/**
+ * A per-thread cache of reusable {@link DefaultRenderContext} and
+ * {@link DefaultBindContext} instances.
+ * <p>
+ * Render and bind contexts are needed for every query execution. Instead of
+ * allocating new contexts (and their internal buffers) every time, jOOQ
+ * internals can borrow a context from this cache and return it after usage.
+ * Borrowed contexts are removed from the cache until they are returned, such
+ * that nested (reentrant) rendering or binding on the same thread transparently
+ * falls back to allocating new contexts.
+ * <p>
+ * Contexts are referenced softly, in order not to prevent their garbage
+ * collection under memory pressure.
+ *
+ * @author Lukas Eder
+ */
+final class ContextCache {
+
+    /**
+     * The maximum SQL buffer capacity that is retained in the cache. Contexts
+     * that have rendered larger SQL strings are discarded.
+     */
+    private static final int                                      MAX_CAPACITY = 64 * 1024;
+    private static final ThreadLocal<SoftReference<ContextCache>> CACHE        = new ThreadLocal<SoftReference<ContextCache>>();
+
+    private DefaultRenderContext                                  render;
+    private DefaultBindContext                                    bind;
+
+    private ContextCache() {}
+
+    /**
+     * Borrow a {@link DefaultRenderContext} from the cache, or create a new one
+     * if none is available.
+     *
+     * @param configuration The configuration
+     * @param capacity The expected length of the rendered SQL, or
+     *            <code>0</code> if unknown
+     */
+    static final DefaultRenderContext renderContext(Configuration configuration, int capacity) {
+        ContextCache cache = cache();
+        DefaultRenderContext result = cache.render;
+
+        if (result != null) {
+            cache.render = null;
+            result.reset(configuration);
+            result.ensureCapacity(capacity);
+            return result;
+        }
+
+        return new DefaultRenderContext(configuration, capacity);
+    }
+
+    /**
+     * Return a {@link DefaultRenderContext} to the cache.
+     * <p>
+     * The context must no longer be used by the caller after this call.
+     */
+    static final void release(DefaultRenderContext context) {
+        if (context.capacity() <= MAX_CAPACITY) {
+
+            // Don't retain references to the configuration or any listeners
+            context.reset(null);
+            cache().render = context;
+        }
+    }
+
+    /**
+     * Borrow a {@link DefaultBindContext} from the cache, or create a new one
+     * if none is available.
+     */
+    static final DefaultBindContext bindContext(Configuration configuration, PreparedStatement stmt) {
+        ContextCache cache = cache();
+        DefaultBindContext result = cache.bind;
+
+        if (result != null) {
+            cache.bind = null;
+            result.reset(configuration, stmt);
+            return result;
+        }
+
+        return new DefaultBindContext(configuration, stmt);
+    }
+
+    /**
+     * Return a {@link DefaultBindContext} to the cache.
+     * <p>
+     * The context must no longer be used by the caller after this call.
+     */
+    static final void release(DefaultBindContext context) {
+
+        // Don't retain references to the configuration or the statement
+        context.reset(null, null);
+        cache().bind = context;
+    }
+
+    private static final ContextCache cache() {
+        SoftReference<ContextCache> ref = CACHE.get();
+        ContextCache result = ref == null ? null : ref.get();
+
+        if (result == null) {
+            result = new ContextCache();
+            CACHE.set(new SoftReference<ContextCache>(result));
+        }
+
+        return result;
+    }
+}
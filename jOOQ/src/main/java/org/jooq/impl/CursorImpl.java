@@ -43,8 +43,13 @@ package org.jooq.impl;
 import static java.lang.Boolean.TRUE;
 import static org.jooq.impl.Utils.DATA_LOCK_ROWS_FOR_UPDATE;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.Reader;
+import java.io.Writer;
 import java.math.BigDecimal;
 import java.net.URL;
 import java.sql.Array;
@@ -66,41 +71,49 @@ import java.util.Calendar;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
+import org.jooq.ConnectionProvider;
 import org.jooq.Cursor;
 import org.jooq.ExecuteContext;
 import org.jooq.ExecuteListener;
 import org.jooq.Field;
 import org.jooq.Record;
 import org.jooq.RecordHandler;
+import org.jooq.RecordListener;
 import org.jooq.RecordMapper;
 import org.jooq.RecordType;
 import org.jooq.Result;
 import org.jooq.Row;
 import org.jooq.Table;
+import org.jooq.exception.DataAccessException;
 import org.jooq.tools.JooqLogger;
 import org.jooq.tools.jdbc.JDBC41ResultSet;
 import org.jooq.tools.jdbc.JDBCUtils;
+import org.jooq.tools.json.JSONWriter;
 
 /**
  * @author Lukas Eder
  */
 class CursorImpl<R extends Record> implements Cursor<R> {
 
-    private static final JooqLogger   log = JooqLogger.getLogger(CursorImpl.class);
+    private static final JooqLogger    log = JooqLogger.getLogger(CursorImpl.class);
 
-    private final ExecuteContext      ctx;
-    private final ExecuteListener     listener;
-    private final Field<?>[]          fields;
-    private final boolean[]           intern;
-    private final boolean             keepResultSet;
-    private final boolean             keepStatement;
-    private final Class<? extends R>  type;
-    private boolean                   isClosed;
+    private final ExecuteContext       ctx;
+    private final ExecuteListener      listener;
+    private final Field<?>[]           fields;
+    private final Interner             interner;
+    private final boolean              keepResultSet;
+    private final boolean              keepStatement;
+    private final Class<? extends R>   type;
+    private volatile boolean           isClosed;
+    private int                        prefetch;
 
-    private transient CursorResultSet rs;
-    private transient Iterator<R>     iterator;
-    private transient int             rows;
+    private transient CursorResultSet  rs;
+    private transient Iterator<R>      iterator;
+    private transient CursorPrefetcher prefetcher;
+    private transient int              rows;
 
     @SuppressWarnings("unchecked")
     CursorImpl(ExecuteContext ctx, ExecuteListener listener, Field<?>[] fields, int[] internIndexes, boolean keepStatement, boolean keepResultSet) {
@@ -115,13 +128,7 @@ class CursorImpl<R extends Record> implements Cursor<R> {
         this.keepStatement = keepStatement;
         this.keepResultSet = keepResultSet;
         this.rs = new CursorResultSet();
-        this.intern = new boolean[fields.length];
-
-        if (internIndexes != null) {
-            for (int i : internIndexes) {
-                intern[i] = true;
-            }
-        }
+        this.interner = Interner.interner(ctx.configuration(), fields, internIndexes);
     }
 
     @SuppressWarnings({ "unchecked", "rawtypes" })
@@ -159,14 +166,32 @@ class CursorImpl<R extends Record> implements Cursor<R> {
     
     public final Iterator<R> iterator() {
         if (iterator == null) {
-            iterator = new CursorIterator();
-            listener.fetchStart(ctx);
+            if (prefetch > 0) {
+                prefetcher = new CursorPrefetcher(prefetch);
+                iterator = prefetcher;
+                listener.fetchStart(ctx);
+                prefetcher.start();
+            }
+            else {
+                iterator = new CursorIterator();
+                listener.fetchStart(ctx);
+            }
         }
 
         return iterator;
     }
 
     
+    public final Cursor<R> prefetch(int size) {
+        if (iterator != null) {
+            throw new IllegalStateException("Cannot prefetch records once records have been fetched from this cursor");
+        }
+
+        prefetch = size;
+        return this;
+    }
+
+    
     public final boolean hasNext() {
         return iterator().hasNext();
     }
@@ -257,6 +282,14 @@ class CursorImpl<R extends Record> implements Cursor<R> {
 
     
     public final void close() {
+        if (prefetcher != null) {
+            prefetcher.cancel();
+        }
+
+        close0();
+    }
+
+    private final void close0() {
         JDBCUtils.safeClose(rs);
         rs = null;
         isClosed = true;
@@ -272,6 +305,88 @@ class CursorImpl<R extends Record> implements Cursor<R> {
         return rs;
     }
 
+    
+    public final void exportCSV(Writer writer) throws IOException {
+        exportCSV(writer, ',', "");
+    }
+
+    
+    public final void exportCSV(Writer writer, char delimiter) throws IOException {
+        exportCSV(writer, delimiter, "");
+    }
+
+    
+    public final void exportCSV(Writer writer, char delimiter, String nullString) throws IOException {
+        Writer out = new BufferedWriter(writer);
+        Object[] row = new Object[fields.length];
+
+        ResultImpl.formatCSVHeader(out, fields, delimiter);
+
+        while (fetchRow(row)) {
+            for (int index = 0; index < row.length; index++) {
+                ResultImpl.formatCSVValue(out, index, row[index], delimiter, nullString);
+            }
+
+            out.append("\n");
+        }
+
+        out.flush();
+    }
+
+    
+    public final void exportJSON(Writer writer) throws IOException {
+        JSONWriter json = new JSONWriter(new BufferedWriter(writer));
+        Object[] row = new Object[fields.length];
+
+        ResultImpl.formatJSONHeader(json, fields);
+
+        while (fetchRow(row)) {
+            json.beginArray();
+
+            for (int index = 0; index < row.length; index++) {
+                json.value(row[index]);
+            }
+
+            json.endArray();
+        }
+
+        ResultImpl.formatJSONFooter(json);
+        json.flush();
+    }
+
+    
+    public final void exportJSON(OutputStream stream) throws IOException {
+        exportJSON(new OutputStreamWriter(stream, "UTF-8"));
+    }
+
+    /**
+     * Fetch the values of the next row into a reusable buffer.
+     * <p>
+     * Unlike {@link #fetchOne()}, this reads values directly from the
+     * underlying {@link ResultSet} without creating {@link Record} instances,
+     * unless records have already been pre-fetched.
+     *
+     * @return Whether a row was fetched
+     */
+    private final boolean fetchRow(Object[] row) {
+        Iterator<R> it = iterator();
+
+        if (it instanceof CursorImpl.CursorIterator) {
+            return ((CursorIterator) it).fetchRow(row);
+        }
+
+        if (!it.hasNext()) {
+            return false;
+        }
+
+        R record = it.next();
+        for (int index = 0; index < row.length; index++) {
+            row[index] = record.getValue(index);
+        }
+
+        return true;
+    }
+
     /**
      * A wrapper for the underlying JDBC {@link ResultSet} and {@link Statement}
      */
@@ -1373,6 +1488,11 @@ class CursorImpl<R extends Record> implements Cursor<R> {
          */
         private final CursorRecordInitialiser initialiser = new CursorRecordInitialiser();
 
+        /**
+         * The record listeners, resolved once for all records of this cursor.
+         */
+        private final RecordListener[]        recordListeners = RecordDelegate.listeners(ctx.configuration());
+
         
         public final boolean hasNext() {
             if (hasNext == null) {
@@ -1395,8 +1515,24 @@ class CursorImpl<R extends Record> implements Cursor<R> {
             return result;
         }
 
-        @SuppressWarnings("unchecked")
         private final R fetchOne() {
+            R record = fetchOne0();
+
+            // [#1868] [#2373] [#2385] This calls through to Utils.safeClose()
+            // if necessary, lazy-terminating the ExecuteListener lifecycle if
+            // the result is not eager-fetched.
+            if (record == null) {
+                CursorImpl.this.close0();
+            }
+
+            return record;
+        }
+
+        /**
+         * Fetch the next record without closing the cursor after the last one.
+         */
+        @SuppressWarnings("unchecked")
+        final R fetchOne0() {
             AbstractRecord record = null;
 
             try {
@@ -1410,7 +1546,7 @@ class CursorImpl<R extends Record> implements Cursor<R> {
                     }
 
                     record = Utils.newRecord((Class<AbstractRecord>) type, fields, ctx.configuration())
-                                  .operate(initialiser);
+                                  .operate(initialiser, recordListeners);
 
                     rows++;
                 }
@@ -1421,14 +1557,59 @@ class CursorImpl<R extends Record> implements Cursor<R> {
                 throw ctx.exception();
             }
 
-            // [#1868] [#2373] [#2385] This calls through to Utils.safeClose()
-            // if necessary, lazy-terminating the ExecuteListener lifecycle if
-            // the result is not eager-fetched.
-            if (record == null) {
-                CursorImpl.this.close();
+            return (R) record;
+        }
+
+        /**
+         * Read the next row into a buffer, bypassing record creation.
+         */
+        final boolean fetchRow(Object[] row) {
+
+            // A record may have been pre-fetched by hasNext(). Also, records
+            // are needed to simulate FOR UPDATE row locks.
+            if (hasNext != null || TRUE.equals(ctx.data(DATA_LOCK_ROWS_FOR_UPDATE))) {
+                R record = next();
+
+                if (record == null) {
+                    return false;
+                }
+
+                for (int index = 0; index < row.length; index++) {
+                    row[index] = record.getValue(index);
+                }
+
+                return true;
             }
 
-            return (R) record;
+            boolean fetched = false;
+
+            try {
+                if (!isClosed && rs.next()) {
+                    for (int index = 0; index < row.length; index++) {
+                        Object value = Utils.getFromResultSet(ctx, fields[index], index + 1);
+
+                        if (interner != null) {
+                            value = interner.intern(index, value);
+                        }
+
+                        row[index] = value;
+                    }
+
+                    rows++;
+                    fetched = true;
+                }
+            }
+            catch (SQLException e) {
+                ctx.sqlException(e);
+                listener.exception(ctx);
+                throw ctx.exception();
+            }
+
+            if (!fetched) {
+                CursorImpl.this.close0();
+            }
+
+            return fetched;
         }
 
         
@@ -1445,10 +1626,6 @@ class CursorImpl<R extends Record> implements Cursor<R> {
 
                 for (int i = 0; i < fields.length; i++) {
                     setValue(record, fields[i], i);
-
-                    if (intern[i]) {
-                        record.getValue0(i).intern();
-                    }
                 }
 
                 ctx.record(record);
@@ -1462,8 +1639,178 @@ class CursorImpl<R extends Record> implements Cursor<R> {
              */
             private final <T> void setValue(AbstractRecord record, Field<T> field, int index) throws SQLException {
                 T value = Utils.getFromResultSet(ctx, field, index + 1);
+
+                if (interner != null) {
+                    value = interner.intern(index, value);
+                }
+
                 record.setValue(index, new Value<T>(value));
             }
         }
     }
+
+    /**
+     * An iterator for records prefetched by a background thread
+     * <p>
+     * The background thread only reads records. Closing the cursor, which
+     * terminates the {@link ExecuteListener} lifecycle and releases the
+     * connection, is left to the consuming thread, as {@link ConnectionProvider}
+     * implementations may be bound to it.
+     */
+    final class CursorPrefetcher implements Iterator<R>, Runnable {
+
+        /**
+         * The marker for the end of the prefetched records.
+         */
+        private final Object                END = new Object();
+
+        /**
+         * The iterator consumed by the background thread.
+         */
+        private final CursorIterator        delegate;
+
+        /**
+         * The bounded buffer of prefetched records.
+         */
+        private final BlockingQueue<Object> buffer;
+        private final Thread                thread;
+
+        /**
+         * Whether client code has closed the cursor.
+         */
+        private volatile boolean            cancelled;
+
+        /**
+         * An exception thrown on the background thread, published to the
+         * consumer by the {@link #END} marker.
+         */
+        private volatile Throwable          failure;
+
+        /**
+         * The consumer's next record, or <code>null</code> if not yet taken
+         * from the buffer.
+         */
+        private R                           next;
+        private boolean                     done;
+
+        CursorPrefetcher(int size) {
+            this.delegate = new CursorIterator();
+            this.buffer = new ArrayBlockingQueue<Object>(size);
+            this.thread = new Thread(this, "jOOQ cursor prefetcher");
+            this.thread.setDaemon(true);
+        }
+
+        final void start() {
+            thread.start();
+        }
+
+        /**
+         * Stop prefetching and wait for the background thread to terminate.
+         */
+        final void cancel() {
+            cancelled = true;
+
+            // Unblock the background thread, if it waits for buffer capacity.
+            // It will put at most one more record before noticing the
+            // cancellation
+            buffer.clear();
+
+            if (Thread.currentThread() != thread) {
+                try {
+                    thread.join();
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            buffer.clear();
+            done = true;
+            next = null;
+        }
+
+        
+        public final void run() {
+            try {
+                R record;
+
+                while (!cancelled && (record = delegate.fetchOne0()) != null) {
+                    buffer.put(record);
+                }
+            }
+            catch (Throwable e) {
+                failure = e;
+            }
+            finally {
+                if (!cancelled) {
+                    try {
+                        buffer.put(END);
+                    }
+                    catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+        }
+
+        
+        public final boolean hasNext() {
+            if (next == null) {
+                next = take();
+            }
+
+            return next != null;
+        }
+
+        
+        public final R next() {
+            R result = (next != null) ? next : take();
+            next = null;
+            return result;
+        }
+
+        @SuppressWarnings("unchecked")
+        private final R take() {
+            if (done) {
+                return null;
+            }
+
+            Object o;
+            try {
+                o = buffer.take();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new DataAccessException("Interrupted while waiting for prefetched records", e);
+            }
+
+            if (o == END) {
+                done = true;
+
+                Throwable t = failure;
+                if (t == null) {
+                    CursorImpl.this.close0();
+                }
+
+                if (t instanceof RuntimeException) {
+                    throw (RuntimeException) t;
+                }
+                else if (t instanceof Error) {
+                    throw (Error) t;
+                }
+                else if (t != null) {
+                    throw new DataAccessException("Error while prefetching records", t);
+                }
+
+                return null;
+            }
+
+            return (R) o;
+        }
+
+        
+        public final void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
 }
@@ -59,8 +59,16 @@ import org.jooq.exception.DataTypeException;
  */
 final class DataTypes {
 
-    private static final Map<Class<?>, Converter<?, ?>> CONVERTERS  = new HashMap<Class<?>, Converter<?, ?>>();
-    private static final Map<String, Class<?>>          UDT_RECORDS = new HashMap<String, Class<?>>();
+    /**
+     * The registered converters and UDT records.
+     * <p>
+     * These maps are never modified once they are published. Registration
+     * replaces them by modified copies ("copy-on-write"). This allows for
+     * unsynchronised, contention-free lookups from the fetch and bind hot
+     * paths, while registration is comparatively rare.
+     */
+    private static volatile Map<Class<?>, Converter<?, ?>> CONVERTERS  = Collections.emptyMap();
+    private static volatile Map<String, Class<?>>          UDT_RECORDS = Collections.emptyMap();
 
     // ------------------------------------------------------------------------
     // XXX: Public API used for initialisation from generated artefacts
@@ -109,7 +117,9 @@ final class DataTypes {
 
         // A converter can be registered only once
         if (!CONVERTERS.containsKey(customType)) {
-            CONVERTERS.put(customType, converter);
+            Map<Class<?>, Converter<?, ?>> copy = new HashMap<Class<?>, Converter<?, ?>>(CONVERTERS);
+            copy.put(customType, converter);
+            CONVERTERS = Collections.unmodifiableMap(copy);
         }
     }
 
@@ -125,7 +135,9 @@ final class DataTypes {
 
         // A mapping can be registered only once
         if (!UDT_RECORDS.containsKey(name)) {
-            UDT_RECORDS.put(name, type);
+            Map<String, Class<?>> copy = new HashMap<String, Class<?>>(UDT_RECORDS);
+            copy.put(name, type);
+            UDT_RECORDS = Collections.unmodifiableMap(copy);
         }
     }
 
@@ -136,13 +148,18 @@ final class DataTypes {
 
     @SuppressWarnings("unchecked")
     static final <U> Converter<?, U> converter(Class<U> customType) {
+        Map<Class<?>, Converter<?, ?>> converters = CONVERTERS;
+
+        // Most applications don't register any converters
+        if (converters.isEmpty()) {
+            return null;
+        }
 
-        // TODO: Is synchronisation needed? How to implement it most efficiently?
-        return (Converter<?, U>) CONVERTERS.get(customType);
+        return (Converter<?, U>) converters.get(customType);
     }
 
     static final Map<String, Class<?>> udtRecords() {
-        return Collections.unmodifiableMap(UDT_RECORDS);
+        return UDT_RECORDS;
     }
 
     /**
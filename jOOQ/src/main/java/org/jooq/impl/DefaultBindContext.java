@@ -88,7 +88,7 @@ class DefaultBindContext extends AbstractBindContext {
 
     private static final JooqLogger log              = JooqLogger.getLogger(DefaultBindContext.class);
 
-    private final PreparedStatement stmt;
+    private PreparedStatement       stmt;
 
     DefaultBindContext(Configuration configuration, PreparedStatement stmt) {
         super(configuration);
@@ -96,6 +96,16 @@ class DefaultBindContext extends AbstractBindContext {
         this.stmt = stmt;
     }
 
+    /**
+     * Reset this context for reuse with a new {@link Configuration} and a new
+     * {@link PreparedStatement}.
+     */
+    final void reset(Configuration c, PreparedStatement s) {
+        reset(c);
+
+        this.stmt = s;
+    }
+
     
     public final PreparedStatement statement() {
         return stmt;
@@ -73,6 +73,7 @@ import org.jooq.Attachable;
 import org.jooq.Batch;
 import org.jooq.BatchBindStep;
 import org.jooq.BindContext;
+import org.jooq.CompiledQuery;
 import org.jooq.Condition;
 import org.jooq.Configuration;
 import org.jooq.ConnectionProvider;
@@ -136,6 +137,7 @@ import org.jooq.MergeKeyStepN;
 import org.jooq.MergeUsingStep;
 import org.jooq.Meta;
 import org.jooq.Param;
+import org.jooq.Pipeline;
 import org.jooq.Query;
 import org.jooq.QueryPart;
 import org.jooq.Record;
@@ -164,6 +166,7 @@ import org.jooq.Record9;
 import org.jooq.RenderContext;
 import org.jooq.Result;
 import org.jooq.ResultQuery;
+import org.jooq.Routine;
 import org.jooq.SQLDialect;
 import org.jooq.Schema;
 import org.jooq.Select;
@@ -184,7 +187,7 @@ import org.jooq.conf.Settings;
 import org.jooq.exception.DataAccessException;
 import org.jooq.exception.SQLDialectNotSupportedException;
 import org.jooq.impl.BatchCRUD.Action;
-import org.jooq.tools.csv.CSVReader;
+import org.jooq.tools.csv.CSVTokenizer;
 
 /**
  * A default implementation for {@link DSLContext}.
@@ -276,7 +279,7 @@ public class DefaultDSLContext implements DSLContext, Serializable {
 
     
     public Meta meta() {
-        return new MetaImpl(configuration);
+        return MetaImpl.meta(configuration);
     }
 
     // -------------------------------------------------------------------------
@@ -609,11 +612,37 @@ public class DefaultDSLContext implements DSLContext, Serializable {
 
     
     public Result<Record> fetchFromCSV(String string, char delimiter) {
-        CSVReader reader = new CSVReader(new StringReader(string), delimiter);
-        List<String[]> data = null;
+        CSVTokenizer reader = new CSVTokenizer(new StringReader(string), delimiter);
 
         try {
-            data = reader.readAll();
+            String[] header = reader.readNext();
+
+            if (header == null) {
+                return new ResultImpl<Record>(configuration);
+            }
+
+            List<Field<?>> fields = new ArrayList<Field<?>>();
+
+            for (String name : header) {
+                fields.add(fieldByName(String.class, name));
+            }
+
+            Result<Record> result = new ResultImpl<Record>(configuration, fields);
+            int columns;
+
+            // Records are populated directly from the tokenizer's row buffer
+            while ((columns = reader.readRow()) >= 0) {
+                String[] values = reader.row();
+                RecordImpl record = new RecordImpl(fields);
+
+                for (int i = 0; i < Math.min(columns, fields.size()); i++) {
+                    record.setValue(i, new Value<Object>(values[i]));
+                }
+
+                result.add(record);
+            }
+
+            return result;
         }
         catch (IOException e) {
             throw new DataAccessException("Could not read the CSV string", e);
@@ -624,8 +653,6 @@ public class DefaultDSLContext implements DSLContext, Serializable {
             }
             catch (IOException ignore) {}
         }
-
-        return fetchFromStringData(data);
     }
 
     
@@ -1417,6 +1444,30 @@ public class DefaultDSLContext implements DSLContext, Serializable {
         return batchDelete(records.toArray(new UpdatableRecord[records.size()]));
     }
 
+    
+    public Batch batchCall(Routine<?>... routines) {
+        return new BatchRoutine(configuration, routines);
+    }
+
+    
+    public Batch batchCall(Collection<? extends Routine<?>> routines) {
+        return batchCall(routines.toArray(new Routine[routines.size()]));
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX Pipelined query execution
+    // -------------------------------------------------------------------------
+
+    
+    public Pipeline pipeline(Query... queries) {
+        return new PipelineImpl(configuration, queries);
+    }
+
+    
+    public Pipeline pipeline(Collection<? extends Query> queries) {
+        return pipeline(queries.toArray(new Query[queries.size()]));
+    }
+
     // -------------------------------------------------------------------------
     // XXX DDL Statements
     // -------------------------------------------------------------------------
@@ -1660,6 +1711,11 @@ public class DefaultDSLContext implements DSLContext, Serializable {
         return new ResultImpl<R>(configuration, table.fields());
     }
 
+    
+    public Result<Record> newResult(Field<?>... fields) {
+        return new ResultImpl<Record>(configuration, fields);
+    }
+
     // -------------------------------------------------------------------------
     // XXX Executing queries
     // -------------------------------------------------------------------------
@@ -1717,6 +1773,11 @@ public class DefaultDSLContext implements DSLContext, Serializable {
     }
 
     
+    public <R extends Record> CompiledQuery<R> compile(ResultQuery<R> query) {
+        return new CompiledQueryImpl<R>(configuration, query);
+    }
+
+    
     public int fetchCount(Select<?> query) {
         return new FetchCount(configuration(), query).fetchOne().value1();
     }
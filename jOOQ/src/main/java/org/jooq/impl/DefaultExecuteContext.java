@@ -79,7 +79,7 @@ class DefaultExecuteContext implements ExecuteContext {
     private final Configuration                  configuration;
     private final Map<Object, Object>            data;
     private final Query                          query;
-    private final Routine<?>                     routine;
+    private Routine<?>                           routine;
     private String                               sql;
 
     private final Query[]                        batchQueries;
@@ -363,6 +363,14 @@ class DefaultExecuteContext implements ExecuteContext {
         return routine;
     }
 
+    /**
+     * Set the routine that is currently being executed, in case of a batch of
+     * routines sharing this context.
+     */
+    final void routine(Routine<?> r) {
+        this.routine = r;
+    }
+
     
     public final void sql(String s) {
         this.sql = s;
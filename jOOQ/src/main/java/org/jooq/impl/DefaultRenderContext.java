@@ -87,9 +87,14 @@ class DefaultRenderContext extends AbstractContext<RenderContext> implements Ren
 
     private static final JooqLogger   log                = JooqLogger.getLogger(DefaultRenderContext.class);
 
-    private static final Pattern      IDENTIFIER_PATTERN = Pattern.compile("[A-Za-z][A-Za-z0-9_]*");
     private static final Pattern      NEWLINE            = Pattern.compile("[\\n\\r]");
     private static final Set<String>  SQLITE_KEYWORDS;
+    private static final VisitListener[] NO_VISIT_LISTENERS = new VisitListener[0];
+
+    // Cached identifier renderings per SQLDialect and RenderNameStyle
+    private static final int                            IDENTIFIER_CACHE_SIZE = 4096;
+    private static final int                            RENDER_NAME_STYLES    = RenderNameStyle.values().length;
+    private static final BoundedCache<String, String>[] IDENTIFIER_CACHE;
 
     private final StringBuilder       sql;
     private ParamType                 paramType;
@@ -108,33 +113,109 @@ class DefaultRenderContext extends AbstractContext<RenderContext> implements Ren
     private boolean                   cachedRenderFormatted;
 
     // [#2665] VisitListener API
-    final VisitListener[]             visitListeners;
-    private final DefaultVisitContext visitContext;
-    private final Deque<Clause>       visitClauses;
-    private final Deque<QueryPart>    visitParts;
+    VisitListener[]                   visitListeners;
+    private boolean                   visitListening;
+    private DefaultVisitContext       visitContext;
+    private Deque<Clause>             visitClauses;
+    private Deque<QueryPart>          visitParts;
 
     DefaultRenderContext(Configuration configuration) {
+        this(configuration, 0);
+    }
+
+    /**
+     * Create a new render context with an initial SQL buffer capacity.
+     *
+     * @param configuration The configuration
+     * @param capacity The expected length of the rendered SQL, or
+     *            <code>0</code> if unknown
+     */
+    DefaultRenderContext(Configuration configuration, int capacity) {
         super(configuration);
 
+        this.sql = capacity > 0 ? new StringBuilder(capacity) : new StringBuilder();
+
+        init();
+    }
+
+    /**
+     * Initialise the cached values from the {@link Configuration}.
+     */
+    private final void init() {
         Settings settings = configuration.settings();
 
-        this.sql = new StringBuilder();
         this.cachedRenderKeywordStyle = settings.getRenderKeywordStyle();
         this.cachedRenderFormatted = Boolean.TRUE.equals(settings.isRenderFormatted());
         this.cachedRenderNameStyle = settings.getRenderNameStyle();
 
         VisitListenerProvider[] providers = configuration.visitListenerProviders();
 
-        this.visitListeners = new VisitListener[providers.length];
-        this.visitContext = new DefaultVisitContext();
-        this.visitClauses = new ArrayDeque<Clause>();
-        this.visitParts = new ArrayDeque<QueryPart>();
+        // The visiting mode is chosen once per context. In the absence of
+        // VisitListeners, no clause and query part bookkeeping is needed
+        if (providers.length == 0) {
+            this.visitListeners = NO_VISIT_LISTENERS;
+            this.visitListening = false;
+        }
+        else {
+            this.visitListeners = new VisitListener[providers.length];
+            this.visitListening = true;
+
+            for (int i = 0; i < providers.length; i++) {
+                this.visitListeners[i] = providers[i].provide();
+            }
 
-        for (int i = 0; i < providers.length; i++) {
-            this.visitListeners[i] = providers[i].provide();
+            if (visitContext == null) {
+                this.visitContext = new DefaultVisitContext();
+                this.visitClauses = new ArrayDeque<Clause>();
+                this.visitParts = new ArrayDeque<QueryPart>();
+            }
         }
     }
 
+    
+    final void reset(Configuration c) {
+        super.reset(c);
+
+        sql.setLength(0);
+        paramType = null;
+        params = 0;
+        qualify = true;
+        alias = 0;
+        castMode = CastMode.DEFAULT;
+        castDialects = null;
+        indent = 0;
+        indentLock.clear();
+        printMargin = 80;
+
+        if (visitContext != null) {
+            visitClauses.clear();
+            visitParts.clear();
+        }
+
+        if (c != null) {
+            init();
+        }
+        else {
+            visitListeners = NO_VISIT_LISTENERS;
+            visitListening = false;
+        }
+    }
+
+    /**
+     * The current capacity of the SQL buffer.
+     */
+    final int capacity() {
+        return sql.capacity();
+    }
+
+    /**
+     * Make sure the SQL buffer can hold at least a given number of characters
+     * without resizing.
+     */
+    final void ensureCapacity(int capacity) {
+        sql.ensureCapacity(capacity);
+    }
+
     DefaultRenderContext(RenderContext context) {
         this(context.configuration());
 
@@ -152,7 +233,7 @@ class DefaultRenderContext extends AbstractContext<RenderContext> implements Ren
 
     
     public final RenderContext start(Clause clause) {
-        if (clause != null) {
+        if (visitListening && clause != null) {
             visitClauses.addLast(clause);
 
             for (VisitListener listener : visitListeners) {
@@ -165,7 +246,7 @@ class DefaultRenderContext extends AbstractContext<RenderContext> implements Ren
 
     
     public final RenderContext end(Clause clause) {
-        if (clause != null) {
+        if (visitListening && clause != null) {
             for (VisitListener listener : visitListeners) {
                 listener.clauseEnd(visitContext);
             }
@@ -179,11 +260,17 @@ class DefaultRenderContext extends AbstractContext<RenderContext> implements Ren
 
     
     public final RenderContext visit(QueryPart part) {
-        if (part != null) {
+
+        // Fast path, when no VisitListeners are registered
+        if (!visitListening) {
+            super.visit(part);
+        }
+
+        else if (part != null) {
 
             // Issue start clause events
             // -----------------------------------------------------------------
-            Clause[] clauses = visitListeners.length > 0 ? clause(part) : null;
+            Clause[] clauses = clause(part);
             if (clauses != null)
                 for (int i = 0; i < clauses.length; i++)
                     start(clauses[i]);
@@ -518,52 +605,74 @@ class DefaultRenderContext extends AbstractContext<RenderContext> implements Ren
             return this;
         }
 
+        SQLDialect dialect = configuration.dialect();
+        RenderNameStyle style = cachedRenderNameStyle == null ? RenderNameStyle.AS_IS : cachedRenderNameStyle;
+
+        // Identifiers are rendered over and over again in the same way,
+        // for a given dialect and name style. Avoid re-calculating quoting and
+        // casing for the most frequent ones
+        BoundedCache<String, String> cache = IDENTIFIER_CACHE[dialect.ordinal() * RENDER_NAME_STYLES + style.ordinal()];
+        String rendered = cache.get(literal);
+
+        // The cache is bounded in order to avoid leaking memory when users
+        // render arbitrary, dynamic identifiers
+        if (rendered == null) {
+            rendered = cache.add(literal, literal(dialect, style, literal));
+        }
+
+        sql.append(rendered);
+        return this;
+    }
+
+    /**
+     * Render a literal in its quoted / cased form, without any caching.
+     */
+    private static final String literal(SQLDialect dialect, RenderNameStyle style, String literal) {
+
         // Quoting is needed when explicitly requested...
         boolean needsQuote =
-            (RenderNameStyle.QUOTED == cachedRenderNameStyle
+            (RenderNameStyle.QUOTED == style
 
         // [#2367] ... but in SQLite, quoting "normal" literals is generally
         // asking for trouble, as SQLite bends the rules here, see
         // http://www.sqlite.org/lang_keywords.html for details ...
-            && configuration.dialect() != SQLDialect.SQLITE)
+            && dialect != SQLDialect.SQLITE)
 
         ||
 
         // [#2367] ... yet, do quote when an identifier is a SQLite keyword
-            (configuration.dialect() == SQLDialect.SQLITE
+            (dialect == SQLDialect.SQLITE
             && SQLITE_KEYWORDS.contains(literal.toUpperCase()))
 
         ||
 
         // [#1982] ... yet, do quote when an identifier contains special characters
-            (!IDENTIFIER_PATTERN.matcher(literal).matches());
+            (!isIdentifier(literal));
 
-        if (RenderNameStyle.LOWER == cachedRenderNameStyle) {
+        if (RenderNameStyle.LOWER == style) {
             literal = literal.toLowerCase();
         }
-        else if (RenderNameStyle.UPPER == cachedRenderNameStyle) {
+        else if (RenderNameStyle.UPPER == style) {
             literal = literal.toUpperCase();
         }
 
         if (!needsQuote) {
-            sql(literal);
+            return literal;
         }
         else {
-            switch (configuration.dialect().family()) {
+            switch (dialect.family()) {
 
                 // MySQL supports backticks and double quotes
                 case MARIADB:
                 case MYSQL:
-                    sql("`").sql(StringUtils.replace(literal, "`", "``")).sql("`");
-                    break;
+                    return "`" + StringUtils.replace(literal, "`", "``") + "`";
 
                 /* [pro] xx
                 xx xxxxx xxxxxxxxx xxx xxxxxxxx
                 xxxx xxxx
                 xxxx xxxxxxxxxx
                 xxxx xxxxxxx
-                    xxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxxx xxxx xxxxxxxxxxxxxxxx
-                    xxxxxx
+                    xxxxxx xxx x xxxxxxxxxxxxxxxxxxxxxxxxxxxxxx xxxx xxxxx x xxxx
 
                 xx [/pro] */
                 // Most dialects implement the SQL standard, using double quotes
@@ -580,12 +689,39 @@ class DefaultRenderContext extends AbstractContext<RenderContext> implements Ren
                 case POSTGRES:
                 case SQLITE:
                 default:
-                    sql('"').sql(StringUtils.replace(literal, "\"", "\"\"")).sql('"');
-                    break;
+                    return '"' + StringUtils.replace(literal, "\"", "\"\"") + '"';
             }
         }
+    }
 
-        return this;
+    /**
+     * Whether a literal is a "simple" identifier, matching
+     * <code>[A-Za-z][A-Za-z0-9_]*</code>.
+     * <p>
+     * This is implemented without regular expressions, as it is called for
+     * every rendered identifier.
+     */
+    static final boolean isIdentifier(String literal) {
+        int length = literal.length();
+
+        if (length == 0) {
+            return false;
+        }
+
+        char c = literal.charAt(0);
+        if (!((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z'))) {
+            return false;
+        }
+
+        for (int i = 1; i < length; i++) {
+            c = literal.charAt(i);
+
+            if (!((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '_')) {
+                return false;
+            }
+        }
+
+        return true;
     }
 
     
@@ -742,6 +878,12 @@ class DefaultRenderContext extends AbstractContext<RenderContext> implements Ren
     // ------------------------------------------------------------------------
 
     static {
+        IDENTIFIER_CACHE = new BoundedCache[SQLDialect.values().length * RENDER_NAME_STYLES];
+
+        for (int i = 0; i < IDENTIFIER_CACHE.length; i++) {
+            IDENTIFIER_CACHE[i] = new BoundedCache<String, String>(IDENTIFIER_CACHE_SIZE);
+        }
+
         SQLITE_KEYWORDS = new HashSet<String>();
 
         // [#2367] Taken from http://www.sqlite.org/lang_keywords.html
@@ -41,6 +41,7 @@
 package org.jooq.impl;
 
 import static java.lang.Boolean.FALSE;
+import static java.lang.Boolean.TRUE;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -49,6 +50,7 @@ import org.jooq.ExecuteContext;
 import org.jooq.ExecuteListener;
 import org.jooq.ExecuteListenerProvider;
 import org.jooq.conf.Settings;
+import org.jooq.tools.AsyncLoggerListener;
 import org.jooq.tools.LoggerListener;
 import org.jooq.tools.StopWatchListener;
 
@@ -86,8 +88,17 @@ class ExecuteListeners implements ExecuteListener {
         List<ExecuteListener> result = new ArrayList<ExecuteListener>();
 
         if (!FALSE.equals(ctx.configuration().settings().isExecuteLogging())) {
-            result.add(new LoggerListener());
-            result.add(new StopWatchListener());
+            if (TRUE.equals(ctx.configuration().settings().isExecuteLoggingAsync())) {
+                result.add(new AsyncLoggerListener());
+            }
+            else {
+                result.add(new LoggerListener());
+                result.add(new StopWatchListener());
+            }
+        }
+
+        if (TRUE.equals(ctx.configuration().settings().isFetchSizeAdaptive())) {
+            result.add(new FetchSizeListener());
         }
 
         for (ExecuteListenerProvider provider : ctx.configuration().executeListenerProviders()) {
@@ -0,0 +1,150 @@
+/**
+ * Copyright (c) 2009-2013, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq.impl;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.Record;
+import org.jooq.conf.Settings;
+
+/**
+ * An {@link ExecuteListener} that observes the number of rows and columns
+ * fetched per SQL string, in order to adapt the JDBC fetch size of subsequent
+ * executions of the same SQL string.
+ * <p>
+ * This listener is active if {@link Settings#isFetchSizeAdaptive()} is set.
+ * The adapted fetch size is large enough to fetch the expected number of rows
+ * in a single round trip, but it is limited to roughly {@link #MAX_VALUES}
+ * values per round trip, in order to bound the JDBC driver's memory
+ * consumption for wide or large results.
+ *
+ * @author Lukas Eder
+ */
+class FetchSizeListener extends DefaultExecuteListener {
+
+    /**
+     * Generated UID
+     */
+    private static final long                                  serialVersionUID = -1529785958290446419L;
+
+    /**
+     * The lower bound for adapted fetch sizes.
+     */
+    static final int                                           MIN_FETCH_SIZE   = 10;
+
+    /**
+     * The approximate upper bound for values fetched per round trip.
+     */
+    static final int                                           MAX_VALUES       = 50000;
+
+    /**
+     * The maximum number of observed SQL strings.
+     */
+    private static final int                                   CACHE_SIZE       = 1024;
+    private static final ConcurrentHashMap<String, Statistics> STATISTICS       = new ConcurrentHashMap<String, Statistics>();
+
+    
+    public void fetchEnd(ExecuteContext ctx) {
+        String sql = ctx.sql();
+
+        if (sql != null) {
+            Record record = ctx.record();
+            int columns = (record == null) ? 1 : record.size();
+            Statistics statistics = STATISTICS.get(sql);
+
+            if (statistics != null) {
+                statistics.observe(ctx.rows(), columns);
+            }
+            else if (STATISTICS.size() < CACHE_SIZE) {
+                STATISTICS.putIfAbsent(sql, new Statistics(ctx.rows(), columns));
+            }
+        }
+    }
+
+    /**
+     * The adapted fetch size for a SQL string, or <code>0</code> if the SQL
+     * string has not been observed yet.
+     */
+    static int fetchSize(String sql) {
+        Statistics statistics = (sql == null) ? null : STATISTICS.get(sql);
+        return (statistics == null) ? 0 : statistics.fetchSize();
+    }
+
+    /**
+     * The observed rows and columns of a SQL string.
+     * <p>
+     * Concurrent observations may occasionally get lost. This is acceptable for
+     * a heuristic.
+     */
+    private static class Statistics {
+
+        /**
+         * The fetched rows, following increases immediately and decreases as
+         * an exponential moving average.
+         */
+        private volatile int rows;
+        private volatile int columns;
+
+        Statistics(int rows, int columns) {
+            this.rows = Math.max(0, rows);
+            this.columns = Math.max(1, columns);
+        }
+
+        void observe(int observedRows, int observedColumns) {
+            int r = rows;
+            int o = Math.max(0, observedRows);
+
+            rows = (o >= r) ? o : (int) ((3L * r + o) / 4);
+            columns = Math.max(1, observedColumns);
+        }
+
+        int fetchSize() {
+
+            // Fetch the expected rows plus the end of the result in one go
+            int expected = rows + 1;
+            int max = Math.max(MIN_FETCH_SIZE, MAX_VALUES / columns);
+
+            return Math.max(MIN_FETCH_SIZE, Math.min(expected, max));
+        }
+    }
+}
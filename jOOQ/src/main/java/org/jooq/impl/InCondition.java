@@ -45,17 +45,30 @@ import static org.jooq.Clause.CONDITION;
 import static org.jooq.Clause.CONDITION_IN;
 import static org.jooq.Clause.CONDITION_NOT_IN;
 import static org.jooq.Comparator.IN;
+import static org.jooq.conf.ParamType.INLINED;
+import static org.jooq.impl.DSL.all;
+import static org.jooq.impl.DSL.any;
+import static org.jooq.impl.DSL.val;
 import static org.jooq.impl.Utils.visitAll;
 
+import java.lang.reflect.Array;
 import java.util.Arrays;
 import java.util.List;
 
 import org.jooq.BindContext;
 import org.jooq.Clause;
 import org.jooq.Comparator;
+import org.jooq.Configuration;
 import org.jooq.Context;
+import org.jooq.DataType;
+import org.jooq.EnumType;
 import org.jooq.Field;
+import org.jooq.Param;
+import org.jooq.QueryPartInternal;
+import org.jooq.Record;
 import org.jooq.RenderContext;
+import org.jooq.Result;
+import org.jooq.conf.InListStyle;
 
 /**
  * @author Lukas Eder
@@ -83,95 +96,223 @@ class InCondition<T> extends AbstractCondition {
     }
 
     
-    public final void bind(BindContext context) {
-        context.visit(field);
-        visitAll(context, values);
+    public final void bind(BindContext ctx) {
+        delegate(ctx.configuration(), false).bind(ctx);
     }
 
     
-    public final void toSQL(RenderContext context) {
-        List<Field<?>> list = Arrays.asList(values);
-
-        if (list.size() > IN_LIMIT) {
-            // [#798] Oracle and some other dialects can only hold 1000 values
-            // in an IN (...) clause
-            switch (context.configuration().dialect().family()) {
-                /* [pro] xx
-                xxxx xxxxxxx
-                xxxx xxxxxxx
-                xxxx xxxxxxxxxx
-                xx [/pro] */
-                case FIREBIRD: {
-                    context.sql("(")
-                           .formatIndentStart()
-                           .formatNewLine();
-
-                    for (int i = 0; i < list.size(); i += IN_LIMIT) {
-                        if (i > 0) {
-
-                            // [#1515] The connector depends on the IN / NOT IN
-                            // operator
-                            if (comparator == Comparator.IN) {
-                                context.formatSeparator()
-                                       .keyword("or")
-                                       .sql(" ");
-                            }
-                            else {
-                                context.formatSeparator()
-                                       .keyword("and")
-                                       .sql(" ");
-                            }
-                        }
+    public final void toSQL(RenderContext ctx) {
+        delegate(ctx.configuration(), ctx.paramType() == INLINED).toSQL(ctx);
+    }
 
-                        toSQLSubValues(context, list.subList(i, Math.min(i + IN_LIMIT, list.size())));
-                    }
+    /**
+     * Get the effective rendering of this <code>IN</code> predicate.
+     * <p>
+     * {@link InListStyle} is ignored when bind values are inlined, as there is
+     * no statement text to stabilise in that case.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private final QueryPartInternal delegate(Configuration configuration, boolean inline) {
+        InListStyle style = inline ? InListStyle.DEFAULT : Utils.settings(configuration).getInListStyle();
 
-                    context.formatIndentEnd()
-                           .formatNewLine()
-                           .sql(")");
-                    break;
-                }
+        if (style == InListStyle.ARRAY) {
+            switch (configuration.dialect().family()) {
+                case H2:
+                case HSQLDB:
+                case POSTGRES: {
+                    Field<Object[]> array = array();
+
+                    if (array != null) {
+                        Field<Object> f = (Field) field;
+
+                        if (comparator == IN) {
+                            return (QueryPartInternal) f.equal(any(array));
+                        }
+                        else {
+                            return (QueryPartInternal) f.notEqual(all(array));
+                        }
+                    }
 
-                // Most dialects can handle larger lists
-                default: {
-                    toSQLSubValues(context, list);
                     break;
                 }
             }
         }
+
+        if (style == InListStyle.PADDED || style == InListStyle.ARRAY) {
+            return new Native(padded(values));
+        }
         else {
-            toSQLSubValues(context, list);
+            return new Native(values);
+        }
+    }
+
+    /**
+     * Get the size of an <code>IN</code> list padded to the next power of two.
+     */
+    static final int paddedSize(int size) {
+        int result = Integer.highestOneBit(size);
+        return result < size ? result << 1 : result;
+    }
+
+    /**
+     * Pad an array to the next power of two, repeating its last element.
+     */
+    static final <E> E[] padded(E[] array) {
+        int size = paddedSize(array.length);
+
+        if (size == array.length) {
+            return array;
+        }
+
+        E[] result = Arrays.copyOf(array, size);
+        Arrays.fill(result, array.length, size, array[array.length - 1]);
+        return result;
+    }
+
+    /**
+     * Collect all bind values into a single array bind value, or return
+     * <code>null</code> if this <code>IN</code> list cannot be bound as an
+     * array.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private final Field<Object[]> array() {
+        DataType<T> type = field.getDataType();
+        Class<T> t = type.getType();
+
+        // Only plain JDBC types are supported as array element types
+        if (type instanceof ConvertedDataType
+                || t == Object.class
+                || t.isArray()
+                || EnumType.class.isAssignableFrom(t)
+                || Record.class.isAssignableFrom(t)
+                || Result.class.isAssignableFrom(t)) {
+            return null;
+        }
+
+        Object[] array = (Object[]) Array.newInstance(t, values.length);
+        for (int i = 0; i < values.length; i++) {
+            if (!(values[i] instanceof Param) || ((Param<?>) values[i]).isInline()) {
+                return null;
+            }
+
+            array[i] = type.convert(((Param<?>) values[i]).getValue());
         }
+
+        return (Field) val(array, type.getArrayDataType());
     }
 
     /**
-     * Render the SQL for a sub-set of the <code>IN</code> clause's values
+     * The native <code>IN (...)</code> rendering of a list of values
      */
-    private void toSQLSubValues(RenderContext context, List<Field<?>> subValues) {
-        context.visit(field)
-               .sql(" ")
-               .keyword(comparator.toSQL())
-               .sql(" (");
-
-        if (subValues.size() > 1) {
-            context.formatIndentStart()
-                   .formatNewLine();
+    private class Native extends AbstractCondition {
+
+        /**
+         * Generated UID
+         */
+        private static final long serialVersionUID = 5312981325796853498L;
+
+        private final Field<?>[]  list;
+
+        Native(Field<?>[] list) {
+            this.list = list;
         }
 
-        String separator = "";
-        for (Field<?> value : subValues) {
-            context.sql(separator)
-                   .formatNewLineAfterPrintMargin()
-                   .visit(value);
+        
+        public final Clause[] clauses(Context<?> ctx) {
+            return InCondition.this.clauses(ctx);
+        }
 
-            separator = ", ";
+        
+        public final void bind(BindContext context) {
+            context.visit(field);
+            visitAll(context, list);
         }
 
-        if (subValues.size() > 1) {
-            context.formatIndentEnd()
-                   .formatNewLine();
+        
+        public final void toSQL(RenderContext context) {
+            List<Field<?>> list = Arrays.asList(this.list);
+
+            if (list.size() > IN_LIMIT) {
+                // [#798] Oracle and some other dialects can only hold 1000 values
+                // in an IN (...) clause
+                switch (context.configuration().dialect().family()) {
+                    /* [pro] xx
+                    xxxx xxxxxxx
+                    xxxx xxxxxxx
+                    xxxx xxxxxxxxxx
+                    xx [/pro] */
+                    case FIREBIRD: {
+                        context.sql("(")
+                               .formatIndentStart()
+                               .formatNewLine();
+
+                        for (int i = 0; i < list.size(); i += IN_LIMIT) {
+                            if (i > 0) {
+
+                                // [#1515] The connector depends on the IN / NOT IN
+                                // operator
+                                if (comparator == Comparator.IN) {
+                                    context.formatSeparator()
+                                           .keyword("or")
+                                           .sql(" ");
+                                }
+                                else {
+                                    context.formatSeparator()
+                                           .keyword("and")
+                                           .sql(" ");
+                                }
+                            }
+
+                            toSQLSubValues(context, list.subList(i, Math.min(i + IN_LIMIT, list.size())));
+                        }
+
+                        context.formatIndentEnd()
+                               .formatNewLine()
+                               .sql(")");
+                        break;
+                    }
+
+                    // Most dialects can handle larger lists
+                    default: {
+                        toSQLSubValues(context, list);
+                        break;
+                    }
+                }
+            }
+            else {
+                toSQLSubValues(context, list);
+            }
         }
 
-        context.sql(")");
+        /**
+         * Render the SQL for a sub-set of the <code>IN</code> clause's values
+         */
+        private void toSQLSubValues(RenderContext context, List<Field<?>> subValues) {
+            context.visit(field)
+                   .sql(" ")
+                   .keyword(comparator.toSQL())
+                   .sql(" (");
+
+            if (subValues.size() > 1) {
+                context.formatIndentStart()
+                       .formatNewLine();
+            }
+
+            String separator = "";
+            for (Field<?> value : subValues) {
+                context.sql(separator)
+                       .formatNewLineAfterPrintMargin()
+                       .visit(value);
+
+                separator = ", ";
+            }
+
+            if (subValues.size() > 1) {
+                context.formatIndentEnd()
+                       .formatNewLine();
+            }
+
+            context.sql(")");
+        }
     }
 }
@@ -0,0 +1,185 @@
+/**
+ * Copyright (c) 2009-2013, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq.impl;
+
+import static org.jooq.conf.InternStyle.AUTOMATIC;
+import static org.jooq.conf.InternStyle.INTERN;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jooq.Configuration;
+import org.jooq.Field;
+import org.jooq.conf.InternStyle;
+import org.jooq.conf.Settings;
+
+/**
+ * A utility for interning <code>String</code> values of selected columns.
+ * <p>
+ * Depending on {@link Settings#getInternStyle()}, values are either interned
+ * using {@link String#intern()}, or deduplicated using a bounded cache per
+ * column, local to this object. With {@link InternStyle#AUTOMATIC}, the first
+ * {@link #SAMPLE_SIZE} values of every column are sampled, and columns whose
+ * values are mostly distinct are no longer deduplicated.
+ * <p>
+ * This type is not thread-safe.
+ *
+ * @author Lukas Eder
+ */
+class Interner {
+
+    /**
+     * The number of values sampled per column in {@link InternStyle#AUTOMATIC}
+     * mode.
+     */
+    static final int                    SAMPLE_SIZE     = 256;
+
+    /**
+     * The maximum number of distinct values among {@link #SAMPLE_SIZE} sampled
+     * values, for a column to be deduplicated in {@link InternStyle#AUTOMATIC}
+     * mode.
+     */
+    static final int                    MAX_CARDINALITY = SAMPLE_SIZE / 4;
+
+    private final InternStyle           style;
+    private final int                   size;
+    private final boolean[]             intern;
+    private final Map<String, String>[] caches;
+    private final int[]                 sampled;
+
+    @SuppressWarnings("unchecked")
+    private Interner(InternStyle style, int size, boolean[] intern) {
+        this.style = style;
+        this.size = size;
+        this.intern = intern;
+        this.caches = new Map[intern.length];
+        this.sampled = new int[intern.length];
+
+        if (style != INTERN) {
+            for (int i = 0; i < intern.length; i++) {
+                if (intern[i]) {
+                    caches[i] = new HashMap<String, String>();
+                }
+            }
+        }
+    }
+
+    /**
+     * Create an interner for a set of fields.
+     *
+     * @param configuration The configuration providing interning settings
+     * @param fields The fields whose values are fetched
+     * @param indexes The indexes of fields whose values should be interned, or
+     *            <code>null</code>, if no fields were specified explicitly
+     * @return The interner, or <code>null</code> if no values should be
+     *         interned.
+     */
+    static final Interner interner(Configuration configuration, Field<?>[] fields, int[] indexes) {
+        Settings settings = Utils.settings(configuration);
+        InternStyle style = settings.getInternStyle();
+        Integer size = settings.getInternCacheSize();
+
+        if (style == null) {
+            style = INTERN;
+        }
+
+        boolean[] intern = new boolean[fields.length];
+        boolean any = false;
+
+        if (indexes != null) {
+            for (int i : indexes) {
+                intern[i] = true;
+                any = true;
+            }
+        }
+
+        // Explicitly specified fields aside, only sample String columns
+        else if (style == AUTOMATIC) {
+            for (int i = 0; i < fields.length; i++) {
+                if (fields[i].getType() == String.class) {
+                    intern[i] = true;
+                    any = true;
+                }
+            }
+        }
+
+        return any ? new Interner(style, size == null ? 10000 : size, intern) : null;
+    }
+
+    /**
+     * Intern a value fetched for a given field index.
+     */
+    @SuppressWarnings("unchecked")
+    final <T> T intern(int index, T value) {
+        if (!intern[index] || !(value instanceof String)) {
+            return value;
+        }
+
+        if (style == INTERN) {
+            return (T) ((String) value).intern();
+        }
+
+        Map<String, String> cache = caches[index];
+
+        // The column was found to have too high cardinality
+        if (cache == null) {
+            return value;
+        }
+
+        String result = cache.get(value);
+
+        if (result == null) {
+            result = (String) value;
+
+            if (cache.size() < size) {
+                cache.put(result, result);
+            }
+        }
+
+        if (style == AUTOMATIC && sampled[index] < SAMPLE_SIZE) {
+            if (++sampled[index] == SAMPLE_SIZE && cache.size() > MAX_CARDINALITY) {
+                caches[index] = null;
+            }
+        }
+
+        return (T) result;
+    }
+}
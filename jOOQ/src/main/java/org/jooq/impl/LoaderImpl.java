@@ -35,8 +35,12 @@
 */
 package org.jooq.impl;
 
+import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+
 import java.io.BufferedReader;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileReader;
 import java.io.IOException;
@@ -46,8 +50,16 @@ import java.io.Reader;
 import java.io.StringReader;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.transform.stream.StreamSource;
 
 import org.jooq.Condition;
 import org.jooq.Configuration;
@@ -66,7 +78,7 @@ import org.jooq.TableRecord;
 import org.jooq.exception.DataAccessException;
 import org.jooq.tools.StringUtils;
 import org.jooq.tools.csv.CSVParser;
-import org.jooq.tools.csv.CSVReader;
+import org.jooq.tools.csv.CSVTokenizer;
 
 import org.xml.sax.InputSource;
 
@@ -109,9 +121,10 @@ class LoaderImpl<R extends TableRecord<R>> implements
     private int                     commitAfter             = 1;
     private int                     content                 = CONTENT_CSV;
     private BufferedReader          data;
+    private InputSource             xml;
 
-    // CSV configuration data
-    // ----------------------
+    // CSV and XML configuration data
+    // ------------------------------
     private int                     ignoreRows              = 1;
     private char                    quote                   = CSVParser.DEFAULT_QUOTE_CHARACTER;
     private char                    separator               = CSVParser.DEFAULT_SEPARATOR;
@@ -231,35 +244,40 @@ class LoaderImpl<R extends TableRecord<R>> implements
     
     public final LoaderImpl<R> loadXML(File file) throws FileNotFoundException {
         content = CONTENT_XML;
-        throw new UnsupportedOperationException("This is not yet implemented");
+        xml = new InputSource(new FileInputStream(file));
+        return this;
     }
 
     
-    public final LoaderImpl<R> loadXML(String xml) {
+    public final LoaderImpl<R> loadXML(String x) {
         content = CONTENT_XML;
-        throw new UnsupportedOperationException("This is not yet implemented");
+        xml = new InputSource(new StringReader(x));
+        return this;
     }
 
     
     public final LoaderImpl<R> loadXML(InputStream stream) {
         content = CONTENT_XML;
-        throw new UnsupportedOperationException("This is not yet implemented");
+        xml = new InputSource(stream);
+        return this;
     }
 
     
     public final LoaderImpl<R> loadXML(Reader reader) {
         content = CONTENT_XML;
-        throw new UnsupportedOperationException("This is not yet implemented");
+        xml = new InputSource(reader);
+        return this;
     }
 
     
     public final LoaderImpl<R> loadXML(InputSource source) {
         content = CONTENT_XML;
-        throw new UnsupportedOperationException("This is not yet implemented");
+        xml = source;
+        return this;
     }
 
     // -------------------------------------------------------------------------
-    // CSV configuration
+    // CSV and XML configuration
     // -------------------------------------------------------------------------
 
     
@@ -309,12 +327,6 @@ class LoaderImpl<R extends TableRecord<R>> implements
         return this;
     }
 
-    // -------------------------------------------------------------------------
-    // XML configuration
-    // -------------------------------------------------------------------------
-
-    // [...] to be specified
-
     // -------------------------------------------------------------------------
     // Execution
     // -------------------------------------------------------------------------
@@ -325,7 +337,7 @@ class LoaderImpl<R extends TableRecord<R>> implements
             executeCSV();
         }
         else if (content == CONTENT_XML) {
-            throw new UnsupportedOperationException();
+            executeXML();
         }
         else {
             throw new IllegalStateException();
@@ -335,142 +347,300 @@ class LoaderImpl<R extends TableRecord<R>> implements
     }
 
     private final void executeCSV() throws IOException {
-        CSVReader reader = new CSVReader(data, separator, quote, ignoreRows);
+        CSVTokenizer reader = new CSVTokenizer(data, separator, quote, ignoreRows);
 
         try {
-            String[] row = null;
+            int columns;
+
+            // Values are converted only once per row, into a reusable buffer
+            Object[] values = new Object[fields.length];
 
             // TODO: When running in COMMIT_AFTER > 1 or COMMIT_ALL mode, then
             // it might be better to bulk load / merge n records
-            rowloop: while ((row = reader.readNext()) != null) {
-
-                // [#1627] Handle NULL values
-                for (int i = 0; i < row.length; i++) {
-                    if (StringUtils.equals(nullString, row[i])) {
-                        row[i] = null;
-                    }
+            while ((columns = reader.readRow()) >= 0) {
+                if (!executeRow(reader.row(), columns, values)) {
+                    break;
                 }
+            }
 
-                processed++;
-                InsertQuery<R> insert = create.insertQuery(table);
+            executeEnd();
+        }
 
-                for (int i = 0; i < row.length; i++) {
-                    if (i < fields.length && fields[i] != null) {
-                        addValue0(insert, fields[i], row[i]);
-                    }
-                }
+        // SQLExceptions originating from rollbacks or commits are always fatal
+        // They are propagated, and not swallowed
+        catch (SQLException e) {
+            throw Utils.translate(null, e);
+        }
+        finally {
+            reader.close();
+        }
+    }
 
-                // TODO: This is only supported by some dialects. Let other
-                // dialects execute a SELECT and then either an INSERT or UPDATE
-                if (onDuplicate == ON_DUPLICATE_KEY_UPDATE) {
-                    insert.onDuplicateKeyUpdate(true);
+    private final void executeXML() throws IOException {
+        XMLStreamReader reader = null;
 
-                    for (int i = 0; i < row.length; i++) {
-                        if (i < fields.length && fields[i] != null && !primaryKey[i]) {
-                            addValueForUpdate0(insert, fields[i], row[i]);
+        try {
+            XMLInputFactory factory = XMLInputFactory.newInstance();
+            factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+            factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+
+            if (xml.getCharacterStream() != null) {
+                reader = factory.createXMLStreamReader(xml.getCharacterStream());
+            }
+            else if (xml.getByteStream() != null) {
+                reader = xml.getEncoding() != null
+                    ? factory.createXMLStreamReader(xml.getByteStream(), xml.getEncoding())
+                    : factory.createXMLStreamReader(xml.getByteStream());
+            }
+            else {
+                reader = factory.createXMLStreamReader(new StreamSource(xml.getSystemId()));
+            }
+
+            // The names of the <field/> elements, and their positions
+            List<String> names = new ArrayList<String>();
+            Map<String, Integer> positions = new HashMap<String, Integer>();
+
+            String[] row = null;
+            Object[] values = null;
+            int position = 0;
+
+            // Records are read one at a time, without building a DOM
+            elementloop: while (reader.hasNext()) {
+                int event = reader.next();
+
+                if (event == START_ELEMENT) {
+                    String name = reader.getLocalName();
+
+                    if ("value".equals(name) && row != null) {
+                        String field = reader.getAttributeValue(null, "field");
+
+                        if (field != null) {
+                            Integer index = positions.get(field);
+                            position = index != null ? index : -1;
                         }
-                    }
-                }
 
-                // TODO: This can be implemented faster using a MERGE statement
-                // in some dialects
-                else if (onDuplicate == ON_DUPLICATE_KEY_IGNORE) {
-                    SelectQuery<R> select = create.selectQuery(table);
+                        String text = reader.getElementText();
 
-                    for (int i = 0; i < row.length; i++) {
-                        if (i < fields.length && primaryKey[i]) {
-                            select.addConditions(getCondition(fields[i], row[i]));
+                        if (position >= 0 && position < row.length) {
+                            row[position] = text.length() == 0 ? null : text;
                         }
+
+                        position = position >= 0 ? position + 1 : position;
+                    }
+                    else if ("record".equals(name) && row != null) {
+                        Arrays.fill(row, null);
+                        position = 0;
                     }
+                    else if ("field".equals(name)) {
+                        String field = reader.getAttributeValue(null, "name");
+
+                        positions.put(field, names.size());
+                        names.add(field);
+                    }
+                    else if ("records".equals(name)) {
+
+                        // By default, load XML fields into table fields of the
+                        // same name
+                        if (fields == null) {
+                            Field<?>[] f = new Field[names.size()];
+
+                            for (int i = 0; i < f.length; i++) {
+                                f[i] = table.field(names.get(i));
+                            }
 
-                    try {
-                        if (select.execute() > 0) {
-                            ignored++;
-                            continue rowloop;
+                            fields(f);
                         }
+
+                        row = new String[names.size()];
+                        values = new Object[fields.length];
                     }
-                    catch (DataAccessException e) {
-                        errors.add(new LoaderErrorImpl(e, row, processed - 1, select));
+                }
+                else if (event == END_ELEMENT && row != null && "record".equals(reader.getLocalName())) {
+                    if (!executeRow(row, row.length, values)) {
+                        break elementloop;
                     }
                 }
+            }
 
-                // Don't do anything. Let the execution fail
-                else if (onDuplicate == ON_DUPLICATE_KEY_ERROR) {
-                }
+            executeEnd();
+        }
+        catch (XMLStreamException e) {
+            throw new IOException("Could not read the XML content", e);
+        }
 
+        // SQLExceptions originating from rollbacks or commits are always fatal
+        // They are propagated, and not swallowed
+        catch (SQLException e) {
+            throw Utils.translate(null, e);
+        }
+        finally {
+            if (reader != null) {
                 try {
-                    insert.execute();
-                    stored++;
+                    reader.close();
+                }
+                catch (XMLStreamException ignore) {}
+            }
 
-                    if (commit == COMMIT_AFTER) {
-                        if (processed % commitAfter == 0) {
-                            configuration.connectionProvider().acquire().commit();
-                        }
-                    }
+            if (xml.getCharacterStream() != null) {
+                xml.getCharacterStream().close();
+            }
+
+            if (xml.getByteStream() != null) {
+                xml.getByteStream().close();
+            }
+        }
+    }
+
+    /**
+     * Load a single row, which is shared by all content types.
+     *
+     * @return Whether loading should continue
+     */
+    private final boolean executeRow(String[] row, int columns, Object[] values) throws SQLException {
+
+        // [#1627] Handle NULL values
+        for (int i = 0; i < columns; i++) {
+            if (StringUtils.equals(nullString, row[i])) {
+                row[i] = null;
+            }
+        }
+
+        for (int i = 0; i < columns && i < fields.length; i++) {
+            if (fields[i] != null) {
+                values[i] = fields[i].getDataType().convert(row[i]);
+            }
+        }
+
+        processed++;
+        InsertQuery<R> insert = create.insertQuery(table);
+
+        for (int i = 0; i < columns; i++) {
+            if (i < fields.length && fields[i] != null) {
+                addValue0(insert, fields[i], values[i]);
+            }
+        }
+
+        // TODO: This is only supported by some dialects. Let other
+        // dialects execute a SELECT and then either an INSERT or UPDATE
+        if (onDuplicate == ON_DUPLICATE_KEY_UPDATE) {
+            insert.onDuplicateKeyUpdate(true);
+
+            for (int i = 0; i < columns; i++) {
+                if (i < fields.length && fields[i] != null && !primaryKey[i]) {
+                    addValueForUpdate0(insert, fields[i], values[i]);
                 }
-                catch (DataAccessException e) {
-                    errors.add(new LoaderErrorImpl(e, row, processed - 1, insert));
-                    ignored++;
+            }
+        }
 
-                    if (onError == ON_ERROR_ABORT) {
-                        break rowloop;
-                    }
+        // TODO: This can be implemented faster using a MERGE statement
+        // in some dialects
+        else if (onDuplicate == ON_DUPLICATE_KEY_IGNORE) {
+            SelectQuery<R> select = create.selectQuery(table);
+
+            for (int i = 0; i < columns; i++) {
+                if (i < fields.length && primaryKey[i]) {
+                    select.addConditions(getCondition(fields[i], values[i]));
                 }
             }
 
-            // Rollback on errors in COMMIT_ALL mode
             try {
-                if (commit == COMMIT_ALL) {
-                    if (!errors.isEmpty()) {
-                        stored = 0;
-                        configuration.connectionProvider().acquire().rollback();
-                    }
-                    else {
-                        configuration.connectionProvider().acquire().commit();
-                    }
+                if (select.execute() > 0) {
+                    ignored++;
+                    return true;
                 }
+            }
+            catch (DataAccessException e) {
+                errors.add(new LoaderErrorImpl(e, copy(row, columns), processed - 1, select));
+            }
+        }
 
-                // Commit remaining elements in COMMIT_AFTER mode
-                else if (commit == COMMIT_AFTER) {
-                    if (processed % commitAfter != 0) {
-                        configuration.connectionProvider().acquire().commit();
-                    }
+        // Don't do anything. Let the execution fail
+        else if (onDuplicate == ON_DUPLICATE_KEY_ERROR) {
+        }
+
+        try {
+            insert.execute();
+            stored++;
+
+            if (commit == COMMIT_AFTER) {
+                if (processed % commitAfter == 0) {
+                    configuration.connectionProvider().acquire().commit();
                 }
             }
-            catch (DataAccessException e) {
-                errors.add(new LoaderErrorImpl(e, null, processed - 1, null));
+        }
+        catch (DataAccessException e) {
+            errors.add(new LoaderErrorImpl(e, copy(row, columns), processed - 1, insert));
+            ignored++;
+
+            if (onError == ON_ERROR_ABORT) {
+                return false;
             }
         }
 
-        // SQLExceptions originating from rollbacks or commits are always fatal
-        // They are propagated, and not swallowed
-        catch (SQLException e) {
-            throw Utils.translate(null, e);
+        return true;
+    }
+
+    /**
+     * Commit or roll back after the last row, which is shared by all content
+     * types.
+     */
+    private final void executeEnd() throws SQLException {
+
+        // Rollback on errors in COMMIT_ALL mode
+        try {
+            if (commit == COMMIT_ALL) {
+                if (!errors.isEmpty()) {
+                    stored = 0;
+                    configuration.connectionProvider().acquire().rollback();
+                }
+                else {
+                    configuration.connectionProvider().acquire().commit();
+                }
+            }
+
+            // Commit remaining elements in COMMIT_AFTER mode
+            else if (commit == COMMIT_AFTER) {
+                if (processed % commitAfter != 0) {
+                    configuration.connectionProvider().acquire().commit();
+                }
+            }
         }
-        finally {
-            reader.close();
+        catch (DataAccessException e) {
+            errors.add(new LoaderErrorImpl(e, null, processed - 1, null));
         }
     }
 
+    /**
+     * Copy a row from the reusable row buffer, e.g. to report errors
+     */
+    private static String[] copy(String[] row, int columns) {
+        String[] result = new String[columns];
+        System.arraycopy(row, 0, result, 0, columns);
+        return result;
+    }
+
     /**
      * Type-safety...
      */
-    private <T> void addValue0(InsertQuery<R> insert, Field<T> field, String row) {
-        insert.addValue(field, field.getDataType().convert(row));
+    @SuppressWarnings("unchecked")
+    private <T> void addValue0(InsertQuery<R> insert, Field<T> field, Object value) {
+        insert.addValue(field, (T) value);
     }
 
     /**
      * Type-safety...
      */
-    private <T> void addValueForUpdate0(InsertQuery<R> insert, Field<T> field, String row) {
-        insert.addValueForUpdate(field, field.getDataType().convert(row));
+    @SuppressWarnings("unchecked")
+    private <T> void addValueForUpdate0(InsertQuery<R> insert, Field<T> field, Object value) {
+        insert.addValueForUpdate(field, (T) value);
     }
 
     /**
      * Get a type-safe condition
      */
-    private <T> Condition getCondition(Field<T> field, String string) {
-        return field.equal(field.getDataType().convert(string));
+    @SuppressWarnings("unchecked")
+    private <T> Condition getCondition(Field<T> field, Object value) {
+        return field.equal((T) value);
     }
 
     // -------------------------------------------------------------------------
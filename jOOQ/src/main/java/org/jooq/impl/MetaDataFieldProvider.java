@@ -45,13 +45,13 @@ import static org.jooq.impl.DSL.field;
 import java.io.Serializable;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
 import org.jooq.Configuration;
 import org.jooq.DataType;
 import org.jooq.Field;
 import org.jooq.Record;
+import org.jooq.SQLDialect;
 import org.jooq.exception.SQLDialectNotSupportedException;
 import org.jooq.tools.JooqLogger;
 
@@ -77,6 +77,12 @@ class MetaDataFieldProvider implements Serializable {
     private static final long       serialVersionUID = -8482521025536063609L;
     private static final JooqLogger log              = JooqLogger.getLogger(MetaDataFieldProvider.class);
 
+    /**
+     * Fields that have already been resolved for a given result set signature,
+     * for up to 1024 distinct signatures.
+     */
+    private static final BoundedCache<Signature, Fields<Record>> CACHE = new BoundedCache<Signature, Fields<Record>>(1024);
+
     private final Fields<Record>    fields;
 
     MetaDataFieldProvider(Configuration configuration, ResultSetMetaData meta) {
@@ -84,7 +90,6 @@ class MetaDataFieldProvider implements Serializable {
     }
 
     private Fields<Record> init(Configuration configuration, ResultSetMetaData meta) {
-        List<Field<?>> fieldList = new ArrayList<Field<?>>();
         int columnCount = 0;
 
         try {
@@ -95,19 +100,36 @@ class MetaDataFieldProvider implements Serializable {
         // procedures / functions
         catch (SQLException e) {
             log.warn("Cannot fetch column count for cursor : " + e.getMessage());
-            fieldList.add(field("dummy"));
+            return new Fields<Record>(field("dummy"));
         }
 
+        Signature signature;
+
         try {
-            for (int i = 1; i <= columnCount; i++) {
-                String name = meta.getColumnLabel(i);
-                int precision = meta.getPrecision(i);
-                int scale = meta.getScale(i);
+            signature = new Signature(configuration.dialect().family(), meta, columnCount);
+        }
+        catch (SQLException e) {
+            throw Utils.translate(null, e);
+        }
+
+        // Plain SQL queries are often executed repeatedly, producing the same
+        // result set meta data. Avoid resolving data types and creating new
+        // fields every time
+        Fields<Record> result = CACHE.get(signature);
+
+        if (result == null) {
+            Field<?>[] fieldArray = new Field[columnCount];
+            boolean cacheable = true;
+
+            for (int i = 0; i < columnCount; i++) {
+                String name = signature.names[i];
+                int precision = signature.precisions[i];
+                int scale = signature.scales[i];
                 DataType<?> dataType = SQLDataType.OTHER;
-                String type = meta.getColumnTypeName(i);
+                String type = signature.types[i];
 
                 try {
-                    dataType = DefaultDataType.getDataType(configuration.dialect().family(), type, precision, scale);
+                    dataType = DefaultDataType.getDataType(signature.dialect, type, precision, scale);
 
                     if (dataType.hasPrecision()) {
                         dataType = dataType.precision(precision);
@@ -126,22 +148,96 @@ class MetaDataFieldProvider implements Serializable {
                 // should be known at this point
                 catch (SQLDialectNotSupportedException ignore) {
                     log.warn("Not supported by dialect", ignore.getMessage());
+
+                    // Types may become known later on, when dialect-specific
+                    // data types are loaded. Don't cache this result
+                    cacheable = false;
                 }
 
-                fieldList.add(field(name, dataType));
+                fieldArray[i] = field(name, dataType);
+            }
+
+            result = new Fields<Record>(fieldArray);
+
+            if (cacheable) {
+                result = CACHE.add(signature, result);
             }
-        }
-        catch (SQLException e) {
-            throw Utils.translate(null, e);
         }
 
-        return new Fields<Record>(fieldList);
+        return result;
     }
 
+    /**
+     * The fields provided by this provider.
+     * <p>
+     * The returned array may be shared with other providers and must not be
+     * modified.
+     */
     final Field<?>[] getFields() {
         return fields.fields();
     }
 
+    /**
+     * The column signature of a {@link ResultSetMetaData} object, consisting
+     * of column labels, type names, precisions and scales.
+     */
+    private static class Signature {
+
+        final SQLDialect dialect;
+        final String[]   names;
+        final String[]   types;
+        final int[]      precisions;
+        final int[]      scales;
+        final int        hash;
+
+        Signature(SQLDialect dialect, ResultSetMetaData meta, int columnCount) throws SQLException {
+            this.dialect = dialect;
+            this.names = new String[columnCount];
+            this.types = new String[columnCount];
+            this.precisions = new int[columnCount];
+            this.scales = new int[columnCount];
+
+            for (int i = 0; i < columnCount; i++) {
+                names[i] = meta.getColumnLabel(i + 1);
+                precisions[i] = meta.getPrecision(i + 1);
+                scales[i] = meta.getScale(i + 1);
+                types[i] = meta.getColumnTypeName(i + 1);
+            }
+
+            int h = dialect.hashCode();
+            h = 31 * h + Arrays.hashCode(names);
+            h = 31 * h + Arrays.hashCode(types);
+            h = 31 * h + Arrays.hashCode(precisions);
+            h = 31 * h + Arrays.hashCode(scales);
+            this.hash = h;
+        }
+
+        
+        public int hashCode() {
+            return hash;
+        }
+
+        
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+
+            if (obj instanceof Signature) {
+                Signature other = (Signature) obj;
+
+                return hash == other.hash
+                    && dialect == other.dialect
+                    && Arrays.equals(names, other.names)
+                    && Arrays.equals(types, other.types)
+                    && Arrays.equals(precisions, other.precisions)
+                    && Arrays.equals(scales, other.scales);
+            }
+
+            return false;
+        }
+    }
+
     // -------------------------------------------------------------------------
     // The Object API
     // -------------------------------------------------------------------------
@@ -47,6 +47,7 @@ import static org.jooq.SQLDialect.MYSQL;
 import static org.jooq.SQLDialect.SQLITE;
 import static org.jooq.impl.DSL.fieldByName;
 import static org.jooq.impl.DSL.name;
+import static org.jooq.impl.Utils.DATA_META_CACHE;
 
 import java.io.Serializable;
 import java.sql.Connection;
@@ -58,6 +59,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jooq.Catalog;
 import org.jooq.Configuration;
@@ -73,6 +75,7 @@ import org.jooq.Schema;
 import org.jooq.Table;
 import org.jooq.TableField;
 import org.jooq.UniqueKey;
+import org.jooq.conf.Settings;
 import org.jooq.exception.DataAccessException;
 import org.jooq.exception.SQLDialectNotSupportedException;
 
@@ -81,6 +84,15 @@ import org.jooq.exception.SQLDialectNotSupportedException;
  * <p>
  * This implementation implements {@link Serializable}, without taking care of
  * properly deserialising the referenced executor.
+ * <p>
+ * Meta data is cached in a {@link ConcurrentHashMap} until it expires according
+ * to {@link Settings#getMetaCacheTTL()}, or until it is invalidated explicitly.
+ * Reads do not block. Concurrent threads may load the same expired entry
+ * twice, in case of which the last loaded value is kept.
+ * <p>
+ * A connection is acquired from the {@link ConnectionProvider} only for the
+ * duration of loading an entry. {@link DatabaseMetaData} is never retained
+ * beyond the corresponding {@link ConnectionProvider#release(Connection)}.
  *
  * @author Lukas Eder
  */
@@ -89,68 +101,194 @@ class MetaImpl implements Meta, Serializable {
     /**
      * Generated UID
      */
-    private static final long                   serialVersionUID = 3582980783173033809L;
+    private static final long                                    serialVersionUID = 3582980783173033809L;
+
+    private static final String                                  KEY_CATALOGS     = "catalogs";
+    private static final String                                  KEY_SCHEMAS      = "schemas.";
+    private static final String                                  KEY_TABLES       = "tables.";
+    private static final String                                  KEY_COLUMNS      = "columns.";
+    private static final String                                  KEY_PRIMARY_KEY  = "primary-key.";
 
-    private final DSLContext                    create;
-    private final Configuration                 configuration;
-    private transient volatile DatabaseMetaData meta;
+    private final DSLContext                                     create;
+    private final Configuration                                  configuration;
+    private final transient ConnectionProvider                   provider;
+    private final long                                           ttl;
+    private transient volatile ConcurrentHashMap<String, Cached> cache;
 
     MetaImpl(Configuration configuration) {
         this.create = DSL.using(configuration);
         this.configuration = configuration;
+        this.provider = configuration.connectionProvider();
+
+        Integer t = configuration.settings().getMetaCacheTTL();
+        this.ttl = t == null ? 0L : t;
     }
 
-    private final DatabaseMetaData meta() {
-        if (meta == null) {
-            ConnectionProvider provider = configuration.connectionProvider();
-            Connection connection = null;
+    /**
+     * Get the {@link Meta} instance for a {@link Configuration}.
+     * <p>
+     * If meta data is cached with a TTL, a single instance is shared by all
+     * calls to {@link DSLContext#meta()} on the same configuration. As
+     * {@link Configuration#derive()} copies {@link Configuration#data()}, the
+     * shared instance is only reused if it was created for this very
+     * configuration and its current {@link ConnectionProvider}.
+     */
+    static final Meta meta(Configuration configuration) {
+        Integer t = configuration.settings().getMetaCacheTTL();
 
-            try {
-                connection = provider.acquire();
-                meta = connection.getMetaData();
-            }
-            catch (SQLException e) {
-                throw new DataAccessException("Error while accessing DatabaseMetaData", e);
-            }
-            finally {
-                if (connection != null) {
-                    provider.release(connection);
-                }
-            }
+        if (t == null || t <= 0) {
+            return new MetaImpl(configuration);
+        }
+
+        Object result = configuration.data(DATA_META_CACHE);
+
+        // Discard instances created for another (e.g. the original of a
+        // derived) configuration, another connection provider, or another TTL
+        if (!(result instanceof MetaImpl)
+                || ((MetaImpl) result).configuration != configuration
+                || ((MetaImpl) result).provider != configuration.connectionProvider()
+                || ((MetaImpl) result).ttl != t) {
+            result = new MetaImpl(configuration);
+            configuration.data(DATA_META_CACHE, result);
         }
 
-        return meta;
+        return (Meta) result;
     }
 
+    // -------------------------------------------------------------------------
+    // XXX: Meta data cache
+    // -------------------------------------------------------------------------
+
     
-    public final List<Catalog> getCatalogs() {
-        try {
-            List<Catalog> result = new ArrayList<Catalog>();
+    public final void invalidate() {
+        cache().clear();
+    }
 
-            // [#2760] MySQL JDBC confuses "catalog" and "schema"
-            if (!asList(MYSQL, MARIADB).contains(configuration.dialect().family())) {
-                Result<Record> catalogs = create.fetch(
-                    meta().getCatalogs(),
-                    SQLDataType.VARCHAR // TABLE_CATALOG
-                );
+    
+    public final void invalidate(Schema schema) {
+        String name = schema.getName();
 
-                for (String name : catalogs.getValues(0, String.class)) {
-                    result.add(new MetaCatalog(name));
-                }
+        cache().remove(KEY_TABLES + name);
+        cache().remove(KEY_COLUMNS + name);
+
+        for (String key : cache().keySet()) {
+
+            // Schemas may have been created or dropped, too
+            if (key.startsWith(KEY_SCHEMAS) || key.startsWith(KEY_PRIMARY_KEY + name + ".")) {
+                cache().remove(key);
             }
+        }
+    }
 
-            // There should always be at least one (empty) catalog in a database
-            if (result.isEmpty()) {
-                result.add(new MetaCatalog(""));
+    private final ConcurrentHashMap<String, Cached> cache() {
+        if (cache == null) {
+            cache = new ConcurrentHashMap<String, Cached>();
+        }
+
+        return cache;
+    }
+
+    private final <T> T cached(String key, Loader<T> loader) throws SQLException {
+        return cached(null, key, loader);
+    }
+
+    /**
+     * Get a cached value, loading it with the argument {@link DatabaseMetaData}
+     * or with a newly acquired one, if <code>meta</code> is <code>null</code>.
+     */
+    @SuppressWarnings("unchecked")
+    private final <T> T cached(DatabaseMetaData meta, String key, Loader<T> loader) throws SQLException {
+        Cached cached = cache().get(key);
+
+        if (cached == null || cached.expired()) {
+            cached = new Cached(meta != null ? loader.load(meta) : load(loader), ttl <= 0 ? Long.MAX_VALUE : System.currentTimeMillis() + ttl);
+            cache().put(key, cached);
+        }
+
+        return (T) cached.value;
+    }
+
+    /**
+     * A cached value.
+     */
+    private static class Cached {
+        final Object value;
+        final long   expires;
+
+        Cached(Object value, long expires) {
+            this.value = value;
+            this.expires = expires;
+        }
+
+        final boolean expired() {
+            return System.currentTimeMillis() >= expires;
+        }
+    }
+
+    /**
+     * A loader for cached values.
+     */
+    private interface Loader<T> {
+        T load(DatabaseMetaData meta) throws SQLException;
+    }
+
+    /**
+     * Load a value with {@link DatabaseMetaData} that is valid only between
+     * acquiring and releasing a connection.
+     */
+    private final <T> T load(Loader<T> loader) throws SQLException {
+        ConnectionProvider provider = configuration.connectionProvider();
+        Connection connection = null;
+
+        try {
+            connection = provider.acquire();
+            return loader.load(connection.getMetaData());
+        }
+        finally {
+            if (connection != null) {
+                provider.release(connection);
             }
+        }
+    }
 
-            return result;
+    
+    public final List<Catalog> getCatalogs() {
+        try {
+            return new ArrayList<Catalog>(cached(KEY_CATALOGS, new Loader<List<Catalog>>() {
+                
+                public List<Catalog> load(DatabaseMetaData meta) throws SQLException {
+                    return getCatalogs0(meta);
+                }
+            }));
         }
         catch (SQLException e) {
             throw new DataAccessException("Error while accessing DatabaseMetaData", e);
         }
     }
 
+    private final List<Catalog> getCatalogs0(DatabaseMetaData meta) throws SQLException {
+        List<Catalog> result = new ArrayList<Catalog>();
+
+        // [#2760] MySQL JDBC confuses "catalog" and "schema"
+        if (!asList(MYSQL, MARIADB).contains(configuration.dialect().family())) {
+            Result<Record> catalogs = create.fetch(
+                meta.getCatalogs(),
+                SQLDataType.VARCHAR // TABLE_CATALOG
+            );
+
+            for (String name : catalogs.getValues(0, String.class)) {
+                result.add(new MetaCatalog(name));
+            }
+        }
+
+        // There should always be at least one (empty) catalog in a database
+        if (result.isEmpty()) {
+            result.add(new MetaCatalog(""));
+        }
+
+        return result;
+    }
+
     
     public final List<Schema> getSchemas() {
         List<Schema> result = new ArrayList<Schema>();
@@ -202,43 +340,52 @@ class MetaImpl implements Meta, Serializable {
         
         public final List<Schema> getSchemas() {
             try {
-                List<Schema> result = new ArrayList<Schema>();
-
-                if (!asList(MYSQL, MARIADB).contains(configuration.dialect().family())) {
-                    Result<Record> schemas = create.fetch(
-                        meta().getSchemas(),
+                return new ArrayList<Schema>(cached(KEY_SCHEMAS + getName(), new Loader<List<Schema>>() {
+                    
+                    public List<Schema> load(DatabaseMetaData meta) throws SQLException {
+                        return getSchemas0(meta);
+                    }
+                }));
+            }
+            catch (SQLException e) {
+                throw new DataAccessException("Error while accessing DatabaseMetaData", e);
+            }
+        }
 
-                        // [#2681] Work around a flaw in the MySQL JDBC driver
-                        SQLDataType.VARCHAR // TABLE_SCHEM
-                    );
+        private final List<Schema> getSchemas0(DatabaseMetaData meta) throws SQLException {
+            List<Schema> result = new ArrayList<Schema>();
 
-                    for (String name : schemas.getValues(0, String.class)) {
-                        result.add(new MetaSchema(name));
-                    }
-                }
+            if (!asList(MYSQL, MARIADB).contains(configuration.dialect().family())) {
+                Result<Record> schemas = create.fetch(
+                    meta.getSchemas(),
 
-                // [#2760] MySQL JDBC confuses "catalog" and "schema"
-                else {
-                    Result<Record> schemas = create.fetch(
-                        meta().getCatalogs(),
-                        SQLDataType.VARCHAR  // TABLE_CATALOG
-                    );
+                    // [#2681] Work around a flaw in the MySQL JDBC driver
+                    SQLDataType.VARCHAR // TABLE_SCHEM
+                );
 
-                    for (String name : schemas.getValues(0, String.class)) {
-                        result.add(new MetaSchema(name));
-                    }
+                for (String name : schemas.getValues(0, String.class)) {
+                    result.add(new MetaSchema(name));
                 }
+            }
 
-                // There should always be at least one (empty) schema in a database
-                if (result.isEmpty()) {
-                    result.add(new MetaSchema(""));
-                }
+            // [#2760] MySQL JDBC confuses "catalog" and "schema"
+            else {
+                Result<Record> schemas = create.fetch(
+                    meta.getCatalogs(),
+                    SQLDataType.VARCHAR  // TABLE_CATALOG
+                );
 
-                return result;
+                for (String name : schemas.getValues(0, String.class)) {
+                    result.add(new MetaSchema(name));
+                }
             }
-            catch (SQLException e) {
-                throw new DataAccessException("Error while accessing DatabaseMetaData", e);
+
+            // There should always be at least one (empty) schema in a database
+            if (result.isEmpty()) {
+                result.add(new MetaSchema(""));
             }
+
+            return result;
         }
     }
 
@@ -247,124 +394,138 @@ class MetaImpl implements Meta, Serializable {
         /**
          * Generated UID
          */
-        private static final long                            serialVersionUID = -2621899850912554198L;
-
-        private transient volatile List<Table<?>>            tableCache;
-        private transient volatile Map<Name, Result<Record>> columnCache;
+        private static final long serialVersionUID = -2621899850912554198L;
 
         MetaSchema(String name) {
             super(name);
         }
 
         
-        public final synchronized List<Table<?>> getTables() {
-            if (tableCache != null) {
-                return tableCache;
+        public final List<Table<?>> getTables() {
+            try {
+                return new ArrayList<Table<?>>(cached(KEY_TABLES + getName(), new Loader<List<Table<?>>>() {
+                    
+                    public List<Table<?>> load(DatabaseMetaData meta) throws SQLException {
+                        return getTables0(meta);
+                    }
+                }));
             }
+            catch (SQLException e) {
+                throw new DataAccessException("Error while accessing DatabaseMetaData", e);
+            }
+        }
 
-            try {
-                String[] types = null;
-
-                switch (configuration.dialect().family()) {
-
-                    // [#2323] SQLite JDBC drivers have a bug. They return other
-                    // object types, too: https://bitbucket.org/xerial/sqlite-jdbc/issue/68
-                    case SQLITE:
-                        types = new String[] { "TABLE", "VIEW" };
-                        break;
-
-                    /* [pro] xx
-                    xx xxxxxxx xxxxx xxxxxxxxx xxxxxx xxxxx xxxxxxxxx
-                    xx xxxxx xxxxxxxxxxxxx xxxxx xx xxx xxxxxxxxx xx xxxx xxx xxxx
-                    xx xxxxxxxx xx xxxxxxx xx xxxxxx xxxx
-                    xxxx xxxxxxx
-                        xxxxx x xxx xxxxxxxx x xxxxxxxx xxxxxx xx
-                        xxxxxx
-                    xx [/pro] */
-                }
+        private final List<Table<?>> getTables0(DatabaseMetaData meta) throws SQLException {
+            String[] types = null;
+
+            switch (configuration.dialect().family()) {
+
+                // [#2323] SQLite JDBC drivers have a bug. They return other
+                // object types, too: https://bitbucket.org/xerial/sqlite-jdbc/issue/68
+                case SQLITE:
+                    types = new String[] { "TABLE", "VIEW" };
+                    break;
+
+                /* [pro] xx
+                xx xxxxxxx xxxxx xxxxxxxxx xxxxxx xxxxx xxxxxxxxx
+                xx xxxxx xxxxxxxxxxxxx xxxxx xx xxx xxxxxxxxx xx xxxx xxx xxxx
+                xx xxxxxxxx xx xxxxxxx xx xxxxxx xxxx
+                xxxx xxxxxxx
+                    xxxxx x xxx xxxxxxxx x xxxxxxxx xxxxxx xx
+                    xxxxxx
+                xx [/pro] */
+            }
 
-                ResultSet rs;
-                if (!asList(MYSQL, MARIADB).contains(configuration.dialect().family())) {
-                    rs = meta().getTables(null, getName(), "%", types);
-                }
+            ResultSet rs;
+            if (!asList(MYSQL, MARIADB).contains(configuration.dialect().family())) {
+                rs = meta.getTables(null, getName(), "%", types);
+            }
 
-                // [#2760] MySQL JDBC confuses "catalog" and "schema"
-                else {
-                    rs = meta().getTables(getName(), null, "%", types);
-                }
+            // [#2760] MySQL JDBC confuses "catalog" and "schema"
+            else {
+                rs = meta.getTables(getName(), null, "%", types);
+            }
 
-                List<Table<?>> result = new ArrayList<Table<?>>();
-                Result<Record> tables = create.fetch(
-                    rs,
+            List<Table<?>> result = new ArrayList<Table<?>>();
+            Result<Record> tables = create.fetch(
+                rs,
 
-                    // [#2681] Work around a flaw in the MySQL JDBC driver
-                    SQLDataType.VARCHAR, // TABLE_CAT
-                    SQLDataType.VARCHAR, // TABLE_SCHEM
-                    SQLDataType.VARCHAR, // TABLE_NAME
-                    SQLDataType.VARCHAR  // TABLE_TYPE
-                );
+                // [#2681] Work around a flaw in the MySQL JDBC driver
+                SQLDataType.VARCHAR, // TABLE_CAT
+                SQLDataType.VARCHAR, // TABLE_SCHEM
+                SQLDataType.VARCHAR, // TABLE_NAME
+                SQLDataType.VARCHAR  // TABLE_TYPE
+            );
 
-                for (Record table : tables) {
-//                  String catalog = table.getValue(0, String.class);
-                    String schema = table.getValue(1, String.class);
-                    String name = table.getValue(2, String.class);
+            for (Record table : tables) {
+//              String catalog = table.getValue(0, String.class);
+                String schema = table.getValue(1, String.class);
+                String name = table.getValue(2, String.class);
 
-                    result.add(new MetaTable(name, this, getColumns(schema, name)));
+                result.add(new MetaTable(name, this, getColumns(meta, schema, name)));
 
-//                  TODO: Find a more efficient way to do this
-//                  Result<Record> pkColumns = executor.fetch(meta().getPrimaryKeys(catalog, schema, name))
-//                                                     .sortAsc("KEY_SEQ");
+//              TODO: Find a more efficient way to do this
+//              Result<Record> pkColumns = executor.fetch(meta().getPrimaryKeys(catalog, schema, name))
+//                                                 .sortAsc("KEY_SEQ");
 //
-//                  result.add(new MetaTable(name, this, columnCache.get(name)));
-                }
-
-                return result;
-            }
-            catch (SQLException e) {
-                throw new DataAccessException("Error while accessing DatabaseMetaData", e);
+//              result.add(new MetaTable(name, this, columnCache.get(name)));
             }
+
+            return result;
         }
 
-        private final Result<Record> getColumns(String schema, String table) throws SQLException {
+        private final Result<Record> getColumns(DatabaseMetaData meta, final String schema, String table) throws SQLException {
 
             // SQLite JDBC's DatabaseMetaData.getColumns() can only return a single
             // table's columns
-            if (columnCache == null && configuration.dialect() != SQLITE) {
-                Field<String> tableSchem = fieldByName(String.class, "TABLE_SCHEM");
-                Field<String> tableName = fieldByName(String.class, "TABLE_NAME");
-
-                Map<Record, Result<Record>> groups =
-                getColumns0(schema, "%").intoGroups(new Field[] {
-                    tableSchem,
-                    tableName
+            if (configuration.dialect() != SQLITE) {
+                Map<Name, Result<Record>> columns = cached(meta, KEY_COLUMNS + schema, new Loader<Map<Name, Result<Record>>>() {
+                    
+                    public Map<Name, Result<Record>> load(DatabaseMetaData m) throws SQLException {
+                        return getAllColumns(m, schema);
+                    }
                 });
 
-                columnCache = new LinkedHashMap<Name, Result<Record>>();
-
-                for (Entry<Record, Result<Record>> entry : groups.entrySet()) {
-                    Record key = entry.getKey();
-                    Result<Record> value = entry.getValue();
-                    columnCache.put(name(key.getValue(tableSchem), key.getValue(tableName)), value);
-                }
-            }
-
-            if (columnCache != null) {
-                return columnCache.get(name(schema, table));
+                return columns.get(name(schema, table));
             }
             else {
-                return getColumns0(schema, table);
+                return getColumns0(meta, schema, table);
+            }
+        }
+
+        /**
+         * Fetch the columns of all tables in a schema in a single call.
+         */
+        private final Map<Name, Result<Record>> getAllColumns(DatabaseMetaData meta, String schema) throws SQLException {
+            Field<String> tableSchem = fieldByName(String.class, "TABLE_SCHEM");
+            Field<String> tableName = fieldByName(String.class, "TABLE_NAME");
+
+            Map<Record, Result<Record>> groups =
+            getColumns0(meta, schema, "%").intoGroups(new Field[] {
+                tableSchem,
+                tableName
+            });
+
+            Map<Name, Result<Record>> result = new LinkedHashMap<Name, Result<Record>>();
+
+            for (Entry<Record, Result<Record>> entry : groups.entrySet()) {
+                Record key = entry.getKey();
+                Result<Record> value = entry.getValue();
+                result.put(name(key.getValue(tableSchem), key.getValue(tableName)), value);
             }
+
+            return result;
         }
 
-        private final Result<Record> getColumns0(String schema, String table) throws SQLException {
+        private final Result<Record> getColumns0(DatabaseMetaData meta, String schema, String table) throws SQLException {
             ResultSet rs;
             if (!asList(MYSQL, MARIADB).contains(configuration.dialect().family())) {
-                rs = meta().getColumns(null, schema, table, "%");
+                rs = meta.getColumns(null, schema, table, "%");
             }
 
             // [#2760] MySQL JDBC confuses "catalog" and "schema"
             else {
-                rs = meta().getColumns(schema, null, table, "%");
+                rs = meta.getColumns(schema, null, table, "%");
             }
 
             return create.fetch(
@@ -413,32 +574,15 @@ class MetaImpl implements Meta, Serializable {
         @SuppressWarnings("unchecked")
         
         public final UniqueKey<Record> getPrimaryKey() {
-            String schema = getSchema() == null ? null : getSchema().getName();
+            final String schema = getSchema() == null ? null : getSchema().getName();
 
             try {
-                ResultSet rs;
-                if (!asList(MYSQL, MARIADB).contains(configuration.dialect().family())) {
-                    rs = meta().getPrimaryKeys(null, schema, getName());
-                }
-
-                // [#2760] MySQL JDBC confuses "catalog" and "schema"
-                else {
-                    rs = meta().getPrimaryKeys(schema, null, getName());
-                }
-
-                Result<Record> result =
-                create.fetch(
-                    rs,
-                    String.class, // TABLE_CAT
-                    String.class, // TABLE_SCHEM
-                    String.class, // TABLE_NAME
-                    String.class, // COLUMN_NAME
-                    int.class,    // KEY_SEQ
-                    String.class  // PK_NAME
-                );
-
-                // Sort by KEY_SEQ
-                result.sortAsc(4);
+                Result<Record> result = cached(KEY_PRIMARY_KEY + schema + "." + getName(), new Loader<Result<Record>>() {
+                    
+                    public Result<Record> load(DatabaseMetaData meta) throws SQLException {
+                        return getPrimaryKey0(meta, schema);
+                    }
+                });
 
                 if (result.size() > 0) {
                     TableField<Record, ?>[] fields = new TableField[result.size()];
@@ -457,6 +601,33 @@ class MetaImpl implements Meta, Serializable {
             }
         }
 
+        private final Result<Record> getPrimaryKey0(DatabaseMetaData meta, String schema) throws SQLException {
+            ResultSet rs;
+            if (!asList(MYSQL, MARIADB).contains(configuration.dialect().family())) {
+                rs = meta.getPrimaryKeys(null, schema, getName());
+            }
+
+            // [#2760] MySQL JDBC confuses "catalog" and "schema"
+            else {
+                rs = meta.getPrimaryKeys(schema, null, getName());
+            }
+
+            Result<Record> result =
+            create.fetch(
+                rs,
+                String.class, // TABLE_CAT
+                String.class, // TABLE_SCHEM
+                String.class, // TABLE_NAME
+                String.class, // COLUMN_NAME
+                int.class,    // KEY_SEQ
+                String.class  // PK_NAME
+            );
+
+            // Sort by KEY_SEQ
+            result.sortAsc(4);
+            return result;
+        }
+
         private final void init(Result<Record> columns) {
             for (Record column : columns) {
                 String columnName = column.getValue("COLUMN_NAME", String.class);
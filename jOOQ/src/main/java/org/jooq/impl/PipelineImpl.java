@@ -0,0 +1,278 @@
+/**
+ * Copyright (c) 2009-2013, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq.impl;
+
+import static org.jooq.conf.SettingsTools.executePreparedStatements;
+import static org.jooq.impl.Utils.fieldArray;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.jooq.Configuration;
+import org.jooq.DSLContext;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.Field;
+import org.jooq.Pipeline;
+import org.jooq.PipelineResult;
+import org.jooq.Query;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.ResultQuery;
+import org.jooq.Select;
+
+/**
+ * @author Lukas Eder
+ */
+class PipelineImpl implements Pipeline {
+
+    /**
+     * Generated UID
+     */
+    private static final long   serialVersionUID = 4709434384925305925L;
+
+    private final Configuration configuration;
+    private final Query[]       queries;
+
+    PipelineImpl(Configuration configuration, Query... queries) {
+        this.configuration = configuration;
+        this.queries = queries;
+    }
+
+    
+    public final int size() {
+        return queries.length;
+    }
+
+    
+    public final PipelineResult execute() {
+        switch (configuration.dialect().family()) {
+            case MARIADB:
+            case MYSQL:
+            case POSTGRES:
+                return executePipelined();
+
+            // Other dialects do not support several statements in a single
+            // JDBC statement execution
+            default:
+                return executeSequentially();
+        }
+    }
+
+    private final PipelineResult executeSequentially() {
+        DSLContext create = DSL.using(configuration);
+        Object[] results = new Object[queries.length];
+
+        for (int i = 0; i < queries.length; i++) {
+            if (queries[i] instanceof ResultQuery) {
+                results[i] = create.fetch((ResultQuery<?>) queries[i]);
+            }
+            else {
+                results[i] = create.execute(queries[i]);
+            }
+        }
+
+        return new PipelineResultImpl(queries, results);
+    }
+
+    private final PipelineResult executePipelined() {
+        ExecuteContext ctx = new DefaultExecuteContext(configuration, queries);
+        ExecuteListener listener = new ExecuteListeners(ctx);
+        Connection connection = ctx.connection();
+        boolean prepared = executePreparedStatements(configuration.settings());
+
+        try {
+            DSLContext create = DSL.using(configuration);
+            String[] batchSQL = ctx.batchSQL();
+            StringBuilder sql = new StringBuilder();
+
+            listener.renderStart(ctx);
+            for (int i = 0; i < queries.length; i++) {
+                batchSQL[i] = prepared ? create.render(queries[i]) : create.renderInlined(queries[i]);
+
+                if (i > 0) {
+                    sql.append(";\n");
+                }
+
+                sql.append(batchSQL[i]);
+            }
+
+            ctx.sql(sql.toString());
+            listener.renderEnd(ctx);
+
+            listener.prepareStart(ctx);
+            ctx.statement(connection.prepareStatement(ctx.sql()));
+            listener.prepareEnd(ctx);
+
+            if (prepared) {
+                listener.bindStart(ctx);
+                DefaultBindContext bind = ContextCache.bindContext(configuration, ctx.statement());
+
+                try {
+                    for (Query query : queries) {
+                        bind.visit(query);
+                    }
+                }
+                finally {
+                    ContextCache.release(bind);
+                }
+
+                listener.bindEnd(ctx);
+            }
+
+            listener.executeStart(ctx);
+            boolean resultSet = ctx.statement().execute();
+            listener.executeEnd(ctx);
+
+            // Every statement produces exactly one update count or result set
+            Object[] results = new Object[queries.length];
+            int[] batchRows = ctx.batchRows();
+
+            for (int i = 0; i < queries.length; i++) {
+                if (i > 0) {
+                    resultSet = ctx.statement().getMoreResults();
+                }
+
+                if (resultSet) {
+                    ctx.resultSet(ctx.statement().getResultSet());
+                }
+
+                if (ctx.resultSet() != null) {
+                    if (queries[i] instanceof ResultQuery) {
+                        Result<?> result = fetch(ctx, listener, (ResultQuery<?>) queries[i]);
+                        results[i] = result;
+                        batchRows[i] = result.size();
+                    }
+                    else {
+                        ctx.resultSet().close();
+                        results[i] = 0;
+                        batchRows[i] = 0;
+                    }
+
+                    ctx.resultSet(null);
+                }
+                else {
+                    batchRows[i] = ctx.statement().getUpdateCount();
+
+                    if (queries[i] instanceof ResultQuery) {
+                        results[i] = new ResultImpl<Record>(configuration);
+                    }
+                    else {
+                        results[i] = batchRows[i];
+                    }
+                }
+            }
+
+            return new PipelineResultImpl(queries, results);
+        }
+        catch (SQLException e) {
+            ctx.sqlException(e);
+            listener.exception(ctx);
+            throw ctx.exception();
+        }
+        finally {
+            Utils.safeClose(listener, ctx);
+        }
+    }
+
+    /**
+     * Fetch the current result set of a pipeline execution into a result
+     */
+    private static final <R extends Record> Result<R> fetch(ExecuteContext ctx, ExecuteListener listener, ResultQuery<R> query) throws SQLException {
+        Field<?>[] fields;
+
+        if (query instanceof Select && !((Select<?>) query).getSelect().isEmpty()) {
+            fields = fieldArray(((Select<?>) query).getSelect());
+        }
+        else {
+            fields = new MetaDataFieldProvider(ctx.configuration(), ctx.resultSet().getMetaData()).getFields();
+        }
+
+        return new CursorImpl<R>(ctx, listener, fields, null, true, false, query.getRecordType()).fetch();
+    }
+
+    /**
+     * The results of a pipeline execution
+     */
+    private static class PipelineResultImpl implements PipelineResult {
+
+        private final Query[]  queries;
+        private final Object[] results;
+
+        PipelineResultImpl(Query[] queries, Object[] results) {
+            this.queries = queries;
+            this.results = results;
+        }
+
+        @SuppressWarnings("unchecked")
+        
+        public final <R extends Record> Result<R> get(ResultQuery<R> query) {
+            return (Result<R>) results[indexOf(query)];
+        }
+
+        
+        public final int rows(Query query) {
+            Object result = results[indexOf(query)];
+
+            if (result instanceof Result) {
+                return ((Result<?>) result).size();
+            }
+            else {
+                return (Integer) result;
+            }
+        }
+
+        
+        public final int size() {
+            return queries.length;
+        }
+
+        private final int indexOf(Query query) {
+            for (int i = 0; i < queries.length; i++) {
+                if (queries[i] == query) {
+                    return i;
+                }
+            }
+
+            throw new IllegalArgumentException("Query is not part of this pipeline : " + query);
+        }
+    }
+}
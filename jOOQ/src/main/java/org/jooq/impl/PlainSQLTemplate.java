@@ -0,0 +1,302 @@
+/**
+ * Copyright (c) 2009-2013, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq.impl;
+
+import static org.jooq.conf.ParamType.INLINED;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import org.jooq.BindContext;
+import org.jooq.QueryPart;
+import org.jooq.RenderContext;
+
+/**
+ * A plain SQL string, parsed into literal SQL segments, <code>?</code> bind
+ * value placeholders, <code>{numbered placeholders}</code> and
+ * <code>{keywords}</code>.
+ * <p>
+ * Parsing skips comments and string literals, which may contain placeholder
+ * characters. Templates are immutable and cached per SQL string, such that
+ * rendering consists of appending literal segments, and binding iterates only
+ * over placeholders.
+ *
+ * @author Lukas Eder
+ */
+final class PlainSQLTemplate {
+
+    /**
+     * A pattern for the JDBC escape syntax
+     */
+    private static final Pattern                                   JDBC_ESCAPE_PATTERN = Pattern.compile("\\{(fn|d|t|ts)\\b.*");
+
+    /**
+     * The cached templates. Cache hits don't take any locks.
+     */
+    private static final BoundedCache<String, PlainSQLTemplate>    CACHE               = new BoundedCache<String, PlainSQLTemplate>(1024);
+
+    private static final int                                       SQL                 = 0;
+    private static final int                                       BIND_VALUE          = 1;
+    private static final int                                       SUBSTITUTE          = 2;
+    private static final int                                       KEYWORD             = 3;
+
+    private final int[]                                            types;
+    private final String[]                                         texts;
+    private final int[]                                            indexes;
+
+    private PlainSQLTemplate(List<Integer> types, List<String> texts, List<Integer> indexes) {
+        int size = types.size();
+
+        this.types = new int[size];
+        this.texts = texts.toArray(new String[size]);
+        this.indexes = new int[size];
+
+        for (int i = 0; i < size; i++) {
+            this.types[i] = types.get(i);
+            this.indexes[i] = indexes.get(i);
+        }
+    }
+
+    /**
+     * Get the (possibly cached) template for a plain SQL string.
+     */
+    static final PlainSQLTemplate of(String sql) {
+        PlainSQLTemplate result = CACHE.get(sql);
+
+        // Concurrent parsing of the same SQL string produces equivalent
+        // templates
+        if (result == null) {
+            result = CACHE.add(sql, parse(sql));
+        }
+
+        return result;
+    }
+
+    /**
+     * Render this template, substituting <code>{numbered placeholders}</code>
+     * and bind values if {@link RenderContext#paramType()} is
+     * {@link org.jooq.conf.ParamType#INLINED}.
+     */
+    final void render(RenderContext render, List<QueryPart> substitutes) {
+        int substituteIndex = 0;
+
+        for (int i = 0; i < types.length; i++) {
+            switch (types[i]) {
+                // Plain SQL is never re-formatted
+                case SQL:
+                    render.sql(texts[i], true);
+                    break;
+
+                case BIND_VALUE:
+
+                    // Surplus bind value placeholders are rendered as such
+                    if (substituteIndex < substitutes.size()) {
+                        QueryPart substitute = substitutes.get(substituteIndex++);
+
+                        if (render.paramType() == INLINED) {
+                            render.visit(substitute);
+                        }
+                        else {
+                            render.sql('?');
+                        }
+                    }
+                    else {
+                        render.sql('?');
+                    }
+
+                    break;
+
+                case SUBSTITUTE:
+                    render.visit(substitutes.get(indexes[i]));
+                    break;
+
+                case KEYWORD:
+                    render.keyword(texts[i]);
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Bind the substitutes of this template's placeholders.
+     */
+    final void bind(BindContext bind, List<QueryPart> substitutes) {
+        int substituteIndex = 0;
+
+        for (int i = 0; i < types.length; i++) {
+            switch (types[i]) {
+                case BIND_VALUE:
+                    if (substituteIndex < substitutes.size()) {
+                        bind.visit(substitutes.get(substituteIndex++));
+                    }
+
+                    break;
+
+                case SUBSTITUTE:
+                    bind.visit(substitutes.get(indexes[i]));
+                    break;
+            }
+        }
+    }
+
+    // ------------------------------------------------------------------------
+    // XXX: Parsing
+    // ------------------------------------------------------------------------
+
+    private static final PlainSQLTemplate parse(String sql) {
+        List<Integer> types = new ArrayList<Integer>();
+        List<String> texts = new ArrayList<String>();
+        List<Integer> indexes = new ArrayList<Integer>();
+
+        char[] sqlChars = sql.toCharArray();
+        int length = sqlChars.length;
+
+        // The start of the current literal SQL segment
+        int start = 0;
+
+        for (int i = 0; i < length; i++) {
+
+            // [#1797] Skip content inside of single-line comments, e.g.
+            // select 1 x -- what's this ?'?
+            // from t_book -- what's that ?'?
+            // where id = ?
+            if (peek(sqlChars, i, "--")) {
+
+                // Consume the complete comment, including the newline character
+                for (; i < length && sqlChars[i] != '\r' && sqlChars[i] != '\n'; i++);
+            }
+
+            // [#1797] Skip content inside of multi-line comments, e.g.
+            // select 1 x /* what's this ?'?
+            // I don't know ?'? */
+            // from t_book where id = ?
+            else if (peek(sqlChars, i, "/*")) {
+
+                // Consume the complete comment, including the comment delimiter
+                for (i += 2; i < length && !peek(sqlChars, i, "*/"); i++);
+                i++;
+            }
+
+            // [#1031] [#1032] Skip ? inside of string literals, e.g.
+            // insert into x values ('Hello? Anybody out there?');
+            else if (sqlChars[i] == '\'') {
+
+                // Consume the whole string literal, including escaped
+                // apostrophes and the terminal string literal delimiter
+                for (i++; i < length; i++) {
+                    if (peek(sqlChars, i, "''")) {
+                        i++;
+                    }
+                    else if (sqlChars[i] == '\'') {
+                        break;
+                    }
+                }
+            }
+
+            // Bind variables only outside of string literals
+            else if (sqlChars[i] == '?') {
+                add(types, texts, indexes, SQL, sql.substring(start, i), 0);
+                add(types, texts, indexes, BIND_VALUE, null, 0);
+                start = i + 1;
+            }
+
+            // [#1432] Substitutes for {numbered placeholders} outside of string literals
+            // [#1461] Be careful not to match any JDBC escape syntax
+            else if (sqlChars[i] == '{' && !JDBC_ESCAPE_PATTERN.matcher(sql.substring(i)).matches()) {
+                add(types, texts, indexes, SQL, sql.substring(start, i), 0);
+
+                // Consume the whole token
+                int tokenStart = ++i;
+                for (; i < length && sqlChars[i] != '}'; i++);
+                String token = sql.substring(tokenStart, i);
+
+                // Try getting the {numbered placeholder}
+                try {
+                    add(types, texts, indexes, SUBSTITUTE, null, Integer.valueOf(token));
+                }
+
+                // If the above failed, then we're dealing with a {keyword}
+                catch (NumberFormatException e) {
+                    add(types, texts, indexes, KEYWORD, token, 0);
+                }
+
+                start = i + 1;
+            }
+        }
+
+        if (start < length) {
+            add(types, texts, indexes, SQL, sql.substring(start), 0);
+        }
+
+        return new PlainSQLTemplate(types, texts, indexes);
+    }
+
+    private static final void add(List<Integer> types, List<String> texts, List<Integer> indexes, int type, String text, int index) {
+
+        // Empty literal SQL segments need not be rendered
+        if (type != SQL || !text.isEmpty()) {
+            types.add(type);
+            texts.add(text);
+            indexes.add(index);
+        }
+    }
+
+    /**
+     * Peek for a string at a given <code>index</code> of a <code>char[]</code>
+     *
+     * @param sqlChars The char array to peek into
+     * @param index The index within the char array to peek for a string
+     * @param peek The string to peek for
+     */
+    private static final boolean peek(char[] sqlChars, int index, String peek) {
+        for (int i = 0; i < peek.length(); i++) {
+            if (index + i >= sqlChars.length) {
+                return false;
+            }
+            if (sqlChars[index + i] != peek.charAt(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
@@ -82,36 +82,67 @@ class RecordDelegate<R extends Record> {
         return new RecordDelegate<R>(configuration, record, type);
     }
 
-    final <E extends Exception> R operate(RecordOperation<R, E> operation) throws E {
-        RecordListenerProvider[] providers = null;
-        RecordListener[] listeners = null;
-        RecordContext ctx = null;
-
+    /**
+     * Resolve the {@link RecordListener}s provided by a configuration.
+     * <p>
+     * This can be used to resolve listeners only once for several records,
+     * e.g. for all records fetched by a cursor.
+     *
+     * @return The listeners, or <code>null</code> if there aren't any
+     *         listeners.
+     */
+    static final RecordListener[] listeners(Configuration configuration) {
         if (configuration != null) {
-            providers = configuration.recordListenerProviders();
+            RecordListenerProvider[] providers = configuration.recordListenerProviders();
 
-            if (providers != null) {
-                listeners = new RecordListener[providers.length];
-                ctx = new DefaultRecordContext(configuration, executeType(), record);
+            if (providers != null && providers.length > 0) {
+                RecordListener[] listeners = new RecordListener[providers.length];
 
                 for (int i = 0; i < providers.length; i++) {
                     listeners[i] = providers[i].provide();
                 }
+
+                return listeners;
             }
         }
 
-        if (listeners != null) {
-            for (RecordListener listener  : listeners) {
-                switch (type) {
-                    case LOAD:    listener.loadStart(ctx);    break;
-                    case REFRESH: listener.refreshStart(ctx); break;
-                    case STORE:   listener.storeStart(ctx);   break;
-                    case INSERT:  listener.insertStart(ctx);  break;
-                    case UPDATE:  listener.updateStart(ctx);  break;
-                    case DELETE:  listener.deleteStart(ctx);  break;
-                    default:
-                        throw new IllegalStateException("Type not supported: " + type);
-                }
+        return null;
+    }
+
+    final <E extends Exception> R operate(RecordOperation<R, E> operation) throws E {
+        return operate(operation, listeners(configuration));
+    }
+
+    /**
+     * Operate on the record, using pre-resolved listeners.
+     *
+     * @param listeners The listeners as obtained from
+     *            {@link #listeners(Configuration)}, or <code>null</code> if
+     *            there aren't any listeners.
+     */
+    final <E extends Exception> R operate(RecordOperation<R, E> operation, RecordListener[] listeners) throws E {
+
+        // Avoid any lifecycle overhead in the absence of RecordListeners
+        if (listeners == null) {
+            if (operation != null) {
+                operation.operate(record);
+            }
+
+            return record;
+        }
+
+        RecordContext ctx = new DefaultRecordContext(configuration, executeType(), record);
+
+        for (RecordListener listener : listeners) {
+            switch (type) {
+                case LOAD:    listener.loadStart(ctx);    break;
+                case REFRESH: listener.refreshStart(ctx); break;
+                case STORE:   listener.storeStart(ctx);   break;
+                case INSERT:  listener.insertStart(ctx);  break;
+                case UPDATE:  listener.updateStart(ctx);  break;
+                case DELETE:  listener.deleteStart(ctx);  break;
+                default:
+                    throw new IllegalStateException("Type not supported: " + type);
             }
         }
 
@@ -119,18 +150,16 @@ class RecordDelegate<R extends Record> {
             operation.operate(record);
         }
 
-        if (listeners != null) {
-            for (RecordListener listener  : listeners) {
-                switch (type) {
-                    case LOAD:    listener.loadEnd(ctx);    break;
-                    case REFRESH: listener.refreshEnd(ctx); break;
-                    case STORE:   listener.storeEnd(ctx);   break;
-                    case INSERT:  listener.insertEnd(ctx);  break;
-                    case UPDATE:  listener.updateEnd(ctx);  break;
-                    case DELETE:  listener.deleteEnd(ctx);  break;
-                    default:
-                        throw new IllegalStateException("Type not supported: " + type);
-                }
+        for (RecordListener listener : listeners) {
+            switch (type) {
+                case LOAD:    listener.loadEnd(ctx);    break;
+                case REFRESH: listener.refreshEnd(ctx); break;
+                case STORE:   listener.storeEnd(ctx);   break;
+                case INSERT:  listener.insertEnd(ctx);  break;
+                case UPDATE:  listener.updateEnd(ctx);  break;
+                case DELETE:  listener.deleteEnd(ctx);  break;
+                default:
+                    throw new IllegalStateException("Type not supported: " + type);
             }
         }
 
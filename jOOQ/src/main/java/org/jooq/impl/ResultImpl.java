@@ -48,6 +48,8 @@ import static org.jooq.tools.StringUtils.abbreviate;
 import static org.jooq.tools.StringUtils.leftPad;
 import static org.jooq.tools.StringUtils.rightPad;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.lang.reflect.Array;
 import java.sql.ResultSet;
 import java.util.ArrayList;
@@ -81,7 +83,7 @@ import org.jooq.exception.InvalidResultException;
 import org.jooq.tools.Convert;
 import org.jooq.tools.StringUtils;
 import org.jooq.tools.jdbc.MockResultSet;
-import org.jooq.tools.json.JSONObject;
+import org.jooq.tools.json.JSONWriter;
 
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -502,33 +504,52 @@ class ResultImpl<R extends Record> implements Result<R>, AttachableInternal {
     public final String formatCSV(char delimiter, String nullString) {
         StringBuilder sb = new StringBuilder();
 
-        String sep1 = "";
-        for (Field<?> field : fields.fields) {
-            sb.append(sep1);
-            sb.append(formatCSV0(field.getName(), ""));
+        try {
+            formatCSVHeader(sb, fields.fields, delimiter);
+
+            for (Record record : this) {
+                for (int index = 0; index < fields.fields.length; index++) {
+                    formatCSVValue(sb, index, record.getValue(index), delimiter, nullString);
+                }
 
-            sep1 = Character.toString(delimiter);
+                sb.append("\n");
+            }
         }
 
-        sb.append("\n");
+        // This doesn't happen with StringBuilder
+        catch (IOException ignore) {}
 
-        for (Record record : this) {
-            String sep2 = "";
+        return sb.toString();
+    }
 
-            for (int index = 0; index < fields.fields.length; index++) {
-                sb.append(sep2);
-                sb.append(formatCSV0(record.getValue(index), nullString));
+    /**
+     * Format the CSV header line for a set of fields.
+     * <p>
+     * This is shared with {@link CursorImpl}, which streams CSV content.
+     */
+    static final void formatCSVHeader(Appendable out, Field<?>[] fields, char delimiter) throws IOException {
+        for (int index = 0; index < fields.length; index++) {
+            formatCSVValue(out, index, fields[index].getName(), delimiter, "");
+        }
 
-                sep2 = Character.toString(delimiter);
-            }
+        out.append("\n");
+    }
 
-            sb.append("\n");
+    /**
+     * Format a single CSV value, preceded by a delimiter unless this is the
+     * first value of a line.
+     * <p>
+     * This is shared with {@link CursorImpl}, which streams CSV content.
+     */
+    static final void formatCSVValue(Appendable out, int index, Object value, char delimiter, String nullString) throws IOException {
+        if (index > 0) {
+            out.append(delimiter);
         }
 
-        return sb.toString();
+        out.append(formatCSV0(value, nullString));
     }
 
-    private final String formatCSV0(Object value, String nullString) {
+    private static final String formatCSV0(Object value, String nullString) {
 
         // Escape null and empty strings
         if (value == null || "".equals(value)) {
@@ -574,34 +595,59 @@ class ResultImpl<R extends Record> implements Result<R>, AttachableInternal {
 
     
     public final String formatJSON() {
-        List<Map<String, String>> f = new ArrayList<Map<String, String>>();
-        List<List<Object>> r = new ArrayList<List<Object>>();
+        StringWriter writer = new StringWriter();
 
-        Map<String, String> fieldMap;
-        for (Field<?> field : fields.fields) {
-            fieldMap = new LinkedHashMap<String, String>();
-            fieldMap.put("name", field.getName());
-            fieldMap.put("type", field.getDataType().getTypeName().toUpperCase());
+        try {
+            JSONWriter json = new JSONWriter(writer);
+            formatJSONHeader(json, fields.fields);
 
-            f.add(fieldMap);
-        }
+            for (Record record : this) {
+                json.beginArray();
 
-        for (Record record : this) {
-            List<Object> list = new ArrayList<Object>();
+                for (int index = 0; index < fields.fields.length; index++) {
+                    json.value(record.getValue(index));
+                }
 
-            for (int index = 0; index < fields.fields.length; index++) {
-                list.add(record.getValue(index));
+                json.endArray();
             }
 
-            r.add(list);
+            formatJSONFooter(json);
         }
 
-        Map<String, List<?>> map = new LinkedHashMap<String, List<?>>();
+        // This doesn't happen with StringWriter
+        catch (IOException ignore) {}
 
-        map.put("fields", f);
-        map.put("records", r);
+        return writer.toString();
+    }
 
-        return JSONObject.toJSONString(map);
+    /**
+     * Format the JSON content preceding the first record.
+     * <p>
+     * This is shared with {@link CursorImpl}, which streams JSON content.
+     */
+    static final void formatJSONHeader(JSONWriter json, Field<?>[] fields) throws IOException {
+        json.beginObject()
+            .key("fields")
+            .beginArray();
+
+        for (Field<?> field : fields) {
+            json.beginObject()
+                .key("name").value(field.getName())
+                .key("type").value(field.getDataType().getTypeName().toUpperCase())
+                .endObject();
+        }
+
+        json.endArray()
+            .key("records")
+            .beginArray();
+    }
+
+    /**
+     * Format the JSON content following the last record.
+     */
+    static final void formatJSONFooter(JSONWriter json) throws IOException {
+        json.endArray()
+            .endObject();
     }
 
     
@@ -1189,10 +1235,14 @@ class ResultImpl<R extends Record> implements Result<R>, AttachableInternal {
 
     
     public final Result<R> intern(int... fieldIndexes) {
-        for (int fieldIndex : fieldIndexes) {
-            if (fields.fields[fieldIndex].getType() == String.class) {
-                for (Record record : this) {
-                    ((AbstractRecord) record).getValue0(fieldIndex).intern();
+        Interner interner = Interner.interner(configuration, fields.fields, fieldIndexes);
+
+        if (interner != null) {
+            for (int fieldIndex : fieldIndexes) {
+                if (fields.fields[fieldIndex].getType() == String.class) {
+                    for (Record record : this) {
+                        ((AbstractRecord) record).getValue0(fieldIndex).intern(interner, fieldIndex);
+                    }
                 }
             }
         }
@@ -47,6 +47,7 @@ import static org.jooq.Clause.CONDITION_NOT_IN;
 import static org.jooq.Comparator.EQUALS;
 import static org.jooq.Comparator.IN;
 import static org.jooq.Comparator.NOT_IN;
+import static org.jooq.conf.ParamType.INLINED;
 // ...
 // ...
 import static org.jooq.SQLDialect.DERBY;
@@ -69,6 +70,7 @@ import org.jooq.Operator;
 import org.jooq.QueryPartInternal;
 import org.jooq.RenderContext;
 import org.jooq.Row;
+import org.jooq.conf.InListStyle;
 
 /**
  * @author Lukas Eder
@@ -94,24 +96,33 @@ class RowInCondition extends AbstractCondition {
 
     
     public final void toSQL(RenderContext ctx) {
-        delegate(ctx.configuration()).toSQL(ctx);
+        delegate(ctx.configuration(), ctx.paramType() == INLINED).toSQL(ctx);
     }
 
     
     public final void bind(BindContext ctx) {
-        delegate(ctx.configuration()).bind(ctx);
+        delegate(ctx.configuration(), false).bind(ctx);
     }
 
     
     public final Clause[] clauses(Context<?> ctx) {
-        return delegate(ctx.configuration()).clauses(ctx);
+        return delegate(ctx.configuration(), false).clauses(ctx);
     }
 
-    private final QueryPartInternal delegate(Configuration configuration) {
+    private final QueryPartInternal delegate(Configuration configuration, boolean inline) {
+        InListStyle style = inline ? InListStyle.DEFAULT : Utils.settings(configuration).getInListStyle();
+        QueryPartList<? extends Row> list = right;
+
+        // Row value expressions cannot be bound as arrays. InListStyle.ARRAY
+        // falls back to padding IN lists
+        if (style == InListStyle.PADDED || style == InListStyle.ARRAY) {
+            list = new QueryPartList<Row>(InCondition.padded(right.toArray(new Row[right.size()])));
+        }
+
         if (asList(DERBY, FIREBIRD, SQLITE).contains(configuration.dialect().family())) {
             List<Condition> conditions = new ArrayList<Condition>();
 
-            for (Row row : right) {
+            for (Row row : list) {
                 conditions.add(new RowCondition(left, row, EQUALS));
             }
 
@@ -124,7 +135,7 @@ class RowInCondition extends AbstractCondition {
             return (QueryPartInternal) result;
         }
         else {
-            return new Native();
+            return new Native(list);
         }
     }
 
@@ -133,7 +144,13 @@ class RowInCondition extends AbstractCondition {
         /**
          * Generated UID
          */
-        private static final long serialVersionUID = -7019193803316281371L;
+        private static final long                  serialVersionUID = -7019193803316281371L;
+
+        private final QueryPartList<? extends Row> list;
+
+        Native(QueryPartList<? extends Row> list) {
+            this.list = list;
+        }
 
         
         public final void toSQL(RenderContext context) {
@@ -141,13 +158,13 @@ class RowInCondition extends AbstractCondition {
                    .sql(" ")
                    .keyword(comparator.toSQL())
                    .sql(" (")
-                   .visit(right)
+                   .visit(list)
                    .sql(")");
         }
 
         
         public final void bind(BindContext context) {
-            context.visit(left).visit(right);
+            context.visit(left).visit(list);
         }
 
         
@@ -45,6 +45,9 @@ import static org.jooq.impl.DSL.exists;
 import static org.jooq.impl.DSL.notExists;
 import static org.jooq.impl.DSL.table;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.sql.ResultSet;
 import java.util.Arrays;
 import java.util.Collection;
@@ -76,6 +79,8 @@ import org.jooq.SelectForUpdateOfStep;
 import org.jooq.SelectHavingConditionStep;
 import org.jooq.SelectJoinStep;
 import org.jooq.SelectOffsetStep;
+import org.jooq.SelectSeekLimitStep;
+import org.jooq.SelectSeekStepN;
 import org.jooq.SelectOnConditionStep;
 import org.jooq.SelectOnStep;
 import org.jooq.SelectOptionalOnStep;
@@ -101,6 +106,8 @@ class SelectImpl<R extends Record> extends AbstractDelegatingQuery<Select<R>> im
     SelectConditionStep<R>,
     SelectConnectByConditionStep<R>,
     SelectHavingConditionStep<R>,
+    SelectSeekStepN<R>,
+    SelectSeekLimitStep<R>,
     SelectOffsetStep<R>,
     SelectForUpdateOfStep<R> {
 
@@ -533,6 +540,54 @@ class SelectImpl<R extends Record> extends AbstractDelegatingQuery<Select<R>> im
     }
 
     
+    public final SelectImpl<R> seek(Object... values) {
+        return seekAfter(values);
+    }
+
+    
+    public final SelectImpl<R> seek(Field<?>... values) {
+        return seekAfter(values);
+    }
+
+    
+    public final SelectImpl<R> seekAfter(Object... values) {
+        getQuery().addSeekAfter(Utils.fields(values, seekFields()));
+        return this;
+    }
+
+    
+    public final SelectImpl<R> seekAfter(Field<?>... values) {
+        getQuery().addSeekAfter(values);
+        return this;
+    }
+
+    
+    public final SelectImpl<R> seekBefore(Object... values) {
+        getQuery().addSeekBefore(Utils.fields(values, seekFields()));
+        return this;
+    }
+
+    
+    public final SelectImpl<R> seekBefore(Field<?>... values) {
+        getQuery().addSeekBefore(values);
+        return this;
+    }
+
+    /**
+     * The <code>ORDER BY</code> fields, providing data types for seek values.
+     */
+    private final Field<?>[] seekFields() {
+        SortFieldList orderBy = ((SelectQueryImpl<R>) getDelegate()).getOrderBy();
+        Field<?>[] result = new Field[orderBy.size()];
+
+        for (int i = 0; i < result.length; i++) {
+            result[i] = ((SortFieldImpl<?>) orderBy.get(i)).getField();
+        }
+
+        return result;
+    }
+
+    
     public final SelectImpl<R> limit(int numberOfRows) {
         this.limit = numberOfRows;
         this.limitParam = null;
@@ -1050,6 +1105,31 @@ class SelectImpl<R extends Record> extends AbstractDelegatingQuery<Select<R>> im
     }
 
     
+    public final void exportCSV(Writer writer) throws IOException {
+        getDelegate().exportCSV(writer);
+    }
+
+    
+    public final void exportCSV(Writer writer, char delimiter) throws IOException {
+        getDelegate().exportCSV(writer, delimiter);
+    }
+
+    
+    public final void exportCSV(Writer writer, char delimiter, String nullString) throws IOException {
+        getDelegate().exportCSV(writer, delimiter, nullString);
+    }
+
+    
+    public final void exportJSON(Writer writer) throws IOException {
+        getDelegate().exportJSON(writer);
+    }
+
+    
+    public final void exportJSON(OutputStream stream) throws IOException {
+        getDelegate().exportJSON(stream);
+    }
+
+    
     public final List<Result<Record>> fetchMany() {
         return getDelegate().fetchMany();
     }
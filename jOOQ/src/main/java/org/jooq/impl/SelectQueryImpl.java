@@ -67,6 +67,7 @@ import static org.jooq.SQLDialect.SQLITE;
 // ...
 import static org.jooq.conf.ParamType.INLINED;
 import static org.jooq.impl.DSL.denseRank;
+import static org.jooq.impl.DSL.falseCondition;
 import static org.jooq.impl.DSL.inline;
 import static org.jooq.impl.DSL.name;
 import static org.jooq.impl.DSL.one;
@@ -81,6 +82,7 @@ import java.util.List;
 
 import org.jooq.BindContext;
 import org.jooq.Clause;
+import org.jooq.Comparator;
 import org.jooq.Condition;
 import org.jooq.Configuration;
 import org.jooq.Context;
@@ -96,6 +98,7 @@ import org.jooq.RenderContext;
 import org.jooq.SQLDialect;
 import org.jooq.SelectQuery;
 import org.jooq.SortField;
+import org.jooq.SortOrder;
 import org.jooq.Table;
 import org.jooq.TableField;
 import org.jooq.TableLike;
@@ -140,6 +143,8 @@ class SelectQueryImpl<R extends Record> extends AbstractSelect<R> implements Sel
     private final ConditionProviderImpl     having;
     private final SortFieldList             orderBy;
     private boolean                         orderBySiblings;
+    private final QueryPartList<Field<?>>   seek;
+    private boolean                         seekBefore;
     private final Limit                     limit;
 
     SelectQueryImpl(Configuration configuration) {
@@ -166,6 +171,7 @@ class SelectQueryImpl<R extends Record> extends AbstractSelect<R> implements Sel
         this.groupBy = new QueryPartList<GroupField>();
         this.having = new ConditionProviderImpl();
         this.orderBy = new SortFieldList();
+        this.seek = new QueryPartList<Field<?>>();
         this.limit = new Limit();
 
         if (from != null) {
@@ -189,11 +195,11 @@ class SelectQueryImpl<R extends Record> extends AbstractSelect<R> implements Sel
                .declareTables(true)
                .visit(getFrom())
                .declareTables(false)
-               .visit(getWhere())
+               .visit(getSeekWhere())
                .visit(getConnectByStartWith())
                .visit(getConnectBy())
                .visit(getGroupBy())
-               .visit(getHaving())
+               .visit(getSeekHaving())
                .visit(getOrderBy());
 
         // TOP clauses never bind values. So this can be safely applied at the
@@ -626,11 +632,12 @@ class SelectQueryImpl<R extends Record> extends AbstractSelect<R> implements Sel
         // ------------
         context.start(SELECT_WHERE);
 
-        if (!(getWhere().getWhere() instanceof TrueCondition)) {
+        ConditionProviderImpl where = getSeekWhere();
+        if (!(where.getWhere() instanceof TrueCondition)) {
             context.formatSeparator()
                    .keyword("where")
                    .sql(" ")
-                   .visit(getWhere());
+                   .visit(where);
         }
 
         context.end(SELECT_WHERE);
@@ -704,11 +711,12 @@ class SelectQueryImpl<R extends Record> extends AbstractSelect<R> implements Sel
         // -------------
         context.start(SELECT_HAVING);
 
-        if (!(getHaving().getWhere() instanceof TrueCondition)) {
+        ConditionProviderImpl having = getSeekHaving();
+        if (!(having.getWhere() instanceof TrueCondition)) {
             context.formatSeparator()
                    .keyword("having")
                    .sql(" ")
-                   .visit(getHaving());
+                   .visit(having);
         }
 
         context.end(SELECT_HAVING);
@@ -947,6 +955,146 @@ class SelectQueryImpl<R extends Record> extends AbstractSelect<R> implements Sel
         return having;
     }
 
+    final QueryPartList<Field<?>> getSeek() {
+        return seek;
+    }
+
+    /**
+     * The <code>WHERE</code> clause to render and bind, including the seek
+     * predicate of ungrouped queries.
+     */
+    private final ConditionProviderImpl getSeekWhere() {
+        if (getSeek().isEmpty() || grouping) {
+            return getWhere();
+        }
+
+        return withSeekCondition(getWhere());
+    }
+
+    /**
+     * The <code>HAVING</code> clause to render and bind, including the seek
+     * predicate of grouped queries.
+     */
+    private final ConditionProviderImpl getSeekHaving() {
+        if (getSeek().isEmpty() || !grouping) {
+            return getHaving();
+        }
+
+        return withSeekCondition(getHaving());
+    }
+
+    /**
+     * Combine conditions with the seek predicate into a new, render-only
+     * <code>ConditionProvider</code>, leaving the argument unmodified.
+     */
+    private final ConditionProviderImpl withSeekCondition(ConditionProviderImpl conditions) {
+        ConditionProviderImpl result = new ConditionProviderImpl();
+        result.addConditions(conditions.getWhere());
+        result.addConditions(getSeekCondition());
+        return result;
+    }
+
+    /**
+     * Get the predicate for a synthetic <code>SEEK</code> clause.
+     * <p>
+     * The predicate compares the <code>ORDER BY</code> fields with the seek
+     * values. With uniform sort orders and no explicit <code>NULLS</code>
+     * ordering, this is the row value expression predicate
+     * <code>(A, B, C) > (X, Y, Z)</code>, which {@link RowCondition} simulates
+     * where needed. Otherwise, the predicate is expanded to
+     * <code>(A > X) OR (A = X AND B &lt; Y) OR (A = X AND B = Y AND C > Z)</code>
+     * taking into account each field's sort order and <code>NULLS</code>
+     * ordering.
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private final Condition getSeekCondition() {
+        SortFieldList o = getOrderBy();
+
+        if (o.size() != seek.size()) {
+            throw new IllegalStateException("The number of SEEK values (" + seek.size() + ") must match the number of ORDER BY fields (" + o.size() + ")");
+        }
+
+        SortFieldImpl<?>[] sort = new SortFieldImpl[o.size()];
+        Field<?>[] fields = new Field[o.size()];
+        boolean uniform = true;
+
+        for (int i = 0; i < sort.length; i++) {
+            sort[i] = (SortFieldImpl<?>) o.get(i);
+            fields[i] = sort[i].getField();
+
+            if (isNull(seek.get(i)) && !sort[i].getNullsFirst() && !sort[i].getNullsLast()) {
+                throw new IllegalArgumentException("A NULL seek value for field " + fields[i] + " requires an explicit NULLS FIRST or NULLS LAST ordering");
+            }
+
+            if (sort[i].getOrder() != sort[0].getOrder() ||
+                sort[i].getNullsFirst() ||
+                sort[i].getNullsLast() ||
+                isNull(seek.get(i))) {
+
+                uniform = false;
+            }
+        }
+
+        if (uniform) {
+            boolean greater = (sort[0].getOrder() == SortOrder.DESC) == seekBefore;
+            Comparator comparator = greater ? Comparator.GREATER : Comparator.LESS;
+
+            if (fields.length == 1) {
+                return ((Field<Object>) fields[0]).compare(comparator, (Field<Object>) seek.get(0));
+            }
+
+            return new RowCondition(new RowImpl(fields), new RowImpl(seek), comparator);
+        }
+
+        List<Condition> or = new ArrayList<Condition>();
+        List<Condition> and = new ArrayList<Condition>();
+
+        for (int i = 0; i < sort.length; i++) {
+            Field<Object> field = (Field) fields[i];
+            Field<Object> value = (Field) seek.get(i);
+            boolean greater = (sort[i].getOrder() == SortOrder.DESC) == seekBefore;
+
+            // Whether NULL values are sorted after non-NULL values in the
+            // seek direction
+            boolean nullsAhead = seekBefore ? sort[i].getNullsFirst() : sort[i].getNullsLast();
+            boolean nullsBehind = seekBefore ? sort[i].getNullsLast() : sort[i].getNullsFirst();
+
+            Condition ahead;
+            Condition equal;
+
+            if (isNull(value)) {
+                ahead = nullsBehind ? field.isNotNull() : null;
+                equal = field.isNull();
+            }
+            else {
+                ahead = field.compare(greater ? Comparator.GREATER : Comparator.LESS, value);
+                equal = field.equal(value);
+
+                if (nullsAhead) {
+                    ahead = ahead.or(field.isNull());
+                }
+            }
+
+            if (ahead != null) {
+                List<Condition> inner = new ArrayList<Condition>(and);
+                inner.add(ahead);
+                or.add(inner.size() == 1 ? inner.get(0) : new CombinedCondition(Operator.AND, inner));
+            }
+
+            and.add(equal);
+        }
+
+        if (or.isEmpty()) {
+            return falseCondition();
+        }
+
+        return or.size() == 1 ? or.get(0) : new CombinedCondition(Operator.OR, or);
+    }
+
+    private static final boolean isNull(Field<?> field) {
+        return field instanceof Param && ((Param<?>) field).getValue() == null;
+    }
+
     final SortFieldList getOrderBy() {
         return orderBy;
     }
@@ -993,6 +1141,28 @@ class SelectQueryImpl<R extends Record> extends AbstractSelect<R> implements Sel
     }
 
     
+    public final void addSeekAfter(Field<?>... fields) {
+        addSeekAfter(Arrays.asList(fields));
+    }
+
+    
+    public final void addSeekAfter(Collection<? extends Field<?>> fields) {
+        seekBefore = false;
+        getSeek().addAll(fields);
+    }
+
+    
+    public final void addSeekBefore(Field<?>... fields) {
+        addSeekBefore(Arrays.asList(fields));
+    }
+
+    
+    public final void addSeekBefore(Collection<? extends Field<?>> fields) {
+        seekBefore = true;
+        getSeek().addAll(fields);
+    }
+
+    
     public final void addConditions(Condition... conditions) {
         condition.addConditions(conditions);
     }
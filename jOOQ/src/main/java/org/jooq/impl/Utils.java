@@ -43,7 +43,6 @@ package org.jooq.impl;
 import static java.lang.Boolean.FALSE;
 import static org.jooq.SQLDialect.CUBRID;
 import static org.jooq.SQLDialect.POSTGRES;
-import static org.jooq.conf.ParamType.INLINED;
 import static org.jooq.conf.SettingsTools.updatablePrimaryKeys;
 import static org.jooq.impl.DSL.escape;
 import static org.jooq.impl.DSL.getDataType;
@@ -103,6 +102,7 @@ import org.jooq.EnumType;
 import org.jooq.ExecuteContext;
 import org.jooq.ExecuteListener;
 import org.jooq.Field;
+import org.jooq.Meta;
 import org.jooq.Param;
 import org.jooq.QueryPart;
 import org.jooq.Record;
@@ -212,6 +212,12 @@ final class Utils {
      */
     static final String          DATA_WRAP_DERIVED_TABLES_IN_PARENTHESES      = "org.jooq.configuration.wrap-derived-tables-in-parentheses";
 
+    /**
+     * The {@link Meta} instance shared by all calls to {@link DSLContext#meta()}
+     * on a {@link Configuration}, if {@link Settings#getMetaCacheTTL()} is set.
+     */
+    static final String          DATA_META_CACHE                              = "org.jooq.configuration.meta-cache";
+
     // ------------------------------------------------------------------------
     // Other constants
     // ------------------------------------------------------------------------
@@ -238,11 +244,6 @@ final class Utils {
      */
     private static final Pattern PLUS_PATTERN                                 = Pattern.compile("\\+(-+)(?=\\+)");                                ;
 
-    /**
-     * A pattern for the JDBC escape syntax
-     */
-    private static final Pattern JDBC_ESCAPE_PATTERN                          = Pattern.compile("\\{(fn|d|t|ts)\\b.*");
-
     // ------------------------------------------------------------------------
     // XXX: Record constructors and related methods
     // ------------------------------------------------------------------------
@@ -921,145 +922,15 @@ final class Utils {
      * </ul>
      */
     static final void renderAndBind(RenderContext render, BindContext bind, String sql, List<QueryPart> substitutes) {
-        int substituteIndex = 0;
-        char[] sqlChars = sql.toCharArray();
-
-        // [#1593] Create a dummy renderer if we're in bind mode
-        if (render == null) render = new DefaultRenderContext(bind.configuration());
-
-        for (int i = 0; i < sqlChars.length; i++) {
-
-            // [#1797] Skip content inside of single-line comments, e.g.
-            // select 1 x -- what's this ?'?
-            // from t_book -- what's that ?'?
-            // where id = ?
-            if (peek(sqlChars, i, "--")) {
-
-                // Consume the complete comment
-                for (; i < sqlChars.length && sqlChars[i] != '\r' && sqlChars[i] != '\n'; render.sql(sqlChars[i++]));
-
-                // Consume the newline character
-                if (i < sqlChars.length) render.sql(sqlChars[i]);
-            }
-
-            // [#1797] Skip content inside of multi-line comments, e.g.
-            // select 1 x /* what's this ?'?
-            // I don't know ?'? */
-            // from t_book where id = ?
-            else if (peek(sqlChars, i, "/*")) {
-
-                // Consume the complete comment
-                for (; !peek(sqlChars, i, "*/"); render.sql(sqlChars[i++]));
-
-                // Consume the comment delimiter
-                render.sql(sqlChars[i++]);
-                render.sql(sqlChars[i]);
-            }
-
-            // [#1031] [#1032] Skip ? inside of string literals, e.g.
-            // insert into x values ('Hello? Anybody out there?');
-            else if (sqlChars[i] == '\'') {
-
-                // Consume the initial string literal delimiter
-                render.sql(sqlChars[i++]);
-
-                // Consume the whole string literal
-                for (;;) {
-
-                    // Consume an escaped apostrophe
-                    if (peek(sqlChars, i, "''")) {
-                        render.sql(sqlChars[i++]);
-                    }
-
-                    // Break on the terminal string literal delimiter
-                    else if (peek(sqlChars, i, "'")) {
-                        break;
-                    }
-
-                    // Consume string literal content
-                    render.sql(sqlChars[i++]);
-                }
-
-                // Consume the terminal string literal delimiter
-                render.sql(sqlChars[i]);
-            }
-
-            // Inline bind variables only outside of string literals
-            else if (sqlChars[i] == '?' && substituteIndex < substitutes.size()) {
-                QueryPart substitute = substitutes.get(substituteIndex++);
-
-                if (render.paramType() == INLINED) {
-                    render.visit(substitute);
-                }
-                else {
-                    render.sql(sqlChars[i]);
-                }
-
-                if (bind != null) {
-                    bind.visit(substitute);
-                }
-            }
-
-            // [#1432] Inline substitues for {numbered placeholders} outside of string literals
-            else if (sqlChars[i] == '{') {
-
-                // [#1461] Be careful not to match any JDBC escape syntax
-                if (JDBC_ESCAPE_PATTERN.matcher(sql.substring(i)).matches()) {
-                    render.sql(sqlChars[i]);
-                }
-
-                // Consume the whole token
-                else {
-                    int start = ++i;
-                    for (; i < sqlChars.length && sqlChars[i] != '}'; i++);
-                    int end = i;
-
-                    String token = sql.substring(start, end);
-
-                    // Try getting the {numbered placeholder}
-                    try {
-                        QueryPart substitute = substitutes.get(Integer.valueOf(token));
-                        render.visit(substitute);
-
-                        if (bind != null) {
-                            bind.visit(substitute);
-                        }
-                    }
+        PlainSQLTemplate template = PlainSQLTemplate.of(sql);
 
-                    // If the above failed, then we're dealing with a {keyword}
-                    catch (NumberFormatException e) {
-                        render.keyword(token);
-                    }
-                }
-            }
-
-            // Any other character
-            else {
-                render.sql(sqlChars[i]);
-            }
+        if (render != null) {
+            template.render(render, substitutes);
         }
-    }
 
-    /**
-     * Peek for a string at a given <code>index</code> of a <code>char[]</code>
-     *
-     * @param sqlChars The char array to peek into
-     * @param index The index within the char array to peek for a string
-     * @param peek The string to peek for
-     */
-    static final boolean peek(char[] sqlChars, int index, String peek) {
-        char[] peekArray = peek.toCharArray();
-
-        for (int i = 0; i < peekArray.length; i++) {
-            if (index + i >= sqlChars.length) {
-                return false;
-            }
-            if (sqlChars[index + i] != peekArray[i]) {
-                return false;
-            }
+        if (bind != null) {
+            template.bind(bind, substitutes);
         }
-
-        return true;
     }
 
     /**
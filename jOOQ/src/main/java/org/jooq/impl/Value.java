@@ -77,14 +77,8 @@ class Value<T> implements Serializable {
         return original;
     }
 
-    @SuppressWarnings("unchecked")
-    final void intern() {
-
-        // [#2177] Future versions of jOOQ may optimise this type check by
-        // performing type-decisions outside of Value
-        if (value instanceof String) {
-            value = (T) ((String) value).intern();
-        }
+    final void intern(Interner interner, int index) {
+        value = interner.intern(index, value);
     }
 
     final void setValue(T val) {
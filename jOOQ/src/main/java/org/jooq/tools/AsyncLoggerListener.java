@@ -0,0 +1,552 @@
+/**
+ * Copyright (c) 2009-2013, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq.tools;
+
+import static org.jooq.impl.DSL.inline;
+
+import java.math.BigDecimal;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.CallableStatement;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.jooq.DSLContext;
+import org.jooq.ExecuteContext;
+import org.jooq.ExecuteListener;
+import org.jooq.ExecuteType;
+import org.jooq.Field;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.conf.Settings;
+import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultExecuteListener;
+import org.jooq.tools.jdbc.DefaultPreparedStatement;
+
+/**
+ * An {@link ExecuteListener} that logs the same events as the
+ * {@link LoggerListener} asynchronously.
+ * <p>
+ * On the executing thread, this listener only captures an immutable snapshot
+ * of each execution: the SQL string passed to JDBC, the bind values as they
+ * are bound to the {@link PreparedStatement}, and the values of the first 5
+ * records of each {@link Result}. Results are only copied once an execution
+ * has exceeded the logging threshold. Rendering the bind values, formatting
+ * the results, and writing log messages is done by a single background
+ * thread, which consumes a bounded queue. When the queue is full, log events
+ * are dropped, and the number of dropped events is logged later on.
+ * <p>
+ * Unlike the {@link LoggerListener}, this listener doesn't render SQL with
+ * inlined bind values, but logs the list of bind values along with the actual
+ * SQL.
+ * <p>
+ * Executions can be sampled using
+ * {@link Settings#getExecuteLoggingSampleRate()}, logging only one execution
+ * out of <code>N</code>, and {@link Settings#getExecuteLoggingThreshold()},
+ * logging only executions that took longer than a given number of
+ * milliseconds.
+ * <p>
+ * The background thread is started on the first logged event and shared by
+ * all instances of this listener. It is a daemon thread that references
+ * jOOQ's {@link ClassLoader}. Applications that are undeployed from a
+ * container without terminating the JVM should call {@link #shutdown()} to
+ * allow for that <code>ClassLoader</code> to be garbage collected.
+ *
+ * @author Lukas Eder
+ * @see Settings#isExecuteLoggingAsync()
+ */
+public class AsyncLoggerListener extends DefaultExecuteListener {
+
+    /**
+     * Generated UID
+     */
+    private static final long                 serialVersionUID = 2976853062219287367L;
+
+    private static final int                  QUEUE_SIZE       = 1024;
+    private static final BlockingQueue<Event> QUEUE            = new ArrayBlockingQueue<Event>(QUEUE_SIZE);
+    private static final AtomicLong           EXECUTIONS       = new AtomicLong();
+    private static final AtomicInteger        DROPPED          = new AtomicInteger();
+    private static Thread                     worker;
+
+    private Event                             event;
+    private long                              threshold;
+
+    /**
+     * Log all pending events and terminate the background thread.
+     * <p>
+     * Events that are logged after this call start a new background thread.
+     */
+    public static final void shutdown() {
+        Thread thread;
+
+        synchronized (AsyncLoggerListener.class) {
+            thread = worker;
+            worker = null;
+        }
+
+        try {
+
+            // Logging frameworks might swallow the interrupt while writing a
+            // message, so the background thread is interrupted repeatedly
+            while (thread != null && thread.isAlive()) {
+                thread.interrupt();
+                thread.join(100);
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    
+    public void start(ExecuteContext ctx) {
+        if (LoggerListener.isDebugEnabled()) {
+            Settings settings = ctx.configuration().settings();
+            Integer rate = settings.getExecuteLoggingSampleRate();
+            Integer millis = settings.getExecuteLoggingThreshold();
+
+            if (rate == null || rate <= 1 || EXECUTIONS.incrementAndGet() % rate == 0) {
+                event = new Event();
+                threshold = millis == null ? 0L : millis * 1000000L;
+            }
+        }
+    }
+
+    
+    public void renderEnd(ExecuteContext ctx) {
+        if (event != null) {
+            event.sql = ctx.sql();
+            event.batchSQL = ctx.batchSQL() == null ? null : ctx.batchSQL().clone();
+            event.type = ctx.type();
+            event.query = ctx.query() != null;
+            event.dialect = ctx.configuration().dialect();
+        }
+    }
+
+    
+    public void bindStart(ExecuteContext ctx) {
+
+        // Record bind values while they are bound, rather than extracting them
+        // from the Query again. Routines bind their own CallableStatement
+        if (event != null && event.query && !(ctx.statement() instanceof CallableStatement)) {
+            ctx.statement(new BindValues(ctx.statement()));
+        }
+    }
+
+    
+    public void bindEnd(ExecuteContext ctx) {
+        if (event != null && ctx.statement() instanceof BindValues) {
+            BindValues statement = (BindValues) ctx.statement();
+
+            ctx.statement(statement.getDelegate());
+            event.bindValues = statement.values.toArray();
+        }
+    }
+
+    
+    public void executeEnd(ExecuteContext ctx) {
+        if (event != null) {
+            event.rows = ctx.rows();
+        }
+    }
+
+    
+    public void resultEnd(ExecuteContext ctx) {
+        if (event != null && ctx.result() != null) {
+            if (event.results == null) {
+                event.results = new ArrayList<Result<?>>();
+            }
+
+            event.results.add(ctx.result());
+        }
+    }
+
+    
+    public void end(ExecuteContext ctx) {
+        if (event != null) {
+            event.time = System.nanoTime() - event.time;
+
+            if (event.time >= threshold) {
+                event.snapshot();
+                log(event);
+            }
+
+            event = null;
+        }
+    }
+
+    /**
+     * Hand over an event to the background thread, or drop it if the queue is
+     * full.
+     */
+    private static final void log(Event event) {
+        if (QUEUE.offer(event)) {
+            startWorker();
+        }
+        else {
+            DROPPED.incrementAndGet();
+        }
+    }
+
+    private static final synchronized void startWorker() {
+        if (worker == null) {
+            worker = new Thread("jOOQ-async-logger") {
+                
+                public void run() {
+                    for (;;) {
+                        try {
+                            QUEUE.take().log();
+                        }
+
+                        // Log pending events before terminating upon shutdown()
+                        catch (InterruptedException e) {
+                            Event event;
+
+                            while ((event = QUEUE.poll()) != null) {
+                                try {
+                                    event.log();
+                                }
+                                catch (RuntimeException ignore) {}
+                            }
+
+                            return;
+                        }
+
+                        // Logging must never terminate this thread
+                        catch (RuntimeException ignore) {}
+                    }
+                }
+            };
+
+            worker.setDaemon(true);
+            worker.start();
+        }
+    }
+
+    /**
+     * The captured state of a single execution
+     */
+    private static class Event {
+
+        long            time = System.nanoTime();
+        boolean         query;
+        String          sql;
+        String[]        batchSQL;
+        ExecuteType     type;
+        SQLDialect      dialect;
+        Object[]        bindValues;
+        int             rows = -1;
+        List<Result<?>> results;
+        List<Fetched>   fetched;
+
+        /**
+         * Copy the leading records of each result, before they are handed
+         * out to client code.
+         */
+        void snapshot() {
+            if (results != null) {
+                fetched = new ArrayList<Fetched>(results.size());
+
+                for (Result<?> result : results) {
+                    fetched.add(new Fetched(result));
+                }
+
+                results = null;
+            }
+        }
+
+        void log() {
+            int dropped = DROPPED.getAndSet(0);
+            if (dropped > 0) {
+                LoggerListener.logDropped(dropped);
+            }
+
+            if (query) {
+                LoggerListener.logQuery(sql, bindValues());
+            }
+            else if (sql != null || batchSQL != null) {
+                LoggerListener.logSQL(null, sql, batchSQL == null ? new String[0] : batchSQL, type);
+            }
+
+            if (rows >= 0) {
+                LoggerListener.logRows(rows);
+            }
+
+            if (fetched != null) {
+                for (Fetched result : fetched) {
+                    LoggerListener.logResult(result.format(dialect));
+                }
+            }
+
+            LoggerListener.logTime(time);
+        }
+
+        /**
+         * Render the captured bind values as inlined SQL literals.
+         */
+        private String bindValues() {
+            if (bindValues == null || bindValues.length == 0) {
+                return null;
+            }
+
+            DSLContext create = DSL.using(dialect);
+            StringBuilder sb = new StringBuilder("[");
+            String separator = "";
+
+            for (Object value : bindValues) {
+                sb.append(separator).append(create.renderInlined(inline(value)));
+                separator = ", ";
+            }
+
+            return sb.append("]").toString();
+        }
+    }
+
+    /**
+     * The values of the leading records of a fetched {@link Result}
+     */
+    private static class Fetched {
+
+        final Field<?>[] fields;
+        final Object[][] values;
+        final int        size;
+
+        Fetched(Result<?> result) {
+            this.fields = result.fields();
+            this.values = new Object[Math.min(LoggerListener.MAX_RECORDS, result.size())][];
+            this.size = result.size();
+
+            for (int i = 0; i < values.length; i++) {
+                values[i] = result.get(i).intoArray();
+            }
+        }
+
+        String format(SQLDialect dialect) {
+            DSLContext create = DSL.using(dialect);
+            Result<Record> result = create.newResult(fields);
+
+            for (Object[] v : values) {
+                Record record = create.newRecord(fields);
+                record.fromArray(v);
+                record.changed(false);
+                result.add(record);
+            }
+
+            return LoggerListener.format(result, size);
+        }
+    }
+
+    /**
+     * A {@link PreparedStatement} recording the values that are bound to it
+     */
+    private static class BindValues extends DefaultPreparedStatement {
+
+        final List<Object> values = new ArrayList<Object>();
+
+        BindValues(PreparedStatement delegate) {
+            super(delegate);
+        }
+
+        private final void record(int parameterIndex, Object x) {
+            while (values.size() < parameterIndex) {
+                values.add(null);
+            }
+
+            values.set(parameterIndex - 1, x);
+        }
+
+        
+        public void setNull(int parameterIndex, int sqlType) throws SQLException {
+            super.setNull(parameterIndex, sqlType);
+            record(parameterIndex, null);
+        }
+
+        
+        public void setNull(int parameterIndex, int sqlType, String typeName) throws SQLException {
+            super.setNull(parameterIndex, sqlType, typeName);
+            record(parameterIndex, null);
+        }
+
+        
+        public void setBoolean(int parameterIndex, boolean x) throws SQLException {
+            super.setBoolean(parameterIndex, x);
+            record(parameterIndex, x);
+        }
+
+        
+        public void setByte(int parameterIndex, byte x) throws SQLException {
+            super.setByte(parameterIndex, x);
+            record(parameterIndex, x);
+        }
+
+        
+        public void setShort(int parameterIndex, short x) throws SQLException {
+            super.setShort(parameterIndex, x);
+            record(parameterIndex, x);
+        }
+
+        
+        public void setInt(int parameterIndex, int x) throws SQLException {
+            super.setInt(parameterIndex, x);
+            record(parameterIndex, x);
+        }
+
+        
+        public void setLong(int parameterIndex, long x) throws SQLException {
+            super.setLong(parameterIndex, x);
+            record(parameterIndex, x);
+        }
+
+        
+        public void setFloat(int parameterIndex, float x) throws SQLException {
+            super.setFloat(parameterIndex, x);
+            record(parameterIndex, x);
+        }
+
+        
+        public void setDouble(int parameterIndex, double x) throws SQLException {
+            super.setDouble(parameterIndex, x);
+            record(parameterIndex, x);
+        }
+
+        
+        public void setBigDecimal(int parameterIndex, BigDecimal x) throws SQLException {
+            super.setBigDecimal(parameterIndex, x);
+            record(parameterIndex, x);
+        }
+
+        
+        public void setString(int parameterIndex, String x) throws SQLException {
+            super.setString(parameterIndex, x);
+            record(parameterIndex, x);
+        }
+
+        
+        public void setBytes(int parameterIndex, byte[] x) throws SQLException {
+            super.setBytes(parameterIndex, x);
+            record(parameterIndex, x);
+        }
+
+        
+        public void setDate(int parameterIndex, Date x) throws SQLException {
+            super.setDate(parameterIndex, x);
+            record(parameterIndex, x);
+        }
+
+        
+        public void setDate(int parameterIndex, Date x, Calendar cal) throws SQLException {
+            super.setDate(parameterIndex, x, cal);
+            record(parameterIndex, x);
+        }
+
+        
+        public void setTime(int parameterIndex, Time x) throws SQLException {
+            super.setTime(parameterIndex, x);
+            record(parameterIndex, x);
+        }
+
+        
+        public void setTime(int parameterIndex, Time x, Calendar cal) throws SQLException {
+            super.setTime(parameterIndex, x, cal);
+            record(parameterIndex, x);
+        }
+
+        
+        public void setTimestamp(int parameterIndex, Timestamp x) throws SQLException {
+            super.setTimestamp(parameterIndex, x);
+            record(parameterIndex, x);
+        }
+
+        
+        public void setTimestamp(int parameterIndex, Timestamp x, Calendar cal) throws SQLException {
+            super.setTimestamp(parameterIndex, x, cal);
+            record(parameterIndex, x);
+        }
+
+        
+        public void setObject(int parameterIndex, Object x) throws SQLException {
+            super.setObject(parameterIndex, x);
+            record(parameterIndex, x);
+        }
+
+        
+        public void setObject(int parameterIndex, Object x, int targetSqlType) throws SQLException {
+            super.setObject(parameterIndex, x, targetSqlType);
+            record(parameterIndex, x);
+        }
+
+        
+        public void setObject(int parameterIndex, Object x, int targetSqlType, int scaleOrLength) throws SQLException {
+            super.setObject(parameterIndex, x, targetSqlType, scaleOrLength);
+            record(parameterIndex, x);
+        }
+
+        
+        public void setBlob(int parameterIndex, Blob x) throws SQLException {
+            super.setBlob(parameterIndex, x);
+            record(parameterIndex, x);
+        }
+
+        
+        public void setClob(int parameterIndex, Clob x) throws SQLException {
+            super.setClob(parameterIndex, x);
+            record(parameterIndex, x);
+        }
+
+        
+        public void setArray(int parameterIndex, Array x) throws SQLException {
+            super.setArray(parameterIndex, x);
+            record(parameterIndex, x);
+        }
+    }
+}
@@ -47,6 +47,8 @@ import java.util.logging.Level;
 import org.jooq.ExecuteContext;
 import org.jooq.ExecuteListener;
 import org.jooq.ExecuteType;
+import org.jooq.Query;
+import org.jooq.Result;
 import org.jooq.impl.DefaultExecuteListener;
 
 /**
@@ -64,42 +66,15 @@ public class LoggerListener extends DefaultExecuteListener {
 
     private static final JooqLogger log   = JooqLogger.getLogger(LoggerListener.class);
 
+    /**
+     * The maximum number of records that are logged for each result
+     */
+    static final int                MAX_RECORDS = 5;
+
     
     public void renderEnd(ExecuteContext ctx) {
         if (log.isDebugEnabled()) {
-            String[] batchSQL = ctx.batchSQL();
-
-            if (ctx.query() != null) {
-
-                // Actual SQL passed to JDBC
-                log.debug("Executing query", ctx.sql());
-
-                // [#1278] DEBUG log also SQL with inlined bind values, if
-                // that is not the same as the actual SQL passed to JDBC
-                String inlined = ctx.query().getSQL(INLINED);
-                if (!ctx.sql().equals(inlined)) {
-                    log.debug("-> with bind values", inlined);
-                }
-            }
-            else if (!StringUtils.isBlank(ctx.sql())) {
-
-                // [#1529] Batch queries should be logged specially
-                if (ctx.type() == ExecuteType.BATCH) {
-                    log.debug("Executing batch query", ctx.sql());
-                }
-                else {
-                    log.debug("Executing query", ctx.sql());
-                }
-            }
-
-            // [#2532] Log a complete BatchMultiple query
-            else if (batchSQL.length > 0) {
-                if (batchSQL[batchSQL.length - 1] != null) {
-                    for (String sql : batchSQL) {
-                        log.debug("Executing batch query", sql);
-                    }
-                }
-            }
+            logSQL(ctx.query(), ctx.sql(), ctx.batchSQL(), ctx.type());
         }
     }
 
@@ -112,18 +87,100 @@ public class LoggerListener extends DefaultExecuteListener {
     
     public void resultEnd(ExecuteContext ctx) {
         if (log.isDebugEnabled() && ctx.result() != null) {
-            logMultiline("Fetched result", ctx.result().format(5), Level.FINE);
+            logResult(format(ctx.result()));
         }
     }
 
     
     public void executeEnd(ExecuteContext ctx) {
         if (log.isDebugEnabled() && ctx.rows() >= 0) {
-            log.debug("Affected row(s)", ctx.rows());
+            logRows(ctx.rows());
+        }
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Formatting and logging, shared with AsyncLoggerListener
+    // -------------------------------------------------------------------------
+
+    static final boolean isDebugEnabled() {
+        return log.isDebugEnabled();
+    }
+
+    static final void logSQL(Query query, String sql, String[] batchSQL, ExecuteType type) {
+        if (query != null) {
+
+            // [#1278] DEBUG log also SQL with inlined bind values, if
+            // that is not the same as the actual SQL passed to JDBC
+            String inlined = query.getSQL(INLINED);
+            logQuery(sql, sql.equals(inlined) ? null : inlined);
+        }
+        else if (!StringUtils.isBlank(sql)) {
+
+            // [#1529] Batch queries should be logged specially
+            if (type == ExecuteType.BATCH) {
+                log.debug("Executing batch query", sql);
+            }
+            else {
+                log.debug("Executing query", sql);
+            }
         }
+
+        // [#2532] Log a complete BatchMultiple query
+        else if (batchSQL.length > 0) {
+            if (batchSQL[batchSQL.length - 1] != null) {
+                for (String s : batchSQL) {
+                    log.debug("Executing batch query", s);
+                }
+            }
+        }
+    }
+
+    /**
+     * Log the actual SQL passed to JDBC, and optionally its bind values.
+     */
+    static final void logQuery(String sql, String bindValues) {
+        log.debug("Executing query", sql);
+
+        if (bindValues != null) {
+            log.debug("-> with bind values", bindValues);
+        }
+    }
+
+    static final String format(Result<?> result) {
+        return result.format(MAX_RECORDS);
+    }
+
+    /**
+     * Format the leading records of a result that contained <code>size</code>
+     * records.
+     */
+    static final String format(Result<?> head, int size) {
+        String result = head.format(MAX_RECORDS);
+
+        if (size > head.size()) {
+            result += "\n|..." + (size - head.size()) + " record(s) truncated...";
+        }
+
+        return result;
+    }
+
+    static final void logResult(String formatted) {
+        logMultiline("Fetched result", formatted, Level.FINE);
+    }
+
+    static final void logRows(int rows) {
+        log.debug("Affected row(s)", rows);
+    }
+
+    static final void logTime(long nanoTime) {
+        log.debug("Query executed", "Total: " + StopWatch.format(nanoTime));
+    }
+
+    static final void logDropped(int dropped) {
+        log.debug("Dropped log events", dropped);
     }
 
-    private void logMultiline(String comment, String message, Level level) {
+    private static final void logMultiline(String comment, String message, Level level) {
         for (String line : message.split("\n")) {
             if (level == Level.FINE) {
                 log.debug(comment, line);
@@ -0,0 +1,398 @@
+/**
+ * Copyright (c) 2009-2013, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq.tools.csv;
+
+import static org.jooq.tools.csv.CSVParser.DEFAULT_ESCAPE_CHARACTER;
+import static org.jooq.tools.csv.CSVParser.DEFAULT_QUOTE_CHARACTER;
+import static org.jooq.tools.csv.CSVParser.DEFAULT_SEPARATOR;
+import static org.jooq.tools.csv.CSVParser.NULL_CHARACTER;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * A single-pass CSV tokenizer reading directly from a character buffer.
+ * <p>
+ * This tokenizer accepts the same input as a {@link CSVReader} with default
+ * quote behaviour, but it does not split the input into lines first, and it
+ * doesn't allocate any intermediate objects apart from the resulting
+ * {@link String} values. The row buffer returned from {@link #row()} is
+ * reused between calls to {@link #readRow()}:
+ *
+ * <pre><code>
+ * CSVTokenizer tokenizer = new CSVTokenizer(reader);
+ * int columns;
+ *
+ * while ((columns = tokenizer.readRow()) &gt;= 0) {
+ *     String[] row = tokenizer.row();
+ *
+ *     for (int i = 0; i &lt; columns; i++) {
+ *         // Consume row[i] here
+ *     }
+ * }
+ * </code></pre>
+ *
+ * @author Lukas Eder
+ */
+public class CSVTokenizer implements Closeable {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Reader     reader;
+    private final char       separator;
+    private final char       quotechar;
+    private final char       escape;
+    private int              skipLines;
+
+    private final char[]     buffer      = new char[BUFFER_SIZE];
+    private int              position;
+    private int              limit;
+    private boolean          eof;
+
+    private char[]           value       = new char[CSVParser.INITIAL_READ_SIZE];
+    private int              length;
+    private String[]         row         = new String[16];
+    private int              columns;
+
+    /**
+     * Constructs a CSVTokenizer using a comma for the separator.
+     *
+     * @param reader the reader to an underlying CSV source.
+     */
+    public CSVTokenizer(Reader reader) {
+        this(reader, DEFAULT_SEPARATOR);
+    }
+
+    /**
+     * Constructs a CSVTokenizer with supplied separator.
+     *
+     * @param reader the reader to an underlying CSV source.
+     * @param separator the delimiter to use for separating entries.
+     */
+    public CSVTokenizer(Reader reader, char separator) {
+        this(reader, separator, DEFAULT_QUOTE_CHARACTER, 0);
+    }
+
+    /**
+     * Constructs a CSVTokenizer with supplied separator and quote char.
+     *
+     * @param reader the reader to an underlying CSV source.
+     * @param separator the delimiter to use for separating entries
+     * @param quotechar the character to use for quoted elements
+     * @param line the line number to skip for start reading
+     */
+    public CSVTokenizer(Reader reader, char separator, char quotechar, int line) {
+        this(reader, separator, quotechar, DEFAULT_ESCAPE_CHARACTER, line);
+    }
+
+    /**
+     * Constructs a CSVTokenizer with supplied separator, quote and escape char.
+     *
+     * @param reader the reader to an underlying CSV source.
+     * @param separator the delimiter to use for separating entries
+     * @param quotechar the character to use for quoted elements
+     * @param escape the character to use for escaping a separator or quote
+     * @param line the line number to skip for start reading
+     */
+    public CSVTokenizer(Reader reader, char separator, char quotechar, char escape, int line) {
+        if (separator == NULL_CHARACTER) {
+            throw new UnsupportedOperationException("The separator character must be defined!");
+        }
+        if (separator == quotechar || separator == escape || (quotechar != NULL_CHARACTER && quotechar == escape)) {
+            throw new UnsupportedOperationException("The separator, quote, and escape characters must be different!");
+        }
+
+        this.reader = reader;
+        this.separator = separator;
+        this.quotechar = quotechar;
+        this.escape = escape;
+        this.skipLines = line;
+    }
+
+    /**
+     * Read the next row into the reusable row buffer.
+     *
+     * @return The number of columns in the row, or <code>-1</code> if there
+     *         are no more rows.
+     * @throws IOException if bad things happen during the read
+     */
+    public int readRow() throws IOException {
+        while (skipLines > 0) {
+            skipLines--;
+            skipLine();
+        }
+
+        columns = 0;
+        length = 0;
+
+        if (peek() < 0) {
+            return -1;
+        }
+
+        boolean inQuotes = false;
+        boolean inField = false;
+
+        // The index and the previous character within the current physical
+        // line, used to detect quotes embedded in unquoted values
+        int column = 0;
+        int previous = -1;
+
+        for (;;) {
+            if (position >= limit && !fill()) {
+
+                // Like CSVReader, discard un-terminated quoted values at the
+                // end of the input
+                if (inQuotes) {
+                    return columns > 0 ? columns : -1;
+                }
+
+                addValue();
+                return columns;
+            }
+
+            char c = buffer[position++];
+            char last = c;
+
+            if (c == '\n' || c == '\r') {
+                if (c == '\r' && peek() == '\n') {
+                    position++;
+                }
+
+                // A quoted value spanning several lines
+                if (inQuotes) {
+                    append('\n');
+                    column = 0;
+                    previous = -1;
+                    continue;
+                }
+
+                addValue();
+                return columns;
+            }
+            else if (c == escape) {
+                if (inQuotes || inField) {
+                    int next = peek();
+
+                    if (next == quotechar || next == escape) {
+                        append(last = (char) next);
+                        position++;
+                        column++;
+                    }
+                }
+            }
+            else if (c == quotechar) {
+                int next = peek();
+
+                if ((inQuotes || inField) && next == quotechar) {
+                    append(last = quotechar);
+                    position++;
+                    column++;
+                }
+                else {
+
+                    // The tricky case of an embedded quote in the middle:
+                    // a,bc"d"ef,g
+                    if (column > 2
+                            && previous != separator
+                            && next >= 0
+                            && next != separator
+                            && next != '\n'
+                            && next != '\r') {
+
+                        // Discard white space leading up to quote
+                        if (length > 0 && isAllWhiteSpace()) {
+                            length = 0;
+                        }
+                        else {
+                            append(c);
+                        }
+                    }
+
+                    inQuotes = !inQuotes;
+                }
+
+                inField = !inField;
+            }
+            else if (c == separator && !inQuotes) {
+                addValue();
+                inField = false;
+            }
+            else {
+                append(c);
+                inField = true;
+            }
+
+            previous = last;
+            column++;
+        }
+    }
+
+    /**
+     * The reusable row buffer containing the values of the row most recently
+     * read by {@link #readRow()}.
+     * <p>
+     * Only the first <code>n</code> values are valid, where <code>n</code> is
+     * the return value of {@link #readRow()}. The buffer may be replaced by a
+     * larger one when a row with more columns is read.
+     */
+    public String[] row() {
+        return row;
+    }
+
+    /**
+     * Reads the next row into a new array.
+     *
+     * @return a string array with each comma-separated element as a separate
+     *         entry, or <code>null</code> if there are no more rows.
+     * @throws IOException if bad things happen during the read
+     */
+    public String[] readNext() throws IOException {
+        int n = readRow();
+
+        if (n < 0) {
+            return null;
+        }
+
+        String[] result = new String[n];
+        System.arraycopy(row, 0, result, 0, n);
+        return result;
+    }
+
+    /**
+     * Closes the underlying reader.
+     *
+     * @throws IOException if the close fails
+     */
+    
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private final void append(char c) {
+        if (length == value.length) {
+            char[] v = new char[length * 2];
+            System.arraycopy(value, 0, v, 0, length);
+            value = v;
+        }
+
+        value[length++] = c;
+    }
+
+    private final void addValue() {
+        if (columns == row.length) {
+            String[] r = new String[columns * 2];
+            System.arraycopy(row, 0, r, 0, columns);
+            row = r;
+        }
+
+        row[columns++] = new String(value, 0, length);
+        length = 0;
+    }
+
+    private final boolean isAllWhiteSpace() {
+        for (int i = 0; i < length; i++) {
+            if (!Character.isWhitespace(value[i])) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private final void skipLine() throws IOException {
+        for (;;) {
+            if (position >= limit && !fill()) {
+                return;
+            }
+
+            char c = buffer[position++];
+
+            if (c == '\n') {
+                return;
+            }
+            else if (c == '\r') {
+                if (peek() == '\n') {
+                    position++;
+                }
+
+                return;
+            }
+        }
+    }
+
+    /**
+     * Look at the next character without consuming it.
+     *
+     * @return The next character, or <code>-1</code> at the end of the input.
+     */
+    private final int peek() throws IOException {
+        if (position >= limit && !fill()) {
+            return -1;
+        }
+
+        return buffer[position];
+    }
+
+    /**
+     * Refill the buffer once all of its content has been consumed.
+     */
+    private final boolean fill() throws IOException {
+        if (eof) {
+            return false;
+        }
+
+        int read;
+        do {
+            read = reader.read(buffer, 0, buffer.length);
+        }
+        while (read == 0);
+
+        if (read < 0) {
+            eof = true;
+            return false;
+        }
+
+        position = 0;
+        limit = read;
+        return true;
+    }
+}
@@ -48,13 +48,15 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.LineNumberReader;
 import java.sql.SQLException;
-import java.sql.SQLFeatureNotSupportedException;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.TreeSet;
 import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
 
 import org.jooq.DSLContext;
 import org.jooq.SQLDialect;
@@ -105,6 +107,21 @@ import org.jooq.tools.JooqLogger;
  * &#64; rows: 1
  * </pre></code>
  * <p>
+ * SQL statements are normalised before matching: leading and trailing
+ * whitespace is removed and any sequence of whitespace (including line breaks
+ * of statements spanning several lines) is replaced by a single space.
+ * Statements are matched:
+ * <ol>
+ * <li>exactly, with the bind values as they were passed to JDBC</li>
+ * <li>exactly, with inlined bind values</li>
+ * <li>optionally, as regular expressions, in the order of the file. Only
+ * statements whose literal prefix matches the executed statement are
+ * evaluated. The first match wins.</li>
+ * </ol>
+ * <p>
+ * Batch statements are matched statement by statement, or bind value set by
+ * bind value set, producing one {@link MockResult} per batch element.
+ * <p>
  * Results can be loaded using several techniques:
  * <ul>
  * <li>When results are prefixed with <code>></code>, then
@@ -113,36 +130,54 @@ import org.jooq.tools.JooqLogger;
  * CSV, XML, JSON</li>
  * </ul>
  * <p>
+ * Results are parsed lazily, when their statement is first matched. Large
+ * files thus only need to be read once, sequentially, before results can be
+ * served.
+ * <p>
  * This implementation is still very experimental and not officially supported!
  *
  * @author Lukas Eder
  */
 public class MockFileDatabase implements MockDataProvider {
 
-    private static final JooqLogger              log = JooqLogger.getLogger(MockFileDatabase.class);
+    private static final JooqLogger       log = JooqLogger.getLogger(MockFileDatabase.class);
 
-    private final File                           file;
-    private final String                         encoding;
-    private final Map<String, List<MockResult>>  matchExactly;
-    private final Map<Pattern, List<MockResult>> matchPattern;
-    private final DSLContext                       create;
+    private final File                    file;
+    private final String                  encoding;
+    private final Map<String, Results>    matchExactly;
+    private final Map<String, Patterns>   matchPattern;
+    private final TreeSet<Integer>        prefixLengths;
+    private final DSLContext              create;
 
     public MockFileDatabase(File file) throws IOException {
         this(file, "UTF-8");
     }
 
-    @SuppressWarnings("deprecation")
     public MockFileDatabase(File file, String encoding) throws IOException {
+        this(file, encoding, false);
+    }
+
+    /**
+     * Create a new file database.
+     *
+     * @param file The file
+     * @param encoding The file encoding
+     * @param patterns Whether statements should be matched as regular
+     *            expressions, if they cannot be matched exactly
+     */
+    @SuppressWarnings("deprecation")
+    public MockFileDatabase(File file, String encoding, boolean patterns) throws IOException {
         this.file = file;
         this.encoding = encoding;
-        this.matchExactly = new LinkedHashMap<String, List<MockResult>>();
-        this.matchPattern = new LinkedHashMap<Pattern, List<MockResult>>();
+        this.matchExactly = new HashMap<String, Results>();
+        this.matchPattern = new HashMap<String, Patterns>();
+        this.prefixLengths = new TreeSet<Integer>();
         this.create = DSL.using(SQLDialect.SQL99);
 
-        load();
+        load(patterns);
     }
 
-    private void load() throws FileNotFoundException, IOException {
+    private void load(final boolean patterns) throws FileNotFoundException, IOException {
 
         // Wrap the below code in a local scope
         new Object() {
@@ -151,6 +186,7 @@ public class MockFileDatabase implements MockDataProvider {
             private StringBuilder    currentSQL    = new StringBuilder();
             private StringBuilder    currentResult = new StringBuilder();
             private String           previousSQL   = null;
+            private int              ordinal       = 0;
 
             private void load() throws FileNotFoundException, IOException {
                 try {
@@ -189,13 +225,9 @@ public class MockFileDatabase implements MockDataProvider {
 
                         // A terminated line of SQL
                         else if (line.endsWith(";")) {
-                            currentSQL.append(line.substring(0, line.length() - 1));
-
-                            if (!matchExactly.containsKey(previousSQL)) {
-                                matchExactly.put(previousSQL, null);
-                            }
+                            appendSQL(line.substring(0, line.length() - 1));
 
-                            previousSQL = currentSQL.toString();
+                            previousSQL = normalise(currentSQL.toString());
                             currentSQL = new StringBuilder();
 
                             if (log.isDebugEnabled()) {
@@ -213,7 +245,7 @@ public class MockFileDatabase implements MockDataProvider {
                                 currentResult = new StringBuilder();
                             }
 
-                            currentSQL.append(line);
+                            appendSQL(line);
                         }
                     }
                 }
@@ -227,44 +259,54 @@ public class MockFileDatabase implements MockDataProvider {
                 }
             }
 
+            private void appendSQL(String line) {
+                if (currentSQL.length() > 0) {
+                    currentSQL.append(' ');
+                }
+
+                currentSQL.append(line);
+            }
+
             private void loadOneResult(String line) {
-                List<MockResult> results = matchExactly.get(previousSQL);
+                Results results = matchExactly.get(previousSQL);
 
                 if (results == null) {
-                    results = new ArrayList<MockResult>();
+                    results = new Results();
                     matchExactly.put(previousSQL, results);
 
-//                    try {
-//                        Pattern p = Pattern.compile(previousSQL);
-//                        matchPattern.put(p, results);
-//                    }
-//                    catch (PatternSyntaxException ignore) {
-//                        if (log.isDebugEnabled()) {
-//                            log.debug("Not a pattern", previousSQL);
-//                        }
-//                    }
+                    if (patterns) {
+                        loadPattern(results);
+                    }
                 }
 
-                MockResult mock = parse(line);
-                results.add(mock);
+                int rows = 0;
+                if (line.startsWith("@ rows:")) {
+                    rows = Integer.parseInt(line.substring(7).trim());
+                }
 
-                if (log.isDebugEnabled()) {
-                    String comment = "Loaded Result";
+                // Results are parsed only once they're needed
+                results.add(rows, currentResult.toString());
+            }
 
-                    for (String l : mock.data.format(5).split("\n")) {
-                        log.debug(comment, l);
-                        comment = "";
+            private void loadPattern(Results results) {
+                try {
+                    Pattern pattern = Pattern.compile(previousSQL);
+                    String prefix = literalPrefix(previousSQL);
+
+                    Patterns list = matchPattern.get(prefix);
+                    if (list == null) {
+                        list = new Patterns();
+                        matchPattern.put(prefix, list);
+                        prefixLengths.add(prefix.length());
                     }
-                }
-            }
 
-            private MockResult parse(String rowString) {
-                int rows = 0;
-                if (rowString.startsWith("@ rows:")) {
-                    rows = Integer.parseInt(rowString.substring(7).trim());
+                    list.add(new PatternResults(ordinal++, pattern, results));
+                }
+                catch (PatternSyntaxException ignore) {
+                    if (log.isDebugEnabled()) {
+                        log.debug("Not a pattern", previousSQL);
+                    }
                 }
-
-                return new MockResult(rows, create.fetchFromTXT(currentResult.toString()));
             }
 
             private String readLine() throws IOException {
@@ -288,37 +330,259 @@ public class MockFileDatabase implements MockDataProvider {
 
     
     public MockResult[] execute(MockExecuteContext ctx) throws SQLException {
-        if (ctx.batch()) {
-            throw new SQLFeatureNotSupportedException("Not yet supported");
+        if (ctx.batchMultiple()) {
+            String[] sql = ctx.batchSQL();
+            MockResult[] result = new MockResult[sql.length];
+
+            for (int i = 0; i < sql.length; i++) {
+                result[i] = first(match(sql[i], new Object[0]), sql[i]);
+            }
+
+            return result;
+        }
+        else if (ctx.batchSingle()) {
+            Object[][] bindings = ctx.batchBindings();
+            MockResult[] result = new MockResult[bindings.length];
+
+            for (int i = 0; i < bindings.length; i++) {
+                result[i] = first(match(ctx.sql(), bindings[i]), ctx.sql());
+            }
+
+            return result;
         }
         else {
-            String sql = ctx.sql();
-            String inlined = null;
+            return match(ctx.sql(), ctx.bindings()).clone();
+        }
+    }
+
+    /**
+     * The first result of a batch element, providing its update count.
+     */
+    private static MockResult first(MockResult[] results, String sql) throws SQLException {
+        if (results.length == 0) {
+            throw new SQLException("No result for batch SQL: " + sql);
+        }
+
+        return results[0];
+    }
+
+    private MockResult[] match(String sql, Object[] bindings) throws SQLException {
+        String normalised = normalise(sql);
+        String inlined = null;
+
+        // Check for an exact match
+        Results results = matchExactly.get(normalised);
+
+        // Check again, with inlined bind values
+        if (results == null) {
+            inlined = normalise(create.query(sql, bindings).toString());
+            results = matchExactly.get(inlined);
+        }
+
+        // Check for the first pattern match
+        if (results == null && !matchPattern.isEmpty()) {
+            results = matchPattern(normalised, inlined);
+        }
+
+        if (results == null) {
+            throw new SQLException("Invalid SQL: " + sql);
+        }
+
+        return results.get();
+    }
 
-            // Check for an exact match
-            List<MockResult> list = matchExactly.get(sql);
+    /**
+     * Find the first pattern in file order matching either of the given
+     * statements, considering only patterns whose literal prefix matches.
+     */
+    private Results matchPattern(String sql, String inlined) {
+        List<PatternResults> candidates = new ArrayList<PatternResults>();
+        candidates(candidates, sql);
 
-            // Check again, with inlined bind values
-            if (list == null) {
-                inlined = create.query(sql, ctx.bindings()).toString();
-                list = matchExactly.get(inlined);
+        if (!inlined.equals(sql)) {
+            candidates(candidates, inlined);
+        }
+
+        Collections.sort(candidates, ORDINAL);
+
+        for (PatternResults candidate : candidates) {
+            if (    candidate.pattern.matcher(sql).matches()
+                 || candidate.pattern.matcher(inlined).matches()) {
+                return candidate.results;
+            }
+        }
+
+        return null;
+    }
+
+    private void candidates(List<PatternResults> candidates, String sql) {
+        for (Integer length : prefixLengths) {
+            if (length > sql.length()) {
+                break;
             }
 
-            // Check for the first pattern match
-            if (list == null) {
-                for (Entry<Pattern, List<MockResult>> entry : matchPattern.entrySet()) {
-                    if (    entry.getKey().matcher(sql).matches()
-                         || entry.getKey().matcher(inlined).matches()) {
-                        list = entry.getValue();
+            Patterns list = matchPattern.get(sql.substring(0, length));
+            if (list != null) {
+                for (PatternResults p : list) {
+                    if (!candidates.contains(p)) {
+                        candidates.add(p);
                     }
                 }
             }
+        }
+    }
+
+    /**
+     * Normalise whitespace in a SQL string.
+     */
+    static String normalise(String sql) {
+        int length = sql.length();
+        boolean normalised = true;
+
+        for (int i = 0; i < length && normalised; i++) {
+            char c = sql.charAt(i);
+
+            if (Character.isWhitespace(c)) {
+                normalised = c == ' '
+                    && i > 0
+                    && i < length - 1
+                    && !Character.isWhitespace(sql.charAt(i + 1));
+            }
+        }
+
+        // Most statements are already normalised
+        if (normalised) {
+            return sql;
+        }
+
+        StringBuilder sb = new StringBuilder(length);
+        boolean whitespace = false;
+
+        for (int i = 0; i < length; i++) {
+            char c = sql.charAt(i);
+
+            if (Character.isWhitespace(c)) {
+                whitespace = true;
+            }
+            else {
+                if (whitespace && sb.length() > 0) {
+                    sb.append(' ');
+                }
 
-            if (list == null) {
-                throw new SQLException("Invalid SQL: " + sql);
+                sb.append(c);
+                whitespace = false;
             }
+        }
 
-            return list.toArray(new MockResult[list.size()]);
+        return sb.toString();
+    }
+
+    /**
+     * The literal prefix of a regular expression, i.e. the longest prefix
+     * that any matching string starts with.
+     */
+    static String literalPrefix(String regex) {
+        int length = regex.length();
+
+        for (int i = 0; i < length; i++) {
+            switch (regex.charAt(i)) {
+
+                // Quantifiers make the previous character optional
+                case '?':
+                case '*':
+                case '{':
+                    return regex.substring(0, Math.max(0, i - 1));
+
+                case '\\':
+                case '^':
+                case '$':
+                case '.':
+                case '|':
+                case '+':
+                case '(':
+                case ')':
+                case '[':
+                case ']':
+                case '}':
+                    return regex.substring(0, i);
+            }
         }
+
+        return regex;
+    }
+
+    private static final Comparator<PatternResults> ORDINAL = new Comparator<PatternResults>() {
+        
+        public int compare(PatternResults o1, PatternResults o2) {
+            return o1.ordinal - o2.ordinal;
+        }
+    };
+
+    /**
+     * The lazily parsed results of a statement.
+     */
+    private class Results {
+        private final List<Integer> rows  = new ArrayList<Integer>();
+        private final List<String>  texts = new ArrayList<String>();
+        private MockResult[]        results;
+
+        void add(int r, String text) {
+            rows.add(r);
+            texts.add(text);
+        }
+
+        synchronized MockResult[] get() {
+            if (results == null) {
+                MockResult[] r = new MockResult[texts.size()];
+
+                for (int i = 0; i < r.length; i++) {
+                    String text = texts.get(i);
+
+                    // Update counts need not be followed by result data
+                    r[i] = new MockResult(rows.get(i), text.length() == 0 ? null : create.fetchFromTXT(text));
+
+                    if (r[i].data != null && log.isDebugEnabled()) {
+                        String comment = "Loaded Result";
+
+                        for (String l : r[i].data.format(5).split("\n")) {
+                            log.debug(comment, l);
+                            comment = "";
+                        }
+                    }
+                }
+
+                results = r;
+                rows.clear();
+                texts.clear();
+            }
+
+            return results;
+        }
+    }
+
+    /**
+     * A regular expression and its results.
+     */
+    private static class PatternResults {
+        final int     ordinal;
+        final Pattern pattern;
+        final Results results;
+
+        PatternResults(int ordinal, Pattern pattern, Results results) {
+            this.ordinal = ordinal;
+            this.pattern = pattern;
+            this.results = results;
+        }
+    }
+
+    /**
+     * The regular expressions sharing a literal prefix, in file order.
+     */
+    private static class Patterns extends ArrayList<PatternResults> {
+
+        /**
+         * Generated UID
+         */
+        private static final long serialVersionUID = -1385542962498426213L;
     }
 }
@@ -64,13 +64,21 @@ import java.sql.Statement;
 import java.sql.Time;
 import java.sql.Timestamp;
 import java.util.Calendar;
+import java.util.HashMap;
 import java.util.Map;
 
 import org.jooq.Field;
 import org.jooq.Result;
+import org.jooq.tools.Convert;
 
 /**
  * A mock result set.
+ * <p>
+ * This <code>ResultSet</code> is a lightweight, scrollable adapter over a
+ * {@link Result}. Values are served without any conversion if they are
+ * already of the requested type, e.g. when {@link #getInt(int)} is called on
+ * an <code>INTEGER</code> column. Column labels are resolved through a cached
+ * index and {@link #getMetaData()} returns a cached meta data object.
  *
  * @author Lukas Eder
  * @see MockConnection
@@ -82,10 +90,16 @@ public class MockResultSet extends JDBC41ResultSet implements ResultSet, Seriali
      */
     private static final long serialVersionUID = -2292216936424437750L;
 
-    private final int         maxRows;
-    Result<?>         result;
-    private transient int     index;
-    private transient boolean wasNull;
+    private final int                               maxRows;
+    Result<?>                                       result;
+    private transient int                           index;
+    private transient boolean                       wasNull;
+
+    /**
+     * Lazily initialised, cached lookup structures.
+     */
+    private transient Map<String, Integer>          columnIndexes;
+    private transient MockResultSetMetaData         meta;
 
     public MockResultSet(Result<?> result) {
         this(result, 0);
@@ -138,7 +152,7 @@ public class MockResultSet extends JDBC41ResultSet implements ResultSet, Seriali
     }
 
     private void checkField(String columnLabel) throws SQLException {
-        if (result.field(columnLabel) == null) {
+        if (!columnIndexes().containsKey(columnLabel)) {
             throw new SQLException("Unknown column label : " + columnLabel);
         }
     }
@@ -161,9 +175,11 @@ public class MockResultSet extends JDBC41ResultSet implements ResultSet, Seriali
 
     
     public boolean absolute(int row) throws SQLException {
-        if (size() > 0) {
+        int size = size();
+
+        if (size > 0) {
             if (row > 0) {
-                if (row <= size()) {
+                if (row <= size) {
                     index = row;
                     return true;
                 }
@@ -177,8 +193,8 @@ public class MockResultSet extends JDBC41ResultSet implements ResultSet, Seriali
                 return false;
             }
             else {
-                if (-row <= size()) {
-                    index = size() + 1 + row;
+                if (-row <= size) {
+                    index = size + 1 + row;
                     return true;
                 }
                 else {
@@ -196,16 +212,12 @@ public class MockResultSet extends JDBC41ResultSet implements ResultSet, Seriali
     public boolean relative(int rows) throws SQLException {
         checkNotClosed();
 
-        index += rows;
-        try {
-            return (index > 0 && index <= size());
-        }
+        int size = size();
+        long target = (long) index + rows;
 
         // Be sure we don't go out of bounds
-        finally {
-            index = Math.max(index, 0);
-            index = Math.min(index, size() + 1);
-        }
+        index = (int) Math.max(0L, Math.min(target, size + 1L));
+        return (target > 0 && target <= size);
     }
 
     
@@ -297,12 +309,31 @@ public class MockResultSet extends JDBC41ResultSet implements ResultSet, Seriali
     public int findColumn(String columnLabel) throws SQLException {
         checkNotClosed();
 
-        Field<?> field = result.field(columnLabel);
-        if (field == null) {
+        Integer i = columnIndexes().get(columnLabel);
+        if (i == null) {
             throw new SQLException("No such column : " + columnLabel);
         }
 
-        return result.fieldsRow().indexOf(field) + 1;
+        return i;
+    }
+
+    /**
+     * A cached lookup of 1-based column indexes by column label. If several
+     * columns share a label, the first one is returned.
+     */
+    private Map<String, Integer> columnIndexes() {
+        if (columnIndexes == null) {
+            Field<?>[] fields = result.fields();
+            Map<String, Integer> map = new HashMap<String, Integer>();
+
+            for (int i = fields.length - 1; i >= 0; i--) {
+                map.put(fields[i].getName(), i + 1);
+            }
+
+            columnIndexes = map;
+        }
+
+        return columnIndexes;
     }
 
     
@@ -359,7 +390,11 @@ public class MockResultSet extends JDBC41ResultSet implements ResultSet, Seriali
 
     
     public ResultSetMetaData getMetaData() throws SQLException {
-        return new MockResultSetMetaData(this);
+        if (meta == null) {
+            meta = new MockResultSetMetaData(this);
+        }
+
+        return meta;
     }
 
     
@@ -371,18 +406,23 @@ public class MockResultSet extends JDBC41ResultSet implements ResultSet, Seriali
         checkInRange();
         checkField(columnLabel);
 
-        T value = result.get(index - 1).getValue(columnLabel, type);
-        wasNull = (value == null);
-        return value;
+        return getValue(columnIndexes().get(columnLabel), type);
     }
 
+    @SuppressWarnings("unchecked")
     private <T> T getValue(int columnIndex, Class<T> type) throws SQLException {
         checkInRange();
         checkField(columnIndex);
 
-        T value = result.get(index - 1).getValue(columnIndex - 1, type);
-        wasNull = (value == null);
-        return value;
+        Object value = result.get(index - 1).getValue(columnIndex - 1);
+
+        // Avoid conversion if the value already has the requested type
+        T converted = (value == null || type.isInstance(value))
+            ? (T) value
+            : Convert.convert(value, type);
+
+        wasNull = (converted == null);
+        return converted;
     }
 
     
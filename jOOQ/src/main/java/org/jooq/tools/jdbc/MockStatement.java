@@ -106,6 +106,7 @@ public class MockStatement extends JDBC41Statement implements CallableStatement
     // Statement properties
     private int                      queryTimeout;
     private int                      maxRows;
+    private int                      fetchSize;
 
     public MockStatement(MockConnection connection, MockDataProvider data) {
         this(connection, data, null);
@@ -687,12 +688,13 @@ public class MockStatement extends JDBC41Statement implements CallableStatement
     
     public void setFetchSize(int rows) throws SQLException {
         checkNotClosed();
+        this.fetchSize = rows;
     }
 
     
     public int getFetchSize() throws SQLException {
         checkNotClosed();
-        return 0;
+        return fetchSize;
     }
 
     
@@ -0,0 +1,432 @@
+/**
+ * Copyright (c) 2009-2013, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq.tools.json;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A streaming JSON writer.
+ * <p>
+ * Objects, arrays, keys and values are written directly to a {@link Writer}
+ * without building any intermediate {@link Map} or {@link List} structures.
+ * Commas between members are written automatically:
+ *
+ * <pre><code>
+ * new JSONWriter(out)
+ *     .beginObject()
+ *     .key("ids").beginArray().value(1).value(2).endArray()
+ *     .endObject();
+ * </code></pre>
+ * <p>
+ * Values are encoded exactly like {@link JSONValue#toJSONString(Object)}
+ * encodes them, with specialised encoders for the most common types:
+ * <ul>
+ * <li>Integer numbers are written without creating intermediate strings</li>
+ * <li>{@link java.sql.Date}, {@link Time} and {@link Timestamp} are written
+ * without escaping, as their string representations never contain characters
+ * that need escaping</li>
+ * <li>Strings are escaped while being written, copying unescaped runs of
+ * characters in bulk</li>
+ * </ul>
+ *
+ * @author Lukas Eder
+ */
+public class JSONWriter {
+
+    private static final char[] HEX     = "0123456789ABCDEF".toCharArray();
+
+    private final Writer        out;
+
+    /**
+     * Scratch space for encoding integer numbers.
+     */
+    private final char[]        digits  = new char[20];
+
+    /**
+     * Whether the next member of each nested object or array is its first one.
+     */
+    private boolean[]           first   = new boolean[16];
+    private int                 depth;
+    private boolean             afterKey;
+
+    public JSONWriter(Writer out) {
+        this.out = out;
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Structure
+    // -------------------------------------------------------------------------
+
+    /**
+     * Begin a JSON object.
+     */
+    public JSONWriter beginObject() throws IOException {
+        return begin('{');
+    }
+
+    /**
+     * End the current JSON object.
+     */
+    public JSONWriter endObject() throws IOException {
+        return end('}');
+    }
+
+    /**
+     * Begin a JSON array.
+     */
+    public JSONWriter beginArray() throws IOException {
+        return begin('[');
+    }
+
+    /**
+     * End the current JSON array.
+     */
+    public JSONWriter endArray() throws IOException {
+        return end(']');
+    }
+
+    /**
+     * Write the key of the next member of the current JSON object.
+     */
+    public JSONWriter key(String key) throws IOException {
+        separator();
+        string(key == null ? "null" : key);
+        out.write(':');
+        afterKey = true;
+        return this;
+    }
+
+    /**
+     * Flush the underlying writer.
+     */
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Values
+    // -------------------------------------------------------------------------
+
+    /**
+     * Write a <code>null</code> value.
+     */
+    public JSONWriter nullValue() throws IOException {
+        separator();
+        out.write("null");
+        return this;
+    }
+
+    /**
+     * Write a boolean value.
+     */
+    public JSONWriter value(boolean value) throws IOException {
+        separator();
+        out.write(value ? "true" : "false");
+        return this;
+    }
+
+    /**
+     * Write an integer number value.
+     */
+    public JSONWriter value(long value) throws IOException {
+        separator();
+        number(value);
+        return this;
+    }
+
+    /**
+     * Write a floating point number value. Infinite values and
+     * <code>NaN</code> are written as <code>null</code>.
+     */
+    public JSONWriter value(double value) throws IOException {
+        separator();
+
+        if (Double.isInfinite(value) || Double.isNaN(value)) {
+            out.write("null");
+        }
+        else {
+            out.write(Double.toString(value));
+        }
+
+        return this;
+    }
+
+    /**
+     * Write a string value, or <code>null</code>.
+     */
+    public JSONWriter value(String value) throws IOException {
+        separator();
+
+        if (value == null) {
+            out.write("null");
+        }
+        else {
+            string(value);
+        }
+
+        return this;
+    }
+
+    /**
+     * Write any value.
+     * <p>
+     * {@link Map} and {@link List} values are written as JSON objects and
+     * arrays. Types that have no JSON representation are written as strings.
+     *
+     * @see JSONValue#toJSONString(Object)
+     */
+    public JSONWriter value(Object value) throws IOException {
+        separator();
+        value0(value);
+        return this;
+    }
+
+    private final void value0(Object value) throws IOException {
+        if (value == null) {
+            out.write("null");
+            return;
+        }
+
+        // Dispatch on the most common exact types first
+        Class<?> type = value.getClass();
+
+        if (type == String.class) {
+            string((String) value);
+        }
+        else if (type == Integer.class || type == Long.class || type == Short.class || type == Byte.class) {
+            number(((Number) value).longValue());
+        }
+        else if (type == java.sql.Date.class || type == Timestamp.class || type == Time.class) {
+            out.write('"');
+            out.write(value.toString());
+            out.write('"');
+        }
+        else if (type == Boolean.class) {
+            out.write(((Boolean) value) ? "true" : "false");
+        }
+        else if (type == Double.class) {
+            Double d = (Double) value;
+            out.write(d.isInfinite() || d.isNaN() ? "null" : d.toString());
+        }
+        else if (type == Float.class) {
+            Float f = (Float) value;
+            out.write(f.isInfinite() || f.isNaN() ? "null" : f.toString());
+        }
+        else if (value instanceof Number) {
+            out.write(value.toString());
+        }
+        else if (value instanceof Map) {
+            map((Map<?, ?>) value);
+        }
+        else if (value instanceof List) {
+            list((List<?>) value);
+        }
+        else {
+            string(value.toString());
+        }
+    }
+
+    private final void map(Map<?, ?> map) throws IOException {
+        boolean f = true;
+
+        out.write('{');
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (f)
+                f = false;
+            else
+                out.write(',');
+
+            string(String.valueOf(entry.getKey()));
+            out.write(':');
+            value0(entry.getValue());
+        }
+        out.write('}');
+    }
+
+    private final void list(List<?> list) throws IOException {
+        boolean f = true;
+        Iterator<?> it = list.iterator();
+
+        out.write('[');
+        while (it.hasNext()) {
+            if (f)
+                f = false;
+            else
+                out.write(',');
+
+            value0(it.next());
+        }
+        out.write(']');
+    }
+
+    // -------------------------------------------------------------------------
+    // XXX: Encoding
+    // -------------------------------------------------------------------------
+
+    private final JSONWriter begin(char c) throws IOException {
+        separator();
+        out.write(c);
+
+        if (++depth == first.length) {
+            boolean[] f = new boolean[depth * 2];
+            System.arraycopy(first, 0, f, 0, depth);
+            first = f;
+        }
+
+        first[depth] = true;
+        return this;
+    }
+
+    private final JSONWriter end(char c) throws IOException {
+        out.write(c);
+        depth--;
+        return this;
+    }
+
+    /**
+     * Write a comma unless the next value is the first member of the current
+     * object or array, or the value of a key.
+     */
+    private final void separator() throws IOException {
+        if (afterKey) {
+            afterKey = false;
+        }
+        else if (depth > 0) {
+            if (first[depth])
+                first[depth] = false;
+            else
+                out.write(',');
+        }
+    }
+
+    /**
+     * Write an integer number from right to left into the scratch buffer.
+     */
+    private final void number(long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            out.write(Long.toString(value));
+            return;
+        }
+
+        boolean negative = value < 0;
+        long v = negative ? -value : value;
+        int i = digits.length;
+
+        do {
+            digits[--i] = (char) ('0' + (v % 10));
+            v /= 10;
+        }
+        while (v != 0);
+
+        if (negative) {
+            digits[--i] = '-';
+        }
+
+        out.write(digits, i, digits.length - i);
+    }
+
+    /**
+     * Write a quoted, escaped string.
+     *
+     * @see JSONValue#escape(String)
+     */
+    private final void string(String s) throws IOException {
+        int length = s.length();
+        int start = 0;
+
+        out.write('"');
+
+        for (int i = 0; i < length; i++) {
+            char ch = s.charAt(i);
+            String escaped;
+
+            switch (ch) {
+                case '"':  escaped = "\\\""; break;
+                case '\\': escaped = "\\\\"; break;
+                case '\b': escaped = "\\b";  break;
+                case '\f': escaped = "\\f";  break;
+                case '\n': escaped = "\\n";  break;
+                case '\r': escaped = "\\r";  break;
+                case '\t': escaped = "\\t";  break;
+                case '/':  escaped = "\\/";  break;
+                default:
+                    // Reference: http://www.unicode.org/versions/Unicode5.1.0/
+                    if ((ch <= '\u001F') || (ch >= '\u007F' && ch <= '\u009F') || (ch >= '\u2000' && ch <= '\u20FF')) {
+                        escaped = null;
+                        break;
+                    }
+
+                    continue;
+            }
+
+            // Copy the preceding run of characters that need no escaping
+            if (start < i) {
+                out.write(s, start, i - start);
+            }
+
+            start = i + 1;
+
+            if (escaped != null) {
+                out.write(escaped);
+            }
+            else {
+                out.write('\\');
+                out.write('u');
+                out.write(HEX[(ch >> 12) & 0xF]);
+                out.write(HEX[(ch >> 8) & 0xF]);
+                out.write(HEX[(ch >> 4) & 0xF]);
+                out.write(HEX[ch & 0xF]);
+            }
+        }
+
+        if (start < length) {
+            out.write(s, start, length - start);
+        }
+
+        out.write('"');
+    }
+}
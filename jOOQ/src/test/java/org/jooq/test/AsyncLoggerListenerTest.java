@@ -0,0 +1,291 @@
+/**
+ * Copyright (c) 2009-2013, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq.test;
+
+import static org.jooq.impl.DSL.field;
+import static org.jooq.impl.DSL.param;
+import static org.junit.Assert.assertEquals;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.jooq.DSLContext;
+import org.jooq.Field;
+import org.jooq.Query;
+import org.jooq.Record;
+import org.jooq.Result;
+import org.jooq.SQLDialect;
+import org.jooq.conf.Settings;
+import org.jooq.impl.DSL;
+import org.jooq.tools.AsyncLoggerListener;
+import org.jooq.tools.LoggerListener;
+import org.jooq.tools.jdbc.MockConnection;
+import org.jooq.tools.jdbc.MockDataProvider;
+import org.jooq.tools.jdbc.MockExecuteContext;
+import org.jooq.tools.jdbc.MockResult;
+
+import org.apache.log4j.AppenderSkeleton;
+import org.apache.log4j.Logger;
+import org.apache.log4j.spi.LoggingEvent;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link AsyncLoggerListener}
+ *
+ * @author Lukas Eder
+ */
+public class AsyncLoggerListenerTest {
+
+    private Logger   logger;
+    private Messages messages;
+
+    @Before
+    public void setUp() {
+        AsyncLoggerListener.shutdown();
+
+        messages = new Messages();
+        logger = Logger.getLogger(LoggerListener.class);
+        logger.addAppender(messages);
+    }
+
+    @After
+    public void tearDown() {
+        messages.release.countDown();
+        AsyncLoggerListener.shutdown();
+        logger.removeAppender(messages);
+    }
+
+    @Test
+    public void testLogging() {
+        DSLContext create = create(new Settings(), 0);
+        Query query = create.query("update t set x = ?", param("x", 1));
+
+        query.execute();
+        AsyncLoggerListener.shutdown();
+
+        assertEquals(1, messages.count("Executing query"));
+        assertEquals(1, messages.count("-> with bind values : [1]"));
+        assertEquals(1, messages.count("Affected row(s) : 1"));
+        assertEquals(1, messages.count("Query executed"));
+    }
+
+    @Test
+    public void testSampleRate() {
+        DSLContext create = create(new Settings().withExecuteLoggingSampleRate(3), 0);
+
+        for (int i = 0; i < 9; i++) {
+            create.execute("update t set x = 1");
+        }
+
+        AsyncLoggerListener.shutdown();
+        assertEquals(3, messages.count("Executing query"));
+    }
+
+    @Test
+    public void testThreshold() {
+        DSLContext fast = create(new Settings().withExecuteLoggingThreshold(10000), 0);
+        DSLContext slow = create(new Settings().withExecuteLoggingThreshold(10), 50);
+
+        for (int i = 0; i < 5; i++) {
+            fast.execute("update t set x = 1");
+        }
+
+        slow.execute("update t set x = 2");
+
+        AsyncLoggerListener.shutdown();
+        assertEquals(1, messages.count("Executing query"));
+        assertEquals(1, messages.count("Executing query : update t set x = 2"));
+    }
+
+    @Test
+    public void testSnapshot() throws Exception {
+        DSLContext create = create(new Settings(), 0);
+        Query query = create.query("update t set x = ?", param("x", 1));
+
+        // Block the background thread while logging the first event
+        messages.block = true;
+        create.execute("update t set x = 0");
+        messages.entered.await();
+
+        // Modifications applied after execution are not logged
+        query.execute();
+        query.bind("x", 2);
+
+        messages.release.countDown();
+        AsyncLoggerListener.shutdown();
+
+        assertEquals(1, messages.count("-> with bind values : [1]"));
+        assertEquals(0, messages.count("-> with bind values : [2]"));
+    }
+
+    @Test
+    public void testResultSnapshot() throws Exception {
+        Field<Integer> id = field("ID", Integer.class);
+        Result<Record> data = DSL.using(SQLDialect.H2).newResult(id);
+
+        for (int i = 1; i <= 7; i++) {
+            Record record = DSL.using(SQLDialect.H2).newRecord(id);
+            record.setValue(id, i);
+            record.changed(false);
+            data.add(record);
+        }
+
+        DSLContext create = create(new Settings(), 0, data);
+
+        // Block the background thread while logging the first event
+        messages.block = true;
+        create.execute("update t set x = 0");
+        messages.entered.await();
+
+        // Modifications applied after fetching are not logged
+        Result<Record> result = create.fetch("select id from t");
+        result.get(0).setValue(id, 42);
+
+        messages.release.countDown();
+        AsyncLoggerListener.shutdown();
+
+        assertEquals(1, messages.count("Fetched result : +----+"));
+        assertEquals(1, messages.count(" : |   1|"));
+        assertEquals(1, messages.count(" : |   5|"));
+        assertEquals(0, messages.count(" : |   6|"));
+        assertEquals(0, messages.count(" : |  42|"));
+        assertEquals(1, messages.count(" : |...2 record(s) truncated..."));
+    }
+
+    @Test
+    public void testQueueOverflow() throws Exception {
+        DSLContext create = create(new Settings(), 0);
+
+        // Block the background thread while logging the first event
+        messages.block = true;
+        create.execute("update t set x = 0");
+        messages.entered.await();
+
+        // The queue holds 1024 events, subsequent events are dropped
+        for (int i = 0; i < 1024 + 10; i++) {
+            create.execute("update t set x = 1");
+        }
+
+        messages.release.countDown();
+        AsyncLoggerListener.shutdown();
+
+        assertEquals(1 + 1024, messages.count("Executing query"));
+        assertEquals(1, messages.count("Dropped log events : 10"));
+    }
+
+    private DSLContext create(Settings settings, long sleep) {
+        return create(settings, sleep, null);
+    }
+
+    private DSLContext create(Settings settings, final long sleep, final Result<?> result) {
+        return DSL.using(new MockConnection(new MockDataProvider() {
+            
+            public MockResult[] execute(MockExecuteContext ctx) throws SQLException {
+                if (sleep > 0) {
+                    try {
+                        Thread.sleep(sleep);
+                    }
+                    catch (InterruptedException e) {
+                        throw new SQLException(e);
+                    }
+                }
+
+                return new MockResult[] { new MockResult(1, ctx.sql().startsWith("select") ? result : null) };
+            }
+        }), SQLDialect.H2, settings.withExecuteLoggingAsync(true));
+    }
+
+    /**
+     * An appender collecting log messages, which can block the logging thread
+     */
+    static class Messages extends AppenderSkeleton {
+
+        final List<String>   messages = new ArrayList<String>();
+        final CountDownLatch entered  = new CountDownLatch(1);
+        final CountDownLatch release  = new CountDownLatch(1);
+        volatile boolean     block;
+
+        
+        protected void append(LoggingEvent event) {
+            if (block && entered.getCount() > 0) {
+                entered.countDown();
+
+                try {
+                    release.await();
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+
+            // Remove the padding of message details
+            synchronized (messages) {
+                messages.add(event.getRenderedMessage().replaceAll(" +: ", " : "));
+            }
+        }
+
+        int count(String prefix) {
+            int result = 0;
+
+            synchronized (messages) {
+                for (String message : messages) {
+                    if (message.startsWith(prefix)) {
+                        result++;
+                    }
+                }
+            }
+
+            return result;
+        }
+
+        
+        public void close() {}
+
+        
+        public boolean requiresLayout() {
+            return false;
+        }
+    }
+}
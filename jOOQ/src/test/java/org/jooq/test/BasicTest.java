@@ -67,6 +67,7 @@ import static org.jooq.impl.DSL.selectOne;
 import static org.jooq.impl.DSL.sum;
 import static org.jooq.impl.DSL.tableByName;
 import static org.jooq.impl.DSL.trueCondition;
+import static org.jooq.impl.DSL.using;
 import static org.jooq.impl.DSL.val;
 import static org.jooq.test.data.Table1.FIELD_DATE1;
 import static org.jooq.test.data.Table1.FIELD_ID1;
@@ -76,6 +77,8 @@ import static org.jooq.test.data.Table2.FIELD_ID2;
 import static org.jooq.test.data.Table2.TABLE2;
 import static org.jooq.test.data.Table3.FIELD_ID3;
 import static org.jooq.test.data.Table3.TABLE3;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.math.BigDecimal;
 import java.sql.Date;
@@ -106,6 +109,7 @@ import org.jooq.Param;
 import org.jooq.Query;
 import org.jooq.Record;
 import org.jooq.RenderContext;
+import org.jooq.Result;
 import org.jooq.Row1;
 import org.jooq.Row2;
 import org.jooq.Row3;
@@ -115,14 +119,17 @@ import org.jooq.Row6;
 import org.jooq.Row7;
 import org.jooq.Row8;
 import org.jooq.RowN;
+import org.jooq.SQLDialect;
 import org.jooq.Select;
 import org.jooq.SelectFinalStep;
 import org.jooq.SelectQuery;
 import org.jooq.Table;
 import org.jooq.Truncate;
 import org.jooq.UpdateQuery;
+import org.jooq.conf.InListStyle;
 import org.jooq.conf.RenderKeywordStyle;
 import org.jooq.conf.RenderNameStyle;
+import org.jooq.conf.Settings;
 import org.jooq.impl.CustomCondition;
 import org.jooq.impl.CustomField;
 import org.jooq.impl.DSL;
@@ -816,6 +823,40 @@ public class BasicTest extends AbstractTest {
         context.assertIsSatisfied();
     }
 
+    @Test
+    public void testInListStyle() throws Exception {
+        create.configuration().settings().setInListStyle(InListStyle.PADDED);
+
+        Condition c = FIELD_ID1.in(1, 2, 3);
+        assertEquals("`TABLE1`.`ID1` in (1, 2, 3)", r_refI().render(c));
+        assertEquals("`TABLE1`.`ID1` in (?, ?, ?, ?)", r_ref().render(c));
+        assertEquals("`TABLE1`.`ID1` in (?, ?, ?, ?)", r_ref().render(FIELD_ID1.in(1, 2, 3, 4)));
+        assertEquals("`TABLE1`.`ID1` not in (?, ?, ?, ?, ?, ?, ?, ?)", r_ref().render(FIELD_ID1.notIn(1, 2, 3, 4, 5)));
+        assertEquals("(`TABLE1`.`ID1`, `TABLE1`.`NAME1`) in ((?, ?), (?, ?), (?, ?), (?, ?))",
+            r_ref().render(row(FIELD_ID1, FIELD_NAME1).in(row(1, "a"), row(2, "b"), row(3, "c"))));
+
+        context.checking(new Expectations() {{
+            oneOf(statement).setInt(1, 1);
+            oneOf(statement).setInt(2, 2);
+            exactly(2).of(statement).setInt(with(any(int.class)), with(equal(3)));
+        }});
+
+        int i = b_ref().visit(c).peekIndex();
+        assertEquals(5, i);
+
+        context.assertIsSatisfied();
+
+        // Dialects without array support fall back to padding
+        create.configuration().settings().setInListStyle(InListStyle.ARRAY);
+        assertEquals("`TABLE1`.`ID1` in (?, ?, ?, ?)", r_ref().render(c));
+
+        Settings settings = new Settings().withInListStyle(InListStyle.ARRAY);
+        RenderContext postgres = using(SQLDialect.POSTGRES, settings).renderContext();
+        assertEquals("\"TABLE1\".\"ID1\" = any (?::int[])", postgres.render(FIELD_ID1.in(1, 2, 3)));
+        assertEquals("\"TABLE1\".\"ID1\" <> all (?::int[])", postgres.render(FIELD_ID1.notIn(1, 2, 3)));
+        assertEquals("\"TABLE1\".\"ID1\" in (1, ?)", postgres.render(FIELD_ID1.in(inline(1), val(2))));
+    }
+
     @Test
     public void testInSelectCondition() throws Exception {
         Condition c = FIELD_ID1.in(select(FIELD_ID1).from(TABLE1).where(FIELD_NAME1.equal("x")));
@@ -1026,6 +1067,29 @@ public class BasicTest extends AbstractTest {
         context.assertIsSatisfied();
     }
 
+    @Test
+    public void testPlainSQLPlaceholders() throws Exception {
+        Field<?> f = field("{fn ucase('it''s ?')} || ? || /* ? */ {upper}(?) || ?", "a", "b");
+
+        assertEquals("{fn ucase('it''s ?')} || 'a' || /* ? */ upper('b') || ?", r_refI().render(f));
+        assertEquals("{fn ucase('it''s ?')} || ? || /* ? */ upper(?) || ?", r_ref().render(f));
+
+        // The parsed SQL is shared between plain SQL query parts
+        assertEquals("{fn ucase('it''s ?')} || 'c' || /* ? */ upper('d') || ?",
+            r_refI().render(field("{fn ucase('it''s ?')} || ? || /* ? */ {upper}(?) || ?", "c", "d")));
+        assertEquals("'x' || 'a'", r_refI().render(field("{1} || {0}", "a", val("x"))));
+
+        context.checking(new Expectations() {{
+            oneOf(statement).setString(1, "a");
+            oneOf(statement).setString(2, "b");
+        }});
+
+        int i = b_ref().visit(f).peekIndex();
+        assertEquals(3, i);
+
+        context.assertIsSatisfied();
+    }
+
     @Test
     public void testPlainSQLField() throws Exception {
         Field<?> f1 = field("DECODE(TABLE1.ID, 1, 'a', 'b')");
@@ -2114,6 +2178,82 @@ public class BasicTest extends AbstractTest {
         context.assertIsSatisfied();
     }
 
+    @Test
+    public void testSeekSelectQuery() throws Exception {
+        String select = "select `TABLE1`.`ID1`, `TABLE1`.`NAME1`, `TABLE1`.`DATE1` from `TABLE1` ";
+
+        // Uniform sort orders produce row value expression predicates
+        Select<?> q = create.selectFrom(TABLE1).where(FIELD_NAME1.equal("x")).orderBy(FIELD_ID1.asc(), FIELD_NAME1.asc()).seek(1, "a");
+        assertEquals(select + "where (`TABLE1`.`NAME1` = 'x' and (`TABLE1`.`ID1`, `TABLE1`.`NAME1`) > (1, 'a')) order by `TABLE1`.`ID1` asc, `TABLE1`.`NAME1` asc", r_refI().render(q));
+        assertEquals(select + "where (`TABLE1`.`NAME1` = ? and (`TABLE1`.`ID1`, `TABLE1`.`NAME1`) > (?, ?)) order by `TABLE1`.`ID1` asc, `TABLE1`.`NAME1` asc", r_ref().render(q));
+
+        context.checking(new Expectations() {{
+            oneOf(statement).setString(1, "x");
+            oneOf(statement).setInt(2, 1);
+            oneOf(statement).setString(3, "a");
+        }});
+
+        int i = b_ref().visit(q).peekIndex();
+        assertEquals(4, i);
+        context.assertIsSatisfied();
+
+        q = create.selectFrom(TABLE1).orderBy(FIELD_ID1.desc()).seek(3).limit(10);
+        assertEquals(select + "where `TABLE1`.`ID1` < 3 order by `TABLE1`.`ID1` desc limit 10 offset 0", r_refI().render(q));
+
+        // Mixed sort orders produce expanded OR predicates
+        q = create.selectFrom(TABLE1).orderBy(FIELD_ID1.desc(), FIELD_NAME1.asc()).seek(1, "a");
+        assertEquals(select + "where (`TABLE1`.`ID1` < 1 or (`TABLE1`.`ID1` = 1 and `TABLE1`.`NAME1` > 'a')) order by `TABLE1`.`ID1` desc, `TABLE1`.`NAME1` asc", r_refI().render(q));
+
+        q = create.selectFrom(TABLE1).orderBy(FIELD_ID1.desc(), FIELD_NAME1.asc()).seekBefore(1, "a");
+        assertEquals(select + "where (`TABLE1`.`ID1` > 1 or (`TABLE1`.`ID1` = 1 and `TABLE1`.`NAME1` < 'a')) order by `TABLE1`.`ID1` desc, `TABLE1`.`NAME1` asc", r_refI().render(q));
+
+        // NULL values are sought according to their NULLS ordering
+        q = create.selectFrom(TABLE1).orderBy(FIELD_ID1.asc(), FIELD_NAME1.asc().nullsLast()).seek(1, "a");
+        assertEquals(select + "where (`TABLE1`.`ID1` > 1 or (`TABLE1`.`ID1` = 1 and (`TABLE1`.`NAME1` > 'a' or `TABLE1`.`NAME1` is null))) order by `TABLE1`.`ID1` asc, case when `TABLE1`.`NAME1` is not null then 0 else 1 end, `TABLE1`.`NAME1` asc", r_refI().render(q));
+
+        q = create.selectFrom(TABLE1).orderBy(FIELD_ID1.asc(), FIELD_NAME1.asc().nullsFirst()).seek(1, null);
+        assertEquals(select + "where (`TABLE1`.`ID1` > 1 or (`TABLE1`.`ID1` = 1 and `TABLE1`.`NAME1` is not null)) order by `TABLE1`.`ID1` asc, case when `TABLE1`.`NAME1` is not null then 1 else 0 end, `TABLE1`.`NAME1` asc", r_refI().render(q));
+
+        // Grouped queries seek in the HAVING clause
+        q = create.select(FIELD_ID1, count()).from(TABLE1).groupBy(FIELD_ID1).orderBy(FIELD_ID1).seek(3);
+        assertEquals("select `TABLE1`.`ID1`, count(*) from `TABLE1` group by `TABLE1`.`ID1` having `TABLE1`.`ID1` > 3 order by `TABLE1`.`ID1` asc", r_refI().render(q));
+
+        // Conditions added after seeking are not lost
+        SelectQuery<Record> s1 = create.selectQuery();
+        s1.addSelect(FIELD_ID1);
+        s1.addFrom(TABLE1);
+        s1.addOrderBy(FIELD_ID1.asc());
+        s1.addSeekAfter(inline(5));
+        s1.addConditions(FIELD_NAME1.equal(inline("x")));
+        assertEquals("select `TABLE1`.`ID1` from `TABLE1` where (`TABLE1`.`NAME1` = 'x' and `TABLE1`.`ID1` > 5) order by `TABLE1`.`ID1` asc", r_refI().render(s1));
+
+        SelectQuery<Record> s2 = create.selectQuery();
+        s2.addSelect(FIELD_ID1);
+        s2.addFrom(TABLE1);
+        s2.addGroupBy(FIELD_ID1);
+        s2.addOrderBy(FIELD_ID1.asc());
+        s2.addSeekAfter(inline(5));
+        s2.addHaving(count().greaterThan(inline(1)));
+        assertEquals("select `TABLE1`.`ID1` from `TABLE1` group by `TABLE1`.`ID1` having (count(*) > 1 and `TABLE1`.`ID1` > 5) order by `TABLE1`.`ID1` asc", r_refI().render(s2));
+
+        // NULL seek values require an explicit NULLS ordering
+        try {
+            r_refI().render(create.selectFrom(TABLE1).orderBy(FIELD_ID1.asc()).seek((Integer) null));
+            fail();
+        }
+        catch (IllegalArgumentException expected) {
+            assertTrue(expected.getMessage().contains("ID1"));
+        }
+
+        try {
+            r_refI().render(create.selectFrom(TABLE1).orderBy(FIELD_ID1.asc(), FIELD_NAME1.asc()).seek(1, null));
+            fail();
+        }
+        catch (IllegalArgumentException expected) {
+            assertTrue(expected.getMessage().contains("NAME1"));
+        }
+    }
+
     @Test
     public void testOrderSelectQuery() throws Exception {
         SelectQuery<Table1Record> q = create.selectQuery(TABLE1);
@@ -2564,4 +2704,25 @@ public class BasicTest extends AbstractTest {
         assertEquals("select :1 from `TABLE1` where `TABLE1`.`ID1` = :2", r_refP.render(q));
         assertEquals("select ? from `TABLE1` where `TABLE1`.`ID1` = ?", r_ref.render(q));
     }
+
+    @Test
+    public void testFetchFromCSV() throws Exception {
+        Result<Record> result = create.fetchFromCSV(
+            "A,B,\"C\"\r\n" +
+            "1,\"x \"\"y\"\"\",z\n" +
+            "\"\",\"multi\nline\",\"a\\\\b\"\n" +
+            "2\n" +
+            "3;4,5,6,7");
+
+        assertEquals(Arrays.asList("A", "B", "C"), Arrays.asList(result.field(0).getName(), result.field(1).getName(), result.field(2).getName()));
+        assertEquals(4, result.size());
+        assertEquals(Arrays.asList("1", "x \"y\"", "z"), Arrays.asList(result.get(0).intoArray()));
+        assertEquals(Arrays.asList("", "multi\nline", "a\\b"), Arrays.asList(result.get(1).intoArray()));
+        assertEquals(Arrays.asList("2", null, null), Arrays.asList(result.get(2).intoArray()));
+        assertEquals(Arrays.asList("3;4", "5", "6"), Arrays.asList(result.get(3).intoArray()));
+
+        assertEquals(0, create.fetchFromCSV("").size());
+        assertEquals(0, create.fetchFromCSV("A,B\n").size());
+        assertEquals(Arrays.asList("1", "2"), Arrays.asList(create.fetchFromCSV("A;B\n1;2", ';').get(0).intoArray()));
+    }
 }
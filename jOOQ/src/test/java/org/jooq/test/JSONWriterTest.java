@@ -0,0 +1,171 @@
+/**
+ * Copyright (c) 2009-2013, Data Geekery GmbH (http://www.datageekery.com)
+ * All rights reserved.
+ *
+ * This work is dual-licensed
+ * - under the Apache Software License 2.0 (the "ASL")
+ * - under the jOOQ License and Maintenance Agreement (the "jOOQ License")
+ * =============================================================================
+ * You may choose which license applies to you:
+ *
+ * - If you're using this work with Open Source databases, you may choose
+ *   either ASL or jOOQ License.
+ * - If you're using this work with at least one commercial database, you must
+ *   choose jOOQ License
+ *
+ * For more information, please visit http://www.jooq.org/licenses
+ *
+ * Apache Software License 2.0:
+ * -----------------------------------------------------------------------------
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * jOOQ License and Maintenance Agreement:
+ * -----------------------------------------------------------------------------
+ * Data Geekery grants the Customer the non-exclusive, timely limited and
+ * non-transferable license to install and use the Software under the terms of
+ * the jOOQ License and Maintenance Agreement.
+ *
+ * This library is distributed with a LIMITED WARRANTY. See the jOOQ License
+ * and Maintenance Agreement for more details: http://www.jooq.org/licensing
+ */
+package org.jooq.test;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.jooq.tools.json.JSONValue;
+import org.jooq.tools.json.JSONWriter;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link JSONWriter}
+ *
+ * @author Lukas Eder
+ */
+public class JSONWriterTest {
+
+    @Test
+    public void testStrings() throws Exception {
+        assertValue("");
+        assertValue("abc");
+        assertValue("\"quoted\" \\ back/slash");
+        assertValue("\b\f\n\r\t");
+        assertValue("\u0000\u0001\u001F\u007F\u0080\u009F");
+        assertValue("\u2000\u2028\u2029\u20AC\u20FF\u2100");
+        assertValue("a\u0000b\"c\u2028d");
+        assertValue("\u00E9\u4E2D\uD83D\uDE00");
+    }
+
+    @Test
+    public void testNumbers() throws Exception {
+        assertValue(0);
+        assertValue(-1);
+        assertValue(Integer.MAX_VALUE);
+        assertValue(Integer.MIN_VALUE);
+        assertValue(Long.MAX_VALUE);
+        assertValue(Long.MIN_VALUE);
+        assertValue((short) -42);
+        assertValue((byte) 7);
+        assertValue(1.5);
+        assertValue(-1.0e-10);
+        assertValue(1.5f);
+        assertValue(Double.NaN);
+        assertValue(Double.POSITIVE_INFINITY);
+        assertValue(Double.NEGATIVE_INFINITY);
+        assertValue(Float.NaN);
+        assertValue(Float.NEGATIVE_INFINITY);
+        assertValue(new BigDecimal("-123.4500"));
+        assertValue(new BigInteger("123456789012345678901234567890"));
+    }
+
+    @Test
+    public void testOtherValues() throws Exception {
+        assertValue(null);
+        assertValue(true);
+        assertValue(false);
+        assertValue(new Date(0));
+        assertValue(new Time(3600000));
+        assertValue(Timestamp.valueOf("2013-12-31 23:59:59.123456789"));
+        assertValue(new java.util.Date(0));
+        assertValue(new StringBuilder("a\"b"));
+    }
+
+    @Test
+    public void testMapsAndLists() throws Exception {
+        Map<Object, Object> map = new LinkedHashMap<Object, Object>();
+        map.put("a", 1);
+        map.put(null, asList(1, null, "x\n", asList(), Collections.emptyMap()));
+        map.put(2, Collections.singletonMap("k\"", Double.NaN));
+
+        assertValue(map);
+        assertValue(asList(map, map));
+        assertValue(asList());
+        assertValue(Collections.emptyMap());
+    }
+
+    @Test
+    public void testStructure() throws Exception {
+        StringWriter out = new StringWriter();
+
+        new JSONWriter(out)
+            .beginObject()
+            .key("a").value(1)
+            .key("b").beginArray().value("x").nullValue().value(true).value(1.5).endArray()
+            .key("c").beginObject().endObject()
+            .key("d").beginArray().beginArray().endArray().beginObject().key("e").value((Object) null).endObject().endArray()
+            .key("f").value("y")
+            .endObject();
+
+        assertEquals("{\"a\":1,\"b\":[\"x\",null,true,1.5],\"c\":{},\"d\":[[],{\"e\":null}],\"f\":\"y\"}", out.toString());
+
+        // Deep nesting
+        out = new StringWriter();
+        JSONWriter json = new JSONWriter(out);
+
+        for (int i = 0; i < 40; i++) {
+            json.beginArray().value(i);
+        }
+
+        for (int i = 0; i < 40; i++) {
+            json.endArray();
+        }
+
+        assertEquals(JSONValue.toJSONString(nested(0, 40)), out.toString());
+    }
+
+    private static Object nested(int i, int depth) {
+        return i == depth - 1 ? asList(i) : asList(i, nested(i + 1, depth));
+    }
+
+    private static void assertValue(Object value) throws Exception {
+        StringWriter out = new StringWriter();
+        new JSONWriter(out).value(value);
+        assertEquals(JSONValue.toJSONString(value), out.toString());
+
+        // Values inside arrays are separated by commas
+        out = new StringWriter();
+        new JSONWriter(out).beginArray().value(value).value(value).endArray();
+        assertEquals(JSONValue.toJSONString(asList(value, value)), out.toString());
+    }
+}
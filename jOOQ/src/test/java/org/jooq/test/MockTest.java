@@ -41,9 +41,15 @@
 package org.jooq.test;
 
 import static java.util.Arrays.asList;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertNotSame;
 import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.assertTrue;
 import static junit.framework.Assert.fail;
+import static org.jooq.impl.DSL.inline;
 import static org.jooq.impl.DSL.val;
+import static org.jooq.test.data.Table1.FIELD_DATE1;
 import static org.jooq.test.data.Table1.FIELD_ID1;
 import static org.jooq.test.data.Table1.FIELD_NAME1;
 import static org.jooq.test.data.Table1.TABLE1;
@@ -51,20 +57,57 @@ import static org.jooq.test.data.Table2.FIELD_ID2;
 import static org.jooq.test.data.Table2.FIELD_NAME2;
 import static org.jooq.test.data.Table2.TABLE2;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.StringWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
+import org.jooq.CompiledQuery;
+import org.jooq.Configuration;
+import org.jooq.ConnectionProvider;
+import org.jooq.Cursor;
 import org.jooq.DSLContext;
+import org.jooq.ExecuteContext;
 import org.jooq.InsertResultStep;
+import org.jooq.Loader;
+import org.jooq.Meta;
+import org.jooq.Parameter;
+import org.jooq.Pipeline;
+import org.jooq.PipelineResult;
 import org.jooq.Query;
 import org.jooq.Record;
 import org.jooq.Record1;
 import org.jooq.Record2;
+import org.jooq.RecordContext;
+import org.jooq.RecordListener;
+import org.jooq.RecordListenerProvider;
 import org.jooq.Result;
+import org.jooq.ResultQuery;
+import org.jooq.Routine;
 import org.jooq.SQLDialect;
+import org.jooq.conf.InternStyle;
+import org.jooq.conf.RenderNameStyle;
+import org.jooq.conf.Settings;
+import org.jooq.conf.StatementType;
 import org.jooq.exception.DataAccessException;
+import org.jooq.impl.AbstractRoutine;
 import org.jooq.impl.DSL;
+import org.jooq.impl.DefaultConfiguration;
+import org.jooq.impl.DefaultConnectionProvider;
+import org.jooq.impl.DefaultExecuteListener;
+import org.jooq.impl.DefaultExecuteListenerProvider;
+import org.jooq.impl.DefaultRecordListener;
+import org.jooq.impl.SQLDataType;
 import org.jooq.test.data.Table1;
 import org.jooq.test.data.Table1Record;
 import org.jooq.tools.jdbc.MockConnection;
@@ -72,6 +115,7 @@ import org.jooq.tools.jdbc.MockDataProvider;
 import org.jooq.tools.jdbc.MockExecuteContext;
 import org.jooq.tools.jdbc.MockFileDatabase;
 import org.jooq.tools.jdbc.MockResult;
+import org.jooq.tools.jdbc.MockResultSet;
 
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -144,6 +188,18 @@ public class MockTest extends AbstractTest {
         }
     }
 
+    @Test
+    public void testRepeatedPlainSQLFields() {
+        DSLContext e = DSL.using(new MockConnection(new SingleResult()), SQLDialect.H2);
+        Result<Record> result1 = e.fetch("select ?, ? from dual", 1, 2);
+        Result<Record> result2 = e.fetch("select ?, ? from dual", 1, 2);
+
+        assertEquals(3, result2.fields().length);
+        for (int i = 0; i < 3; i++) {
+            assertSame(result1.field(i), result2.field(i));
+        }
+    }
+
     @Test
     public void testDoubleResult() {
         DSLContext e = DSL.using(new MockConnection(new DoubleResult()), SQLDialect.H2);
@@ -185,6 +241,683 @@ public class MockTest extends AbstractTest {
         }
     }
 
+    @Test
+    public void testRecordListenersPerCursor() {
+        final int[] provided = new int[1];
+        final int[] loaded = new int[2];
+
+        Configuration configuration = new DefaultConfiguration();
+        configuration.set(new DefaultConnectionProvider(new MockConnection(new DoubleResult())));
+        configuration.set(SQLDialect.H2);
+        configuration.set(new RecordListenerProvider() {
+
+            
+            public RecordListener provide() {
+                provided[0]++;
+
+                return new DefaultRecordListener() {
+                    
+                    public void loadStart(RecordContext ctx) {
+                        loaded[0]++;
+                    }
+
+                    
+                    public void loadEnd(RecordContext ctx) {
+                        loaded[1]++;
+                    }
+                };
+            }
+        });
+
+        List<Result<Record>> result = DSL.using(configuration).fetchMany("select ?, ? from dual", 1, 2);
+
+        assertEquals(2, result.size());
+        assertEquals(2, provided[0]);
+        assertEquals(3, loaded[0]);
+        assertEquals(3, loaded[1]);
+    }
+
+    @Test
+    public void testPrefetchingCursor() {
+        DSLContext e = DSL.using(new MockConnection(new Rows(100)), SQLDialect.H2);
+
+        Cursor<Record1<Integer>> cursor = e.select(FIELD_ID1).from(TABLE1).fetchLazy().prefetch(8);
+        int i = 0;
+        for (Record1<Integer> record : cursor) {
+            assertEquals(i++, (int) record.value1());
+        }
+
+        assertEquals(100, i);
+        assertTrue(cursor.isClosed());
+
+        // Closing the cursor stops the prefetching thread
+        cursor = e.select(FIELD_ID1).from(TABLE1).fetchLazy().prefetch(1);
+        assertEquals(0, (int) cursor.fetchOne().value1());
+        cursor.close();
+
+        assertTrue(cursor.isClosed());
+        assertNull(cursor.fetchOne());
+
+        try {
+            cursor.prefetch(1);
+            fail();
+        }
+        catch (IllegalStateException expected) {}
+    }
+
+    @Test
+    public void testPrefetchingCursorRelease() {
+        final List<Thread> threads = new ArrayList<Thread>();
+        final Connection connection = new MockConnection(new Rows(100));
+
+        Configuration configuration = new DefaultConfiguration();
+        configuration.set(SQLDialect.H2);
+        configuration.set(new ConnectionProvider() {
+            
+            public Connection acquire() {
+                return connection;
+            }
+
+            
+            public void release(Connection c) {
+                threads.add(Thread.currentThread());
+            }
+        });
+        configuration.set(new DefaultExecuteListenerProvider(new DefaultExecuteListener() {
+            
+            public void fetchEnd(ExecuteContext ctx) {
+                threads.add(Thread.currentThread());
+            }
+
+            
+            public void end(ExecuteContext ctx) {
+                threads.add(Thread.currentThread());
+            }
+        }));
+
+        // Resources are released by the consuming thread, after the last record
+        Cursor<Record1<Integer>> cursor = DSL.using(configuration).select(FIELD_ID1).from(TABLE1).fetchLazy().prefetch(200);
+        assertEquals(100, cursor.fetch().size());
+        assertTrue(cursor.isClosed());
+        assertEquals(asList(Thread.currentThread(), Thread.currentThread(), Thread.currentThread()), threads);
+
+        // ... or when closing the cursor
+        threads.clear();
+        cursor = DSL.using(configuration).select(FIELD_ID1).from(TABLE1).fetchLazy().prefetch(2);
+        assertEquals(0, (int) cursor.fetchOne().value1());
+        cursor.close();
+        assertEquals(asList(Thread.currentThread(), Thread.currentThread(), Thread.currentThread()), threads);
+    }
+
+    @Test
+    public void testPrefetchingCursorException() {
+        Configuration configuration = new DefaultConfiguration();
+        configuration.set(new DefaultConnectionProvider(new MockConnection(new Rows(10))));
+        configuration.set(SQLDialect.H2);
+        configuration.set(new RecordListenerProvider() {
+
+            
+            public RecordListener provide() {
+                return new DefaultRecordListener() {
+                    
+                    public void loadEnd(RecordContext ctx) {
+                        if (ctx.record().getValue(0).equals(3)) {
+                            throw new DataAccessException("Expected");
+                        }
+                    }
+                };
+            }
+        });
+
+        Cursor<Record1<Integer>> cursor = DSL.using(configuration).select(FIELD_ID1).from(TABLE1).fetchLazy().prefetch(2);
+        assertEquals(3, cursor.fetch(3).size());
+
+        try {
+            cursor.fetchOne();
+            fail();
+        }
+        catch (DataAccessException expected) {
+            assertEquals("Expected", expected.getMessage());
+        }
+
+        cursor.close();
+        assertTrue(cursor.isClosed());
+    }
+
+    @Test
+    public void testFetchSize() {
+        final int[] fetchSize = new int[1];
+
+        Configuration configuration = new DefaultConfiguration();
+        configuration.set(new DefaultConnectionProvider(new MockConnection(new Rows(100))));
+        configuration.set(SQLDialect.H2);
+        configuration.set(new Settings().withFetchSize(50));
+        configuration.set(new DefaultExecuteListenerProvider(new DefaultExecuteListener() {
+            
+            public void executeStart(ExecuteContext ctx) {
+                try {
+                    fetchSize[0] = ctx.statement().getFetchSize();
+                }
+                catch (SQLException e) {
+                    throw new DataAccessException("Unexpected", e);
+                }
+            }
+        }));
+
+        DSLContext e = DSL.using(configuration);
+        e.select(FIELD_ID1).from(TABLE1).where(FIELD_ID1.eq(4711)).fetch();
+        assertEquals(50, fetchSize[0]);
+
+        e.select(FIELD_ID1).from(TABLE1).where(FIELD_ID1.eq(4711)).fetchLazy(7).close();
+        assertEquals(7, fetchSize[0]);
+
+        // The adaptive fetch size fetches the observed rows in one round trip
+        e = DSL.using(configuration.derive(new Settings().withFetchSize(50).withFetchSizeAdaptive(true)));
+        e.select(FIELD_ID1).from(TABLE1).where(FIELD_ID1.eq(inline(4712))).fetch();
+        assertEquals(50, fetchSize[0]);
+
+        e.select(FIELD_ID1).from(TABLE1).where(FIELD_ID1.eq(inline(4712))).fetch();
+        assertEquals(101, fetchSize[0]);
+
+        e.select(FIELD_ID1).from(TABLE1).where(FIELD_ID1.eq(inline(4712))).fetchLazy(7).close();
+        assertEquals(7, fetchSize[0]);
+    }
+
+    @Test
+    public void testIntoResultSet() throws Exception {
+        DSLContext e = DSL.using(SQLDialect.H2);
+        Result<Table1Record> result = e.newResult(TABLE1);
+
+        for (int i = 1; i <= 3; i++) {
+            Table1Record record = e.newRecord(TABLE1);
+            record.setValue(FIELD_ID1, i);
+            record.setValue(FIELD_NAME1, i == 2 ? null : "X" + i);
+            result.add(record);
+        }
+
+        ResultSet rs = result.intoResultSet();
+        assertSame(rs.getMetaData(), rs.getMetaData());
+        assertEquals(3, rs.getMetaData().getColumnCount());
+        assertEquals(2, rs.findColumn("NAME1"));
+
+        assertTrue(rs.next());
+        assertEquals(1, rs.getInt(1));
+        assertEquals(1L, rs.getLong("ID1"));
+        assertEquals("1", rs.getString("ID1"));
+        assertEquals("X1", rs.getString(2));
+
+        assertTrue(rs.next());
+        assertEquals(null, rs.getString("NAME1"));
+        assertTrue(rs.wasNull());
+
+        // Scrolling
+        assertTrue(rs.absolute(-1));
+        assertEquals(3, rs.getInt(1));
+        assertTrue(rs.relative(-2));
+        assertEquals(1, rs.getInt(1));
+        assertFalse(rs.relative(Integer.MAX_VALUE));
+        assertTrue(rs.isAfterLast());
+        assertFalse(rs.relative(Integer.MIN_VALUE));
+        assertTrue(rs.isBeforeFirst());
+
+        try {
+            rs.getInt("UNKNOWN");
+            fail();
+        }
+        catch (SQLException expected) {}
+    }
+
+    class Rows implements MockDataProvider {
+
+        private final int rows;
+
+        Rows(int rows) {
+            this.rows = rows;
+        }
+
+        
+        public MockResult[] execute(MockExecuteContext ctx) throws SQLException {
+            DSLContext e = DSL.using(SQLDialect.H2);
+            Result<Table1Record> result = e.newResult(TABLE1);
+
+            for (int i = 0; i < rows; i++) {
+                Table1Record record = e.newRecord(TABLE1);
+                record.setValue(FIELD_ID1, i);
+                result.add(record);
+            }
+
+            return new MockResult[] { new MockResult(0, result) };
+        }
+    }
+
+    @Test
+    public void testInternDeduplicate() {
+        DSLContext e = DSL.using(new MockConnection(new Names(10, 2)), SQLDialect.H2,
+            new Settings().withInternStyle(InternStyle.DEDUPLICATE));
+
+        Result<Table1Record> result = e.selectFrom(TABLE1).intern(FIELD_NAME1).fetch();
+        assertEquals("name0", result.get(0).getValue(FIELD_NAME1));
+        assertEquals("name0", result.get(2).getValue(FIELD_NAME1));
+        assertSame(result.get(0).getValue(FIELD_NAME1), result.get(2).getValue(FIELD_NAME1));
+
+        // Values are not deduplicated unless requested
+        result = e.selectFrom(TABLE1).fetch();
+        assertEquals(result.get(0).getValue(FIELD_NAME1), result.get(2).getValue(FIELD_NAME1));
+        assertNotSame(result.get(0).getValue(FIELD_NAME1), result.get(2).getValue(FIELD_NAME1));
+    }
+
+    @Test
+    public void testInternAutomatic() {
+        Settings settings = new Settings().withInternStyle(InternStyle.AUTOMATIC);
+
+        // Low cardinality columns are deduplicated
+        DSLContext e = DSL.using(new MockConnection(new Names(600, 2)), SQLDialect.H2, settings);
+        Result<Table1Record> result = e.selectFrom(TABLE1).fetch();
+        assertSame(result.get(0).getValue(FIELD_NAME1), result.get(300).getValue(FIELD_NAME1));
+
+        // High cardinality columns are no longer deduplicated after sampling
+        e = DSL.using(new MockConnection(new Names(600, 300)), SQLDialect.H2, settings);
+        result = e.selectFrom(TABLE1).fetch();
+        assertEquals(result.get(0).getValue(FIELD_NAME1), result.get(300).getValue(FIELD_NAME1));
+        assertNotSame(result.get(0).getValue(FIELD_NAME1), result.get(300).getValue(FIELD_NAME1));
+    }
+
+    class Names implements MockDataProvider {
+
+        private final int rows;
+        private final int distinct;
+
+        Names(int rows, int distinct) {
+            this.rows = rows;
+            this.distinct = distinct;
+        }
+
+        
+        public MockResult[] execute(MockExecuteContext ctx) throws SQLException {
+            DSLContext e = DSL.using(SQLDialect.H2);
+            Result<Table1Record> result = e.newResult(TABLE1);
+
+            for (int i = 0; i < rows; i++) {
+                Table1Record record = e.newRecord(TABLE1);
+                record.setValue(FIELD_ID1, i);
+
+                // Create a new String instance for every row
+                record.setValue(FIELD_NAME1, new String("name" + (i % distinct)));
+                result.add(record);
+            }
+
+            return new MockResult[] { new MockResult(0, result) };
+        }
+    }
+
+    @Test
+    public void testCompiledQuery() {
+        DSLContext e = DSL.using(new MockConnection(new ById()), SQLDialect.H2);
+
+        CompiledQuery<Table1Record> query = e.compile(
+            e.selectFrom(TABLE1)
+             .where(FIELD_ID1.equal(0))
+             .and(FIELD_ID1.notEqual(inline(-1)))
+             .and(FIELD_NAME1.equal(DSL.param("name", "x"))));
+
+        assertEquals("select \"TABLE1\".\"ID1\", \"TABLE1\".\"NAME1\", \"TABLE1\".\"DATE1\" from \"TABLE1\" "
+                   + "where (\"TABLE1\".\"ID1\" = cast(? as int) and \"TABLE1\".\"ID1\" <> -1 "
+                   + "and \"TABLE1\".\"NAME1\" = cast(? as varchar))", query.getSQL());
+        assertEquals(asList("1", "name"), query.getParamNames());
+        assertEquals(asList((Object) 0, "x"), query.getBindValues());
+
+        Table1Record record = query.fetchOne();
+        assertEquals(0, (int) record.getValue(FIELD_ID1));
+        assertEquals("x", record.getValue(FIELD_NAME1));
+
+        // Bind values are converted to the parameter type
+        CompiledQuery<Table1Record> rebound = query.bind(1, "42").bind("name", "y");
+        record = rebound.fetchOne();
+        assertEquals(42, (int) record.getValue(FIELD_ID1));
+        assertEquals("y", record.getValue(FIELD_NAME1));
+
+        record = query.bindValues(7, "z").fetchOne();
+        assertEquals(7, (int) record.getValue(FIELD_ID1));
+        assertEquals("z", record.getValue(FIELD_NAME1));
+
+        // Rebinding doesn't modify the compiled query
+        assertEquals(asList((Object) 0, "x"), query.getBindValues());
+        assertEquals(asList((Object) 42, "y"), rebound.getBindValues());
+
+        try {
+            query.bind(3, 1);
+            fail();
+        }
+        catch (IllegalArgumentException expected) {}
+
+        try {
+            query.bind("x", 1);
+            fail();
+        }
+        catch (IllegalArgumentException expected) {}
+    }
+
+    @Test
+    public void testCompiledQueryStaticStatement() {
+        final List<String> sql = new ArrayList<String>();
+        final List<List<Object>> bindings = new ArrayList<List<Object>>();
+        DSLContext e = DSL.using(new MockConnection(new MockDataProvider() {
+
+            
+            public MockResult[] execute(MockExecuteContext ctx) throws SQLException {
+                sql.add(ctx.sql());
+                bindings.add(asList(ctx.bindings()));
+                return new MockResult[] { new MockResult(0, DSL.using(SQLDialect.H2).newResult(TABLE1)) };
+            }
+        }), SQLDialect.H2, new Settings().withStatementType(StatementType.STATIC_STATEMENT));
+
+        // Compiled queries are prepared regardless of the statement type
+        CompiledQuery<Record1<Integer>> query = e.compile(
+            e.select(FIELD_ID1.as("a?{0}'"))
+             .from(TABLE1)
+             .where(FIELD_ID1.equal(1))
+             .and(FIELD_NAME1.equal("it's {1} ?")));
+
+        query.fetch();
+        query.bindValues(2, "x").fetch();
+
+        String expected = "select \"TABLE1\".\"ID1\" \"a?{0}'\" from \"TABLE1\" where (\"TABLE1\".\"ID1\" = cast(? as int) and \"TABLE1\".\"NAME1\" = cast(? as varchar))";
+        assertEquals(asList(expected, expected), sql);
+        assertEquals(asList(asList((Object) 1, "it's {1} ?"), asList((Object) 2, "x")), bindings);
+    }
+
+    @Test
+    public void testCompiledQueryTooManyBindValues() {
+        DSLContext e = DSL.using(SQLDialect.SQLITE);
+        Integer[] ids = new Integer[1000];
+        Arrays.fill(ids, 1);
+
+        try {
+            e.compile(e.selectFrom(TABLE1).where(FIELD_ID1.in(ids)));
+            fail();
+        }
+        catch (IllegalArgumentException expected) {}
+
+        assertEquals(999, e.compile(e.selectFrom(TABLE1).where(FIELD_ID1.in(Arrays.copyOf(ids, 999)))).getBindValues().size());
+    }
+
+    @Test
+    public void testMetaCache() {
+        MetaProvider p1 = new MetaProvider("CATALOG1");
+        MetaProvider p2 = new MetaProvider("CATALOG2");
+
+        Configuration c1 = new DefaultConfiguration()
+            .set(SQLDialect.H2)
+            .set(new Settings().withMetaCacheTTL(60000))
+            .set(p1);
+
+        // Derived configurations copy data(), but not the cached Meta
+        Meta m1 = DSL.using(c1).meta();
+        Configuration c2 = c1.derive(p2);
+        Meta m2 = DSL.using(c2).meta();
+
+        assertNotSame(m1, m2);
+        assertSame(m1, DSL.using(c1).meta());
+        assertSame(m2, DSL.using(c2).meta());
+        assertEquals("CATALOG1", m1.getCatalogs().get(0).getName());
+        assertEquals("CATALOG2", m2.getCatalogs().get(0).getName());
+        assertEquals("CATALOG1", DSL.using(c1).meta().getCatalogs().get(0).getName());
+        assertEquals(1, p1.acquired);
+        assertEquals(1, p2.acquired);
+
+        // Replacing the connection provider discards the cached Meta
+        c1.set(p2);
+        assertNotSame(m1, DSL.using(c1).meta());
+        assertEquals("CATALOG2", DSL.using(c1).meta().getCatalogs().get(0).getName());
+        assertEquals(1, p1.acquired);
+        assertEquals(2, p2.acquired);
+
+        // DatabaseMetaData is only accessed while a connection is acquired
+        assertEquals(p1.acquired, p1.released);
+        assertEquals(p2.acquired, p2.released);
+    }
+
+    class MetaProvider implements ConnectionProvider {
+        final String catalog;
+        int          acquired;
+        int          released;
+
+        MetaProvider(String catalog) {
+            this.catalog = catalog;
+        }
+
+        
+        public Connection acquire() {
+            acquired++;
+
+            return new MockConnection(null) {
+                
+                public DatabaseMetaData getMetaData() {
+                    return (DatabaseMetaData) Proxy.newProxyInstance(
+                        MockTest.class.getClassLoader(),
+                        new Class[] { DatabaseMetaData.class },
+                        new InvocationHandler() {
+                            
+                            public Object invoke(Object proxy, Method method, Object[] args) {
+                                assertTrue(acquired > released);
+                                assertEquals("getCatalogs", method.getName());
+
+                                return new MockResultSet(DSL.using(SQLDialect.H2).fetchFromCSV("TABLE_CAT\n" + catalog));
+                            }
+                        });
+                }
+            };
+        }
+
+        
+        public void release(Connection connection) {
+            released++;
+        }
+    }
+
+    class ById implements MockDataProvider {
+
+        
+        public MockResult[] execute(MockExecuteContext ctx) throws SQLException {
+            assertEquals(2, ctx.bindings().length);
+
+            DSLContext e = DSL.using(SQLDialect.H2);
+            Result<Table1Record> result = e.newResult(TABLE1);
+            Table1Record record = e.newRecord(TABLE1);
+            record.setValue(FIELD_ID1, (Integer) ctx.bindings()[0]);
+            record.setValue(FIELD_NAME1, (String) ctx.bindings()[1]);
+            result.add(record);
+
+            return new MockResult[] { new MockResult(1, result) };
+        }
+    }
+
+    @Test
+    public void testPipeline() {
+        DSLContext e = DSL.using(new MockConnection(new Pipelined()), SQLDialect.POSTGRES);
+
+        ResultQuery<Table1Record> q1 = e.selectFrom(TABLE1).where(FIELD_ID1.equal(1));
+        Query q2 = e.update(TABLE1).set(FIELD_NAME1, "x").where(FIELD_ID1.equal(2));
+        ResultQuery<Record1<Integer>> q3 = e.select(FIELD_ID1).from(TABLE1).where(FIELD_ID1.equal(3));
+
+        Pipeline pipeline = e.pipeline(q1, q2, q3);
+        assertEquals(3, pipeline.size());
+
+        PipelineResult result = pipeline.execute();
+        assertEquals(3, result.size());
+        assertEquals(1, result.get(q1).size());
+        assertEquals(1, (int) result.get(q1).get(0).getValue(FIELD_ID1));
+        assertEquals(3, result.rows(q2));
+        assertEquals(0, result.get(q3).size());
+        assertEquals(0, result.rows(q3));
+
+        try {
+            result.rows(e.selectOne());
+            fail();
+        }
+        catch (IllegalArgumentException expected) {}
+
+        // Dialects without multi-statement support execute queries one by one
+        e = DSL.using(new MockConnection(new Pipelined()), SQLDialect.H2);
+        q1 = e.selectFrom(TABLE1).where(FIELD_ID1.equal(1));
+        q2 = e.update(TABLE1).set(FIELD_NAME1, "x").where(FIELD_ID1.equal(2));
+
+        result = e.pipeline(q1, q2).execute();
+        assertEquals(1, result.get(q1).size());
+        assertEquals(3, result.rows(q2));
+    }
+
+    class Pipelined implements MockDataProvider {
+
+        
+        public MockResult[] execute(MockExecuteContext ctx) throws SQLException {
+            DSLContext e = DSL.using(SQLDialect.POSTGRES);
+            Result<Table1Record> r1 = e.newResult(TABLE1);
+            r1.add(e.newRecord(TABLE1));
+            r1.get(0).setValue(FIELD_ID1, 1);
+
+            String[] sql = ctx.sql().split(";\n");
+            MockResult[] result = new MockResult[sql.length];
+
+            for (int i = 0; i < sql.length; i++) {
+                if (sql[i].startsWith("update")) {
+                    result[i] = new MockResult(3, null);
+                }
+                else if (i == 2) {
+                    result[i] = new MockResult(0, e.newResult(TABLE1));
+                }
+                else {
+                    result[i] = new MockResult(1, r1);
+                }
+            }
+
+            if (sql.length == 3) {
+                assertEquals(asList((Object) 1, "x", 2, 3), asList(ctx.bindings()));
+            }
+
+            return result;
+        }
+    }
+
+    @Test
+    public void testExport() throws Exception {
+        DSLContext e = DSL.using(new MockConnection(new Exported()), SQLDialect.H2);
+        ResultQuery<Table1Record> q = e.selectFrom(TABLE1);
+        Result<Table1Record> result = q.fetch();
+
+        StringWriter csv = new StringWriter();
+        q.exportCSV(csv);
+        assertEquals(result.formatCSV(), csv.toString());
+
+        csv = new StringWriter();
+        q.exportCSV(csv, ';', "{null}");
+        assertEquals(result.formatCSV(';', "{null}"), csv.toString());
+
+        StringWriter json = new StringWriter();
+        q.exportJSON(json);
+        assertEquals(result.formatJSON(), json.toString());
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        q.exportJSON(bytes);
+        assertEquals(result.formatJSON(), bytes.toString("UTF-8"));
+
+        // Records that have already been fetched from a cursor are skipped
+        Cursor<Table1Record> cursor = q.fetchLazy();
+        assertTrue(cursor.hasNext());
+        assertEquals(1, (int) cursor.fetchOne().getValue(FIELD_ID1));
+
+        csv = new StringWriter();
+        cursor.exportCSV(csv);
+        assertEquals(
+            "ID1,NAME1,DATE1\n" +
+            "2,\"a, \"\"b\"\"\",\"\"\n" +
+            "3,\u00e9,\"\"\n", csv.toString());
+        assertTrue(cursor.isClosed());
+    }
+
+    class Exported implements MockDataProvider {
+
+        
+        public MockResult[] execute(MockExecuteContext ctx) throws SQLException {
+            DSLContext e = DSL.using(SQLDialect.H2);
+            Result<Table1Record> result = e.newResult(TABLE1);
+
+            result.add(e.newRecord(TABLE1));
+            result.get(0).setValue(FIELD_ID1, 1);
+            result.get(0).setValue(FIELD_NAME1, "x");
+            result.add(e.newRecord(TABLE1));
+            result.get(1).setValue(FIELD_ID1, 2);
+            result.get(1).setValue(FIELD_NAME1, "a, \"b\"");
+            result.add(e.newRecord(TABLE1));
+            result.get(2).setValue(FIELD_ID1, 3);
+            result.get(2).setValue(FIELD_NAME1, "\u00e9");
+
+            return new MockResult[] { new MockResult(3, result) };
+        }
+    }
+
+    @Test
+    public void testLoader() throws Exception {
+        DSLContext e = DSL.using(SQLDialect.H2);
+        Result<Table1Record> result = e.newResult(TABLE1);
+
+        result.add(e.newRecord(TABLE1));
+        result.get(0).setValue(FIELD_ID1, 1);
+        result.get(0).setValue(FIELD_NAME1, "a <&> \"b\"");
+        result.add(e.newRecord(TABLE1));
+        result.get(1).setValue(FIELD_ID1, 2);
+
+        // XML content produced by formatXML() can be loaded again
+        Loaded loaded = new Loaded();
+        Loader<Table1Record> loader = DSL.using(new MockConnection(loaded), SQLDialect.H2)
+            .loadInto(TABLE1)
+            .loadXML(result.formatXML())
+            .execute();
+
+        assertEquals(2, loader.processed());
+        assertEquals(2, loader.stored());
+        assertEquals(0, loader.errors().size());
+        assertEquals(asList(
+            asList((Object) 1, "a <&> \"b\"", null),
+            asList((Object) 2, null, null)), loaded.bindings);
+
+        // Explicit fields are matched by position
+        loaded = new Loaded();
+        DSL.using(new MockConnection(loaded), SQLDialect.H2)
+            .loadInto(TABLE1)
+            .loadXML(result.formatXML())
+            .fields(FIELD_ID1, null, null)
+            .execute();
+
+        assertEquals(asList(asList((Object) 1), asList((Object) 2)), loaded.bindings);
+
+        // CSV content produced by formatCSV() goes through the same pipeline
+        loaded = new Loaded();
+        loader = DSL.using(new MockConnection(loaded), SQLDialect.H2)
+            .loadInto(TABLE1)
+            .loadCSV(result.formatCSV())
+            .fields(FIELD_ID1, FIELD_NAME1, FIELD_DATE1)
+            .nullString("")
+            .execute();
+
+        assertEquals(2, loader.stored());
+        assertEquals(asList(
+            asList((Object) 1, "a <&> \"b\"", null),
+            asList((Object) 2, null, null)), loaded.bindings);
+    }
+
+    class Loaded implements MockDataProvider {
+        List<List<Object>> bindings = new ArrayList<List<Object>>();
+
+        
+        public MockResult[] execute(MockExecuteContext ctx) throws SQLException {
+            assertTrue(ctx.sql().startsWith("insert into \"TABLE1\""));
+            bindings.add(asList(ctx.bindings()));
+
+            return new MockResult[] { new MockResult(1, null) };
+        }
+    }
+
     abstract class AbstractResult implements MockDataProvider {
         public void execute0(MockExecuteContext ctx) {
             assertEquals(1, ctx.batchSQL().length);
@@ -197,6 +930,44 @@ public class MockTest extends AbstractTest {
         }
     }
 
+    @Test
+    public void testRepeatedExecution() {
+        Recording recording = new Recording();
+
+        DSLContext lower = DSL.using(new MockConnection(recording), SQLDialect.MYSQL, new Settings().withRenderNameStyle(RenderNameStyle.LOWER));
+        DSLContext upper = DSL.using(new MockConnection(recording), SQLDialect.MYSQL, new Settings().withRenderNameStyle(RenderNameStyle.UPPER));
+
+        Query q1 = lower.update(TABLE1).set(FIELD_NAME1, "x").where(FIELD_ID1.eq(1));
+        Query q2 = upper.delete(TABLE2).where(FIELD_ID2.in(2, 3));
+
+        // Render and bind contexts may be reused between executions. Make sure
+        // that no state is leaked from one execution to the next
+        for (int i = 0; i < 3; i++) {
+            q1.execute();
+            assertEquals("update table1 set table1.name1 = ? where table1.id1 = ?", recording.sql);
+            assertEquals(asList("x", 1), recording.bindings);
+
+            q2.execute();
+            assertEquals("delete from TABLE2 where TABLE2.ID2 in (?, ?)", recording.sql);
+            assertEquals(asList(2, 3), recording.bindings);
+        }
+    }
+
+    class Recording implements MockDataProvider {
+        String       sql;
+        List<Object> bindings;
+
+        
+        public MockResult[] execute(MockExecuteContext ctx) throws SQLException {
+            sql = ctx.sql();
+            bindings = asList(ctx.bindings());
+
+            return new MockResult[] {
+                new MockResult(1, null)
+            };
+        }
+    }
+
     @Test
     public void testBatchSingle() {
         DSLContext e = DSL.using(new MockConnection(new BatchSingle()), SQLDialect.H2);
@@ -268,6 +1039,169 @@ public class MockTest extends AbstractTest {
         }
     }
 
+    @Test
+    public void testBatchCall() {
+        DSLContext e = DSL.using(new MockConnection(new BatchCall()), SQLDialect.POSTGRES);
+
+        int[] result = e.batchCall(new Procedure(1), new Procedure(2), new Procedure(3)).execute();
+
+        assertEquals(3, result.length);
+        assertEquals(1, result[0]);
+        assertEquals(2, result[1]);
+        assertEquals(3, result[2]);
+    }
+
+    class BatchCall implements MockDataProvider {
+
+        
+        public MockResult[] execute(MockExecuteContext ctx) throws SQLException {
+            assertEquals(1, ctx.batchSQL().length);
+            assertEquals("{ call \"P\"(?) }", ctx.sql());
+
+            assertEquals(3, ctx.batchBindings().length);
+            assertEquals(asList(1), asList(ctx.batchBindings()[0]));
+            assertEquals(asList(2), asList(ctx.batchBindings()[1]));
+            assertEquals(asList(3), asList(ctx.batchBindings()[2]));
+
+            return new MockResult[] {
+                new MockResult(1, null),
+                new MockResult(2, null),
+                new MockResult(3, null)
+            };
+        }
+    }
+
+    @Test
+    public void testBatchCallWithOutParameters() {
+        final List<Integer> calls = new ArrayList<Integer>();
+        final List<Routine<?>> routines = new ArrayList<Routine<?>>();
+
+        Configuration configuration = new DefaultConfiguration();
+        configuration.set(SQLDialect.POSTGRES);
+        configuration.set(new DefaultConnectionProvider(new MockConnection(null) {
+            
+            public CallableStatement prepareCall(String sql) {
+                assertEquals("{ call \"P_OUT\"(?, ?) }", sql);
+                return new OutStatement(calls).statement();
+            }
+        }));
+        configuration.set(new DefaultExecuteListenerProvider(new DefaultExecuteListener() {
+            
+            public void executeStart(ExecuteContext ctx) {
+                Routine<?> routine = ctx.routine();
+
+                // Each routine is attached while it is being executed
+                assertSame(ctx.configuration(), ((AbstractRoutine<?>) routine).configuration());
+                routines.add(routine);
+            }
+        }));
+
+        OutProcedure p1 = new OutProcedure(1);
+        OutProcedure p2 = new OutProcedure(2);
+        OutProcedure p3 = new OutProcedure(3);
+
+        int[] result = DSL.using(configuration).batchCall(p1, p2, p3).execute();
+
+        assertEquals(3, result.length);
+        assertEquals(asList(1, 2, 3), calls);
+        assertEquals(asList((Routine<?>) p1, p2, p3), routines);
+        assertEquals(10, (int) p1.getOut());
+        assertEquals(20, (int) p2.getOut());
+        assertEquals(30, (int) p3.getOut());
+
+        // Routines are detached again after execution
+        assertNull(p1.configuration());
+        assertNull(p3.configuration());
+    }
+
+    /**
+     * A {@link CallableStatement} returning ten times its IN value as OUT value
+     */
+    static class OutStatement implements InvocationHandler {
+        final List<Integer> calls;
+        Integer             in;
+
+        OutStatement(List<Integer> calls) {
+            this.calls = calls;
+        }
+
+        CallableStatement statement() {
+            return (CallableStatement) Proxy.newProxyInstance(
+                MockTest.class.getClassLoader(),
+                new Class[] { CallableStatement.class },
+                this);
+        }
+
+        
+        public Object invoke(Object proxy, Method method, Object[] args) {
+            String name = method.getName();
+
+            if (name.equals("setInt")) {
+                assertEquals(1, args[0]);
+                in = (Integer) args[1];
+            }
+            else if (name.equals("registerOutParameter")) {
+                assertEquals(2, args[0]);
+            }
+            else if (name.equals("execute")) {
+                calls.add(in);
+                return false;
+            }
+            else if (name.equals("getInt")) {
+                assertEquals(2, args[0]);
+                return in * 10;
+            }
+            else if (method.getReturnType() == boolean.class) {
+                return false;
+            }
+            else if (method.getReturnType() == int.class) {
+                return 0;
+            }
+
+            return null;
+        }
+    }
+
+    static class OutProcedure extends AbstractRoutine<Void> {
+
+        /**
+         * Generated UID
+         */
+        private static final long       serialVersionUID = 3012757146370316338L;
+
+        static final Parameter<Integer> IN               = createParameter("IN", SQLDataType.INTEGER);
+        static final Parameter<Integer> OUT              = createParameter("OUT", SQLDataType.INTEGER);
+
+        OutProcedure(Integer value) {
+            super("P_OUT", null);
+
+            addInParameter(IN);
+            addOutParameter(OUT);
+            setValue(IN, value);
+        }
+
+        Integer getOut() {
+            return getValue(OUT);
+        }
+    }
+
+    static class Procedure extends AbstractRoutine<Void> {
+
+        /**
+         * Generated UID
+         */
+        private static final long       serialVersionUID = -2352738573470009424L;
+
+        static final Parameter<Integer> IN               = createParameter("IN", SQLDataType.INTEGER);
+
+        Procedure(Integer value) {
+            super("P", null);
+
+            addInParameter(IN);
+            setValue(IN, value);
+        }
+    }
+
     @Test
     public void testException() {
         DSLContext e = DSL.using(new MockConnection(new Exceptional()), SQLDialect.H2);
@@ -360,6 +1294,47 @@ public class MockTest extends AbstractTest {
         assertEquals(asList("X", "Y"), r.getValues(1));
     }
 
+    @Test
+    public void testFileDatabase_UPDATE_Normalised() throws Exception {
+        assertEquals(1, MOCK.execute("update \"TABLE1\"   set \"NAME1\" = 'Z'\nwhere \"ID1\" = 1"));
+        assertEquals(0, MOCK.execute("update \"TABLE1\" set \"NAME1\" = ? where \"ID1\" = ?", "Z", 2));
+    }
+
+    @Test
+    public void testFileDatabase_Batch() throws Exception {
+        int[] rows = MOCK.batch(
+            MOCK.query("update \"TABLE1\" set \"NAME1\" = 'Z' where \"ID1\" = 1"),
+            MOCK.query("update \"TABLE1\" set \"NAME1\" = 'Z' where \"ID1\" = 2")
+        ).execute();
+        assertEquals(asList(1, 0), asList(rows[0], rows[1]));
+
+        rows = MOCK.batch(MOCK.query("update \"TABLE1\" set \"NAME1\" = ? where \"ID1\" = ?", null, null))
+                   .bind("Z", 1)
+                   .bind("Z", 2)
+                   .execute();
+        assertEquals(asList(1, 0), asList(rows[0], rows[1]));
+    }
+
+    @Test
+    public void testFileDatabase_Patterns() throws Exception {
+        File file = new File(MockTest.class.getResource("/org/jooq/test/data/db.txt").toURI());
+        DSLContext exact = DSL.using(new MockConnection(new MockFileDatabase(file)), SQLDialect.POSTGRES);
+        DSLContext patterns = DSL.using(new MockConnection(new MockFileDatabase(file, "UTF-8", true)), SQLDialect.POSTGRES);
+
+        try {
+            exact.select(FIELD_ID1, FIELD_NAME1).from(TABLE1).where(FIELD_ID1.eq(1)).fetch();
+            fail();
+        }
+        catch (DataAccessException expected) {}
+
+        Result<Record2<Integer, String>> r = patterns.select(FIELD_ID1, FIELD_NAME1).from(TABLE1).where(FIELD_ID1.eq(1)).fetch();
+        assertEquals(1, r.size());
+        assertEquals(asList("X"), r.getValues(FIELD_NAME1));
+
+        // Exact matches take precedence over patterns
+        assertEquals(2, patterns.select(FIELD_ID1, FIELD_NAME1).from(TABLE1).fetch().size());
+    }
+
     @Test
     public void testFileDatabase_SELECT_COMPLEX_DATA() throws Exception {
         List<Result<Record>> results = MOCK.fetchMany("select complex_data");
@@ -46,6 +46,8 @@ import static org.jooq.conf.ParamType.INLINED;
 import static org.jooq.conf.ParamType.NAMED;
 import static org.jooq.conf.RenderKeywordStyle.LOWER;
 import static org.jooq.conf.RenderKeywordStyle.UPPER;
+import static org.jooq.conf.RenderNameStyle.AS_IS;
+import static org.jooq.conf.RenderNameStyle.QUOTED;
 import static org.jooq.conf.StatementType.STATIC_STATEMENT;
 import static org.jooq.impl.DSL.val;
 
@@ -54,6 +56,7 @@ import org.jooq.Field;
 import org.jooq.Keyword;
 import org.jooq.Query;
 import org.jooq.SQLDialect;
+import org.jooq.conf.RenderNameStyle;
 import org.jooq.conf.Settings;
 import org.jooq.impl.DSL;
 
@@ -152,4 +155,34 @@ public class RenderTest extends AbstractTest {
         assertEquals("abc Untouched xx Untouched abc", lower.render(f));
         assertEquals("ABC Untouched XX Untouched ABC", upper.render(f));
     }
+
+    @Test
+    public void testLiterals() {
+        Field<?> f1 = DSL.fieldByName("Abc");
+        Field<?> f2 = DSL.fieldByName("a b\"c`");
+        Field<?> f3 = DSL.fieldByName("_x1");
+
+        DSLContext quoted = DSL.using(SQLDialect.POSTGRES, new Settings().withRenderNameStyle(QUOTED));
+        DSLContext asIs = DSL.using(SQLDialect.POSTGRES, new Settings().withRenderNameStyle(AS_IS));
+        DSLContext upper = DSL.using(SQLDialect.MYSQL, new Settings().withRenderNameStyle(RenderNameStyle.UPPER));
+        DSLContext sqlite = DSL.using(SQLDialect.SQLITE, new Settings().withRenderNameStyle(QUOTED));
+
+        // Render twice to cover cached identifiers
+        for (int i = 0; i < 2; i++) {
+            assertEquals("\"Abc\"", quoted.render(f1));
+            assertEquals("\"a b\"\"c`\"", quoted.render(f2));
+            assertEquals("\"_x1\"", quoted.render(f3));
+
+            assertEquals("Abc", asIs.render(f1));
+            assertEquals("\"a b\"\"c`\"", asIs.render(f2));
+            assertEquals("\"_x1\"", asIs.render(f3));
+
+            assertEquals("ABC", upper.render(f1));
+            assertEquals("`A B\"C```", upper.render(f2));
+            assertEquals("`_X1`", upper.render(f3));
+
+            assertEquals("Abc", sqlite.render(f1));
+            assertEquals("\"select\"", sqlite.render(DSL.fieldByName("select")));
+        }
+    }
 }
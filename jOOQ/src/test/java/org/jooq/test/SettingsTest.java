@@ -43,6 +43,8 @@ package org.jooq.test;
 import static org.jooq.test.data.Table1.TABLE1;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import org.jooq.DSLContext;
@@ -114,6 +116,58 @@ public class SettingsTest {
         assertEquals("\"TABLEX\"", create2.render(TABLE1));
     }
 
+    @Test
+    public void testRenderMappingPerTenant() {
+        Settings tenant1 = new Settings().withRenderMapping(mapping());
+        Settings tenant2 = new Settings().withRenderMapping(new RenderMapping().withSchemata(
+            new MappedSchema().withInput("").withTables(
+                new MappedTable().withInput("TABLE1").withOutput("TABLEY")
+            )
+        ));
+
+        DSLContext create = DSL.using(SQLDialect.POSTGRES);
+        DSLContext create1a = DSL.using(create.configuration().derive(tenant1));
+        DSLContext create1b = DSL.using(create.configuration().derive(tenant1));
+        DSLContext create2 = DSL.using(create.configuration().derive(tenant2));
+
+        assertEquals("\"TABLEX\"", create1a.render(TABLE1));
+        assertEquals("\"TABLEX\"", create1b.render(TABLE1));
+        assertEquals("\"TABLEY\"", create2.render(TABLE1));
+        assertEquals("\"TABLE1\"", create.render(TABLE1));
+
+        // Configurations derived from the same tenant Settings share their substitutes
+        assertSame(create1a.map(TABLE1), create1b.map(TABLE1));
+        assertNotSame(create1a.map(TABLE1), create2.map(TABLE1));
+    }
+
+    @Test
+    public void testRenderMappingModification() {
+        Settings tenant = new Settings().withRenderMapping(mapping());
+        Table<Record> table = new TableImpl<Record>("TABLE1", new SchemaImpl("S"));
+
+        DSLContext create = DSL.using(SQLDialect.POSTGRES);
+        DSLContext create1 = DSL.using(create.configuration().derive(tenant));
+        DSLContext create2 = DSL.using(create.configuration().derive(tenant));
+
+        assertEquals("\"S\".\"TABLE1\"", create1.render(table));
+        assertEquals("\"S\".\"TABLE1\"", create2.render(table));
+
+        // Modifications through one configuration's SchemaMapping are visible
+        // to all configurations sharing the RenderMapping
+        create2.configuration().schemaMapping().add("S", "T");
+        assertEquals("\"T\".\"TABLE1\"", create1.render(table));
+        assertEquals("\"T\".\"TABLE1\"", create2.render(table));
+    }
+
+    @Test
+    public void testMetaCacheTTL() {
+        DSLContext create = DSL.using(SQLDialect.H2);
+        DSLContext cached = DSL.using(SQLDialect.H2, new Settings().withMetaCacheTTL(60000));
+
+        assertNotSame(create.meta(), create.meta());
+        assertSame(cached.meta(), cached.meta());
+    }
+
     private RenderMapping mapping() {
         return new RenderMapping().withSchemata(
                    new MappedSchema().withInput("").withTables(